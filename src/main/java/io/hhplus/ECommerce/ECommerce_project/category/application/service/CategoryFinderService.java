@@ -7,7 +7,11 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +27,19 @@ public class CategoryFinderService {
                 .orElseThrow(() -> new CategoryException(ErrorCode.CATEGORY_NOT_FOUND));
     }
 
+    /**
+     * 활성 상태 카테고리 일괄 조회 (쿼리 1회)
+     *
+     * @return categoryId → 카테고리 (삭제된 카테고리는 포함되지 않음)
+     */
+    public Map<Long, Category> getActiveCategories(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return categoryRepository.findAllByIdInAndDeletedAtIsNull(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
     /**
      * 활성 상태 카테고리 전체 조회
      */
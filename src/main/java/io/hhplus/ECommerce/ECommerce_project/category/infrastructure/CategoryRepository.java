@@ -3,6 +3,7 @@ package io.hhplus.ECommerce.ECommerce_project.category.infrastructure;
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     // 삭제되지 않은 전체 카테고리 조회
     List<Category> findAllByDeletedAtIsNull();
 
+    // ID 목록으로 조회 (삭제되지 않은 카테고리만)
+    List<Category> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
     // 카테고리명 중복 체크(삭제되지 않은 것만)
     boolean existsByCategoryNameAndDeletedAtIsNull(String name);
 
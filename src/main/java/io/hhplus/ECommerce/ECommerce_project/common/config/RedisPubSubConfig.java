@@ -0,0 +1,24 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정
+ *
+ * 노드 로컬 상태(품절 표시 등)를 여러 인스턴스 간에 무효화할 때 사용한다.
+ * - 구독자는 이 컨테이너에 직접 MessageListener를 등록한다
+ * - Pub/Sub는 전달을 보장하지 않으므로, 구독 측 로컬 상태에는 짧은 만료 시간을 함께 둔다
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
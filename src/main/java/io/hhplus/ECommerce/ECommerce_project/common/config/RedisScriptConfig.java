@@ -4,6 +4,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.script.RedisScript;
 
+import java.util.List;
+
 /**
  * Redis Lua Script 설정
  *
@@ -11,6 +13,10 @@ import org.springframework.data.redis.core.script.RedisScript;
  * 1. 완벽한 원자성 보장 (모든 연산이 하나의 트랜잭션처럼 실행)
  * 2. 네트워크 왕복 최소화 (여러 Redis 명령을 한 번에 실행)
  * 3. Race Condition 완전 방지
+ *
+ * 모든 스크립트는 이 클래스에 RedisScript 빈으로 등록하고, RedisScriptRegistry를 통해 실행한다.
+ * - 빈으로 한 번만 생성하므로 SHA1 계산과 스크립트 객체 생성이 호출마다 반복되지 않음
+ * - 등록된 스크립트는 애플리케이션 시작 시 SCRIPT LOAD로 미리 적재됨
  */
 @Configuration
 public class RedisScriptConfig {
@@ -61,4 +67,721 @@ public class RedisScriptConfig {
 
                 return RedisScript.of(script, Long.class);
     }
+
+    /**
+     * 레거시 쿠폰 발급 Sorted Set 이관 구간 (카운터 방식 스크립트 공통)
+     *
+     * 카운터 키가 없고 coupon:issue:{couponId} Sorted Set이 남아 있으면
+     * 발급자를 Set으로, 발급 수를 카운터로 옮기고 남은 TTL을 이어받은 뒤 Sorted Set을 삭제한다.
+     * (KEYS[1]: 카운터, KEYS[2]: 발급자 Set, KEYS[3]: 레거시 Sorted Set)
+     */
+    private static final String COUPON_LEGACY_MIGRATION_LUA = """
+            if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('EXISTS', KEYS[3]) == 1 then
+                local members = redis.call('ZRANGE', KEYS[3], 0, -1)
+                for i = 1, #members, 1000 do
+                    redis.call('SADD', KEYS[2], unpack(members, i, math.min(i + 999, #members)))
+                end
+                redis.call('SET', KEYS[1], #members)
+
+                local ttl = redis.call('PTTL', KEYS[3])
+                if ttl > 0 then
+                    redis.call('PEXPIRE', KEYS[1], ttl)
+                    if #members > 0 then
+                        redis.call('PEXPIRE', KEYS[2], ttl)
+                    end
+                end
+                redis.call('DEL', KEYS[3])
+            end
+            """;
+
+    /**
+     * 선착순 쿠폰 발급 Lua Script (카운터 방식, O(1))
+     *
+     * 발급에 성공한 사용자만 Set에 남기고, 발급 수는 카운터로 관리한다.
+     * - 수량 초과로 거절된 시도는 어떤 흔적도 남기지 않음
+     * - 메모리 사용량은 시도 수가 아닌 발급 수량에 비례
+     *
+     * KEYS[1]: coupon:issued:{couponId}:count
+     * KEYS[2]: coupon:issued:{couponId}:users
+     * KEYS[3]: coupon:issue:{couponId} (레거시 Sorted Set, 남아 있으면 이관)
+     * ARGV[1]: userId
+     * ARGV[2]: maxQuantity
+     * ARGV[3]: TTL (초)
+     *
+     * 반환값:
+     * - >= 0: 발급 성공 (발급 순번, 0부터 시작)
+     * - -1: 이미 발급받음 (중복)
+     * - -2: 수량 초과
+     */
+    @Bean(name = "couponCounterIssueScript")
+    public RedisScript<Long> couponCounterIssueScript() {
+        String script = COUPON_LEGACY_MIGRATION_LUA + """
+
+                if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                    return -1
+                end
+
+                local issued = tonumber(redis.call('GET', KEYS[1]) or '0')
+                if issued >= tonumber(ARGV[2]) then
+                    return -2
+                end
+
+                redis.call('SADD', KEYS[2], ARGV[1])
+                local sequence = redis.call('INCR', KEYS[1])
+
+                if redis.call('TTL', KEYS[1]) == -1 then
+                    redis.call('EXPIRE', KEYS[1], ARGV[3])
+                end
+                if redis.call('TTL', KEYS[2]) == -1 then
+                    redis.call('EXPIRE', KEYS[2], ARGV[3])
+                end
+
+                return sequence - 1
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 쿠폰 발급 취소 Lua Script (카운터 방식)
+     *
+     * KEYS[1]: coupon:issued:{couponId}:count
+     * KEYS[2]: coupon:issued:{couponId}:users
+     * KEYS[3]: coupon:issue:{couponId} (레거시 Sorted Set, 남아 있으면 이관)
+     * ARGV[1]: userId
+     *
+     * 반환값: 1 (취소됨), 0 (발급 내역 없음)
+     */
+    @Bean(name = "couponCounterCancelScript")
+    public RedisScript<Long> couponCounterCancelScript() {
+        String script = COUPON_LEGACY_MIGRATION_LUA + """
+
+                if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+                    redis.call('DECR', KEYS[1])
+                    return 1
+                end
+                return 0
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 레거시 쿠폰 발급 Sorted Set → 카운터 방식 이관 Lua Script
+     *
+     * KEYS[1]: coupon:issued:{couponId}:count
+     * KEYS[2]: coupon:issued:{couponId}:users
+     * KEYS[3]: coupon:issue:{couponId}
+     *
+     * 반환값: 이관 후 발급 수
+     */
+    @Bean(name = "couponIssueMigrateScript")
+    public RedisScript<Long> couponIssueMigrateScript() {
+        String script = COUPON_LEGACY_MIGRATION_LUA + """
+
+                return tonumber(redis.call('GET', KEYS[1]) or '0')
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 쿠폰 일괄 발급 Lua Script (Sorted Set 방식, 청크 단위)
+     *
+     * 청크의 사용자들을 한 번에 예약하고, 새로 발급된 사용자를 작업의 처리 중 목록에 함께 기록한다.
+     * (예약과 기록이 원자적이므로 DB 저장 전에 노드가 죽어도 재개 시 처리 중 목록으로 이어서 저장 가능)
+     *
+     * KEYS[1]: coupon:issue:{couponId}
+     * KEYS[2]: coupon:bulk:{jobId}:inflight (이번 청크에서 새로 발급된 사용자 List)
+     * ARGV[1]: maxQuantity
+     * ARGV[2]: timestamp
+     * ARGV[3]: TTL (초)
+     * ARGV[4..]: userId 목록
+     *
+     * 반환값: 새로 발급된 userId 목록 (중복 발급, 수량 초과는 제외)
+     */
+    @Bean(name = "couponBulkIssueScript")
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> couponBulkIssueScript() {
+        String script = """
+                local issued = {}
+                local count = redis.call('ZCARD', KEYS[1])
+                local maxQuantity = tonumber(ARGV[1])
+
+                for i = 4, #ARGV do
+                    if count >= maxQuantity then
+                        break
+                    end
+                    if redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[i]) == 1 then
+                        count = count + 1
+                        issued[#issued + 1] = ARGV[i]
+                    end
+                end
+
+                if #issued > 0 then
+                    if redis.call('TTL', KEYS[1]) == -1 then
+                        redis.call('EXPIRE', KEYS[1], ARGV[3])
+                    end
+                    redis.call('RPUSH', KEYS[2], unpack(issued))
+                end
+                return issued
+                """;
+
+        return RedisScript.of(script, List.class);
+    }
+
+    /**
+     * 쿠폰 일괄 발급 Lua Script (카운터 방식, 청크 단위)
+     *
+     * KEYS[1]: coupon:issued:{couponId}:count
+     * KEYS[2]: coupon:issued:{couponId}:users
+     * KEYS[3]: coupon:issue:{couponId} (레거시 Sorted Set, 남아 있으면 이관)
+     * KEYS[4]: coupon:bulk:{jobId}:inflight
+     * ARGV[1]: maxQuantity
+     * ARGV[2]: TTL (초)
+     * ARGV[3..]: userId 목록
+     *
+     * 반환값: 새로 발급된 userId 목록
+     */
+    @Bean(name = "couponCounterBulkIssueScript")
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> couponCounterBulkIssueScript() {
+        String script = COUPON_LEGACY_MIGRATION_LUA + """
+
+                local issued = {}
+                local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+                local maxQuantity = tonumber(ARGV[1])
+
+                for i = 3, #ARGV do
+                    if count >= maxQuantity then
+                        break
+                    end
+                    if redis.call('SADD', KEYS[2], ARGV[i]) == 1 then
+                        count = count + 1
+                        issued[#issued + 1] = ARGV[i]
+                    end
+                end
+
+                if #issued > 0 then
+                    redis.call('INCRBY', KEYS[1], #issued)
+                    if redis.call('TTL', KEYS[1]) == -1 then
+                        redis.call('EXPIRE', KEYS[1], ARGV[2])
+                    end
+                    if redis.call('TTL', KEYS[2]) == -1 then
+                        redis.call('EXPIRE', KEYS[2], ARGV[2])
+                    end
+                    redis.call('RPUSH', KEYS[4], unpack(issued))
+                end
+                return issued
+                """;
+
+        return RedisScript.of(script, List.class);
+    }
+
+    /**
+     * 인기상품 랭킹 점수 증가 Lua Script (일별 + 주간 + 시간 버킷 + 카테고리별, 여러 상품 일괄)
+     *
+     * 상품마다 키별 ZINCRBY + TTL 확인/설정을 각각 호출하던 것을 1회 호출로 처리한다.
+     * 전체/카테고리 랭킹을 한 스크립트로 반영하므로 일부 키만 반영된 채 실패하는 일이 없다 (재시도 시 중복 집계 방지).
+     *
+     * KEYS[1..G]: 전체 랭킹 키 (ranking:daily:{yyyyMMdd}, ranking:weekly:{year}-W{week}, ranking:hourly:{yyyyMMddHH})
+     * KEYS[G+1..]: 카테고리별 랭킹 키 쌍 (ranking:category:{categoryId}:daily:{yyyyMMdd}, ...:weekly:{year}-W{week})
+     * ARGV[1]: 전체 랭킹 키 수 (G)
+     * ARGV[2..#KEYS+1]: 각 키의 TTL (초, KEYS와 같은 순서)
+     * ARGV[#KEYS+2..]: productId, 증가 점수, 카테고리 키 쌍의 시작 인덱스(KEYS 기준, 카테고리가 없으면 0) 묶음
+     *
+     * 반환값: 반영한 상품 수
+     */
+    @Bean(name = "rankingIncrementScript")
+    public RedisScript<Long> rankingIncrementScript() {
+        String script = """
+                local globalKeyCount = tonumber(ARGV[1])
+                local keyCount = #KEYS
+                local first = keyCount + 2
+
+                for i = first, #ARGV, 3 do
+                    for k = 1, globalKeyCount do
+                        redis.call('ZINCRBY', KEYS[k], ARGV[i + 1], ARGV[i])
+                    end
+
+                    local categoryIndex = tonumber(ARGV[i + 2])
+                    if categoryIndex > 0 then
+                        redis.call('ZINCRBY', KEYS[categoryIndex], ARGV[i + 1], ARGV[i])
+                        redis.call('ZINCRBY', KEYS[categoryIndex + 1], ARGV[i + 1], ARGV[i])
+                    end
+                end
+
+                -- TTL이 없을 때만 설정 (이미 있으면 유지)
+                for k = 1, keyCount do
+                    if redis.call('TTL', KEYS[k]) == -1 then
+                        redis.call('EXPIRE', KEYS[k], ARGV[k + 1])
+                    end
+                end
+
+                return (#ARGV - keyCount - 1) / 3
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 쿠폰 발급 대기열 입장 Lua Script
+     *
+     * KEYS[1]: coupon:waiting:{couponId} (대기열 Sorted Set, score = 입장 순번)
+     * KEYS[2]: coupon:waiting:{couponId}:seq (입장 순번 카운터)
+     * KEYS[3]: coupon:waiting:{couponId}:user:{userId} (사용자별 토큰, 중복 입장 방지)
+     * KEYS[4]: coupon:waiting:active (대기열이 있는 쿠폰 ID Set)
+     * ARGV[1]: 새 토큰
+     * ARGV[2]: couponId
+     * ARGV[3]: userId
+     * ARGV[4]: 토큰 TTL (초)
+     * ARGV[5]: 토큰 키 prefix (coupon:waiting:token:)
+     *
+     * 반환값: 토큰 (이미 입장한 사용자는 기존 토큰)
+     */
+    @Bean(name = "couponWaitingEnqueueScript")
+    public RedisScript<String> couponWaitingEnqueueScript() {
+        String script = """
+                local existing = redis.call('GET', KEYS[3])
+                if existing then
+                    return existing
+                end
+
+                local sequence = redis.call('INCR', KEYS[2])
+                redis.call('ZADD', KEYS[1], sequence, ARGV[1])
+                redis.call('SET', KEYS[3], ARGV[1], 'EX', ARGV[4])
+
+                local tokenKey = ARGV[5] .. ARGV[1]
+                redis.call('HSET', tokenKey, 'userId', ARGV[3], 'couponId', ARGV[2], 'status', 'WAITING')
+                redis.call('EXPIRE', tokenKey, ARGV[4])
+
+                redis.call('SADD', KEYS[4], ARGV[2])
+                return ARGV[1]
+                """;
+
+        return RedisScript.of(script, String.class);
+    }
+
+    /**
+     * 쿠폰 발급 대기열 입장 허가 Lua Script (초당 허가 수 제한)
+     *
+     * KEYS[1]: coupon:waiting:{couponId}
+     * KEYS[2]: coupon:waiting:{couponId}:admitted:{epochSecond} (초 단위 허가 카운터)
+     * ARGV[1]: 초당 최대 허가 수
+     * ARGV[2]: 이번 호출에서 허가할 최대 수
+     * ARGV[3]: 토큰 키 prefix (coupon:waiting:token:)
+     *
+     * 반환값: 허가된 토큰 목록 (입장 순서대로)
+     */
+    @Bean(name = "couponWaitingAdmitScript")
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> couponWaitingAdmitScript() {
+        String script = """
+                local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+                local allowed = math.min(tonumber(ARGV[1]) - used, tonumber(ARGV[2]))
+                if allowed <= 0 then
+                    return {}
+                end
+
+                local popped = redis.call('ZPOPMIN', KEYS[1], allowed)
+                local tokens = {}
+                for i = 1, #popped, 2 do
+                    tokens[#tokens + 1] = popped[i]
+                    redis.call('HSET', ARGV[3] .. popped[i], 'status', 'ADMITTED')
+                end
+
+                if #tokens > 0 then
+                    redis.call('INCRBY', KEYS[2], #tokens)
+                    redis.call('EXPIRE', KEYS[2], 2)
+                end
+                return tokens
+                """;
+
+        return RedisScript.of(script, List.class);
+    }
+
+    /**
+     * 쿠폰 발급 대기열 비활성화 Lua Script (대기열이 비었을 때만 활성 목록에서 제거)
+     * - 비었는지 확인과 제거 사이에 입장(ZADD+SADD)이 끼어들어 새 토큰이 방치되지 않도록 원자적으로 처리
+     *
+     * KEYS[1]: coupon:waiting:{couponId}
+     * KEYS[2]: coupon:waiting:active
+     * ARGV[1]: couponId
+     *
+     * 반환값:
+     * - 1: 제거함
+     * - 0: 대기 토큰이 남아 있어 유지
+     */
+    @Bean(name = "couponWaitingDeactivateScript")
+    public RedisScript<Long> couponWaitingDeactivateScript() {
+        String script = """
+                if redis.call('ZCARD', KEYS[1]) == 0 then
+                    redis.call('SREM', KEYS[2], ARGV[1])
+                    return 1
+                end
+                return 0
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 단일 상품 재고 차감 Lua Script
+     *
+     * KEYS[1]: {stock}:product:{productId}
+     * ARGV[1]: 차감 수량
+     *
+     * 반환값:
+     * - >= 0: 차감 성공, 남은 재고 반환
+     * - -1: 재고 부족
+     */
+    @Bean(name = "stockDecreaseScript")
+    public RedisScript<Long> stockDecreaseScript() {
+        String script = """
+                local key = KEYS[1]
+                local quantity = tonumber(ARGV[1])
+                local current = tonumber(redis.call('GET', key) or '0')
+
+                if current >= quantity then
+                    redis.call('DECRBY', key, quantity)
+                    return current - quantity
+                else
+                    return -1
+                end
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 여러 상품 재고 일괄 차감 Lua Script (All or Nothing)
+     *
+     * KEYS[i]: {stock}:product:{productId}
+     * ARGV[i]: KEYS[i]의 차감 수량
+     *
+     * 반환값:
+     * - 빈 목록: 전체 차감 성공
+     * - 재고가 부족한 KEY 목록: 아무것도 차감하지 않음
+     */
+    @Bean(name = "stockBatchDecreaseScript")
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> stockBatchDecreaseScript() {
+        String script = """
+                local shortages = {}
+
+                -- 1. 모든 상품의 재고를 먼저 확인
+                for i = 1, #KEYS do
+                    local current = tonumber(redis.call('GET', KEYS[i]) or '0')
+                    if current < tonumber(ARGV[i]) then
+                        table.insert(shortages, KEYS[i])
+                    end
+                end
+
+                if #shortages > 0 then
+                    return shortages
+                end
+
+                -- 2. 전부 충분할 때만 차감
+                for i = 1, #KEYS do
+                    redis.call('DECRBY', KEYS[i], ARGV[i])
+                end
+
+                return shortages
+                """;
+
+        return RedisScript.of(script, List.class);
+    }
+
+    /**
+     * 핫 상품 스트라이프 재고 차감 Lua Script
+     * - 한 스트라이프로 충분하면 그 스트라이프만 차감 (대부분의 요청, 키 하나만 변경)
+     * - 어느 스트라이프도 단독으로 부족하면 합계 기준으로 판단해 앞에서부터 나눠 차감
+     *
+     * KEYS[i]: 스트라이프 키 (호출자가 임의의 시작 스트라이프부터 순서를 돌려서 전달)
+     * ARGV[1]: 차감 수량
+     *
+     * 반환값:
+     * - >= 0: 차감 성공 (한 스트라이프로 처리하면 그 스트라이프의 남은 재고, 나눠 차감하면 전체 남은 재고)
+     * - -1: 전체 재고 부족 (아무것도 차감하지 않음)
+     */
+    @Bean(name = "stockStripeDecreaseScript")
+    public RedisScript<Long> stockStripeDecreaseScript() {
+        String script = """
+                local quantity = tonumber(ARGV[1])
+                local stocks = {}
+                local total = 0
+
+                for i = 1, #KEYS do
+                    local current = tonumber(redis.call('GET', KEYS[i]) or '0')
+                    if current >= quantity then
+                        redis.call('DECRBY', KEYS[i], quantity)
+                        return current - quantity
+                    end
+                    stocks[i] = current
+                    if current > 0 then
+                        total = total + current
+                    end
+                end
+
+                if total < quantity then
+                    return -1
+                end
+
+                local left = quantity
+                for i = 1, #KEYS do
+                    if left == 0 then
+                        break
+                    end
+                    if stocks[i] > 0 then
+                        local taken = math.min(stocks[i], left)
+                        redis.call('DECRBY', KEYS[i], taken)
+                        left = left - taken
+                    end
+                end
+
+                return total - quantity
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 핫 상품 재고 스트라이프 재분배 Lua Script (승격/해제/재분배/재고 설정)
+     *
+     * KEYS[i]: 스트라이프 키 (KEYS[1] = {stock}:product:{productId}, 이후 {stock}:product:{productId}:s{n})
+     * ARGV[1]: 재분배 후 스트라이프 수 (앞에서부터 ARGV[1]개 키에 분배, 나머지 키는 삭제)
+     * ARGV[2]: 분배할 총 재고 (빈 문자열이면 KEYS의 현재 재고 합계)
+     *
+     * 반환값: 분배한 총 재고
+     */
+    @Bean(name = "stockStripeRedistributeScript")
+    public RedisScript<Long> stockStripeRedistributeScript() {
+        String script = """
+                local stripeCount = tonumber(ARGV[1])
+                local total = 0
+
+                if ARGV[2] ~= '' then
+                    total = tonumber(ARGV[2])
+                else
+                    for i = 1, #KEYS do
+                        total = total + tonumber(redis.call('GET', KEYS[i]) or '0')
+                    end
+                end
+
+                local base = math.floor(total / stripeCount)
+                local remainder = total % stripeCount
+
+                for i = 1, #KEYS do
+                    if i <= stripeCount then
+                        local value = base
+                        if i <= remainder then
+                            value = value + 1
+                        end
+                        redis.call('SET', KEYS[i], value)
+                    else
+                        redis.call('DEL', KEYS[i])
+                    end
+                end
+
+                return total
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 핫 상품 해제 Lua Script (레지스트리 제거 + 스트라이프 병합을 원자적으로 처리)
+     *
+     * KEYS[1]: {stock}:hot:products (Hash, productId → 스트라이프 수)
+     * KEYS[2..]: 스트라이프 키 (KEYS[2] = {stock}:product:{productId}, 이후 {stock}:product:{productId}:s{n})
+     * ARGV[1]: productId
+     *
+     * 반환값: 기본 키로 합친 총 재고
+     */
+    @Bean(name = "stockStripeDemoteScript")
+    public RedisScript<Long> stockStripeDemoteScript() {
+        String script = """
+                redis.call('HDEL', KEYS[1], ARGV[1])
+
+                local total = 0
+                for i = 2, #KEYS do
+                    total = total + tonumber(redis.call('GET', KEYS[i]) or '0')
+                end
+
+                redis.call('SET', KEYS[2], total)
+                for i = 3, #KEYS do
+                    redis.call('DEL', KEYS[i])
+                end
+
+                return total
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 핫 상품 스트라이프 재고 증가 Lua Script
+     * - 해제된 상품이면(로컬 복사본이 늦은 노드) 스트라이프 대신 기본 키를 증가시켜 고아 스트라이프 키가 생기지 않게 함
+     *
+     * KEYS[1]: {stock}:product:{productId}:s{n}
+     * KEYS[2]: {stock}:product:{productId}
+     * KEYS[3]: {stock}:hot:products
+     * ARGV[1]: productId
+     * ARGV[2]: 증가 수량
+     *
+     * 반환값: 증가 후 재고
+     */
+    @Bean(name = "stockStripeIncrementScript")
+    public RedisScript<Long> stockStripeIncrementScript() {
+        String script = """
+                if redis.call('HEXISTS', KEYS[3], ARGV[1]) == 1 then
+                    return redis.call('INCRBY', KEYS[1], ARGV[2])
+                end
+                return redis.call('INCRBY', KEYS[2], ARGV[2])
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 재고 점유(hold) 생성 Lua Script
+     *
+     * KEYS[1]: {stock}:hold:{orderId} (Hash, productId → quantity)
+     * KEYS[2]: {stock}:hold:expiry (Sorted Set, member = orderId, score = 만료 시각 ms)
+     * ARGV[1]: orderId
+     * ARGV[2]: 만료 시각 (epoch millis)
+     * ARGV[3]: {stock}:hold:{orderId} 키 TTL (초, 리퍼 장애 대비 안전망)
+     * ARGV[4..]: productId, quantity 쌍
+     */
+    @Bean(name = "stockHoldCreateScript")
+    public RedisScript<Long> stockHoldCreateScript() {
+        String script = """
+                for i = 4, #ARGV, 2 do
+                    redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+                end
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+                return 1
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 재고 점유 확정 Lua Script (결제 완료 시 점유 → 영구 차감)
+     *
+     * KEYS[1]: {stock}:hold:{orderId}
+     * KEYS[2]: {stock}:hold:expiry
+     * KEYS[3]: {stock}:hold:released:{orderId}
+     * ARGV[1]: orderId
+     *
+     * 반환값:
+     * - 1: 확정 성공 (점유 삭제, 재고는 이미 차감된 상태 유지)
+     * - 0: 점유 없음
+     * - -1: 이미 만료되어 재고가 반환됨
+     */
+    @Bean(name = "stockHoldConfirmScript")
+    public RedisScript<Long> stockHoldConfirmScript() {
+        String script = """
+                if redis.call('DEL', KEYS[1]) == 1 then
+                    redis.call('ZREM', KEYS[2], ARGV[1])
+                    return 1
+                end
+
+                if redis.call('EXISTS', KEYS[3]) == 1 then
+                    return -1
+                end
+
+                return 0
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 재고 점유 해제 Lua Script (주문 취소/결제 실패/만료 시 점유 재고 반환)
+     *
+     * 접근하는 키를 모두 KEYS로 받는다. 호출자는 점유 Hash를 먼저 읽어 상품별 재고 키를 넘기며,
+     * 그 사이 점유 상품이 바뀌어 넘기지 않은 상품이 있으면 아무것도 바꾸지 않고 -1을 반환한다.
+     * (모든 키가 {stock} 해시 태그를 공유하므로 Redis Cluster에서도 한 슬롯에서 실행됨)
+     *
+     * KEYS[1]: {stock}:hold:{orderId}
+     * KEYS[2]: {stock}:hold:expiry
+     * KEYS[3]: {stock}:hold:released:{orderId}
+     * KEYS[4..]: {stock}:product:{productId} (ARGV[4..]와 같은 순서)
+     * ARGV[1]: orderId
+     * ARGV[2]: 해제 표식 TTL (초)
+     * ARGV[3]: 만료 시각 기준 (epoch millis, 이 시각 이후 만료되는 점유는 해제하지 않음 / 빈 문자열이면 조건 없음)
+     * ARGV[4..]: productId (KEYS[4..]와 같은 순서)
+     *
+     * 반환값:
+     * - 1: 해제 성공 (재고 반환)
+     * - 2: 이미 해제됨 (재고 반환 완료 상태)
+     * - 0: 점유 없음 (또는 아직 만료되지 않음)
+     * - -1: 넘겨받지 않은 상품의 점유가 있음 (호출자가 다시 읽고 재시도)
+     */
+    @Bean(name = "stockHoldReleaseScript")
+    public RedisScript<Long> stockHoldReleaseScript() {
+        String script = """
+                local items = redis.call('HGETALL', KEYS[1])
+                if #items == 0 then
+                    -- 점유 키가 없는 주문(TTL 만료 등)은 만료 목록에서도 제거
+                    redis.call('ZREM', KEYS[2], ARGV[1])
+                    if redis.call('EXISTS', KEYS[3]) == 1 then
+                        return 2
+                    end
+                    return 0
+                end
+
+                if ARGV[3] ~= '' then
+                    local expireAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+                    if expireAt and tonumber(expireAt) > tonumber(ARGV[3]) then
+                        return 0
+                    end
+                end
+
+                local stockKeys = {}
+                for i = 4, #ARGV do
+                    stockKeys[ARGV[i]] = KEYS[i]
+                end
+                for i = 1, #items, 2 do
+                    if not stockKeys[items[i]] then
+                        return -1
+                    end
+                end
+
+                for i = 1, #items, 2 do
+                    redis.call('INCRBY', stockKeys[items[i]], items[i + 1])
+                end
+                redis.call('DEL', KEYS[1])
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                redis.call('SET', KEYS[3], '1', 'EX', ARGV[2])
+                return 1
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 캐시 재계산 리스 해제 Lua Script (compare-and-delete)
+     *
+     * GET으로 토큰 확인 후 DEL을 따로 호출하면, 그 사이 리스가 만료되어 다른 노드가 새로 얻은 리스를
+     * 지울 수 있으므로 한 번에 처리한다.
+     *
+     * KEYS[1]: cache:lease:{name}
+     * ARGV[1]: 획득 시 발급한 토큰
+     *
+     * 반환값: 1 (해제), 0 (이미 만료되었거나 다른 요청의 리스)
+     */
+    @Bean(name = "cacheLeaseReleaseScript")
+    public RedisScript<Long> cacheLeaseReleaseScript() {
+        String script = """
+                if redis.call('GET', KEYS[1]) == ARGV[1] then
+                    return redis.call('DEL', KEYS[1])
+                end
+                return 0
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
 }
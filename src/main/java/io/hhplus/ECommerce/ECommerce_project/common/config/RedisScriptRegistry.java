@@ -0,0 +1,186 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Lua Script 중앙 레지스트리
+ *
+ * - RedisScriptConfig에 등록된 모든 RedisScript 빈을 이름과 함께 관리
+ * - 애플리케이션 시작 시 SCRIPT LOAD로 모든 스크립트를 미리 적재
+ * - 실행은 항상 EVALSHA (스크립트 본문 전송 없음)
+ * - Redis 재시작/SCRIPT FLUSH로 NOSCRIPT 발생 시 SCRIPT LOAD 후 한 번 재시도
+ * - 스크립트별 호출 수/지연 시간을 redis.script.execution 타이머로 기록
+ */
+@Slf4j
+@Component
+public class RedisScriptRegistry {
+
+    private static final String METRIC_EXECUTION = "redis.script.execution";
+    private static final String METRIC_RELOAD = "redis.script.reload";
+    private static final String UNREGISTERED_SCRIPT = "unregistered";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // SHA1 → 빈 이름 (메트릭 태그용)
+    private final Map<String, String> scriptNames = new ConcurrentHashMap<>();
+    private final Map<String, RedisScript<?>> scripts = new ConcurrentHashMap<>();
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+
+    public RedisScriptRegistry(RedisTemplate<String, String> redisTemplate,
+                               MeterRegistry meterRegistry,
+                               Map<String, RedisScript<?>> scriptBeans) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        scriptBeans.forEach((name, script) -> {
+            scripts.put(name, script);
+            scriptNames.put(script.getSha1(), name);
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 등록된 모든 스크립트를 SCRIPT LOAD
+     * - 실패해도 기동은 계속 진행 (첫 실행 시 NOSCRIPT 처리로 다시 적재됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadScripts() {
+        log.info("Redis Lua Script 사전 적재 시작: {}개", scripts.size());
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                scripts.forEach((name, script) -> {
+                    String sha = connection.scriptingCommands().scriptLoad(scriptBytes(script));
+                    log.debug("스크립트 적재 완료: name={}, sha={}", name, sha);
+                });
+                return null;
+            });
+            log.info("Redis Lua Script 사전 적재 완료: {}", scripts.keySet());
+        } catch (Exception e) {
+            log.error("Redis Lua Script 사전 적재 실패 (첫 실행 시 재적재)", e);
+        }
+    }
+
+    /**
+     * EVALSHA로 스크립트 실행
+     *
+     * @param script 실행할 스크립트 (RedisScriptConfig의 빈)
+     * @param keys KEYS
+     * @param args ARGV
+     * @return 스크립트 반환값 (bulk string은 String, 배열은 List로 변환)
+     */
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        String name = scriptNames.getOrDefault(script.getSha1(), UNREGISTERED_SCRIPT);
+        byte[][] keysAndArgs = keysAndArgs(keys, args);
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+
+        long start = System.nanoTime();
+        try {
+            Object result = redisTemplate.execute((RedisCallback<Object>) connection ->
+                    evalSha(connection, name, script, returnType, keys.size(), keysAndArgs));
+
+            successTimers.computeIfAbsent(name, n -> timer(n, "success"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            @SuppressWarnings("unchecked")
+            T converted = (T) deserialize(result);
+            return converted;
+
+        } catch (RuntimeException e) {
+            failureTimers.computeIfAbsent(name, n -> timer(n, "failure"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Object evalSha(RedisConnection connection, String name, RedisScript<?> script,
+                           ReturnType returnType, int numKeys, byte[][] keysAndArgs) {
+        try {
+            return connection.scriptingCommands().evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+        } catch (RuntimeException e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+
+            // Redis 재시작 등으로 스크립트 캐시가 비워진 경우 → 다시 적재 후 재시도
+            log.warn("NOSCRIPT 감지, 스크립트 재적재: name={}", name);
+            connection.scriptingCommands().scriptLoad(scriptBytes(script));
+            Counter.builder(METRIC_RELOAD)
+                    .tag("script", name)
+                    .register(meterRegistry)
+                    .increment();
+
+            return connection.scriptingCommands().evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+        }
+    }
+
+    private Timer timer(String name, String outcome) {
+        return Timer.builder(METRIC_EXECUTION)
+                .description("Redis Lua Script 실행 시간")
+                .tag("script", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private boolean isNoScriptError(Throwable e) {
+        Throwable current = e;
+        while (current != null) {
+            String message = current.getMessage();
+            if (message != null && message.contains("NOSCRIPT")) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private byte[] scriptBytes(RedisScript<?> script) {
+        return script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[][] keysAndArgs(List<String> keys, Object[] args) {
+        byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+        int i = 0;
+        for (String key : keys) {
+            keysAndArgs[i++] = key.getBytes(StandardCharsets.UTF_8);
+        }
+        for (Object arg : args) {
+            keysAndArgs[i++] = String.valueOf(arg).getBytes(StandardCharsets.UTF_8);
+        }
+        return keysAndArgs;
+    }
+
+    /**
+     * Redis 응답 변환 (bulk string → String, 배열 → List, 정수 → Long 그대로)
+     */
+    private Object deserialize(Object result) {
+        if (result instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (result instanceof List<?> list) {
+            List<Object> converted = new ArrayList<>(list.size());
+            for (Object element : list) {
+                converted.add(deserialize(element));
+            }
+            return converted;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import io.hhplus.ECommerce.ECommerce_project.common.config.RedisScriptRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 캐시 재계산 리스 (Redis SET NX PX)
+ *
+ * - 캐시 미스/조기 갱신 시 재계산(DB 조회)을 여러 노드 중 한 곳에서만 수행하도록 제한
+ * - 리스를 얻지 못한 요청은 리스가 풀릴 때까지 잠시 기다린 뒤 캐시를 다시 읽음
+ * - 리스 보유 노드가 죽어도 TTL로 자동 해제, Redis 장애 시에는 리스 없이 재계산 진행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheRecomputeLease {
+
+    private static final String LEASE_PREFIX = "cache:lease:";
+    private static final long POLL_INTERVAL_MILLIS = 20;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final RedisScript<Long> cacheLeaseReleaseScript;
+
+    /**
+     * 리스 획득 시도
+     *
+     * @return 획득 시 해제용 토큰, 다른 요청이 보유 중이면 empty
+     */
+    public Optional<String> tryAcquire(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_PREFIX + name, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+
+        } catch (Exception e) {
+            log.warn("캐시 재계산 리스 획득 실패, 리스 없이 진행 - name: {}", name, e);
+            return Optional.of(token);
+        }
+    }
+
+    /**
+     * 리스 해제 (자신이 보유한 리스일 때만, 토큰 비교와 삭제를 Lua Script 1회로 처리)
+     */
+    public void release(String name, String token) {
+        try {
+            redisScriptRegistry.execute(cacheLeaseReleaseScript, List.of(LEASE_PREFIX + name), token);
+        } catch (Exception e) {
+            // 해제 실패 시 TTL로 자동 해제
+            log.warn("캐시 재계산 리스 해제 실패 - name: {}", name, e);
+        }
+    }
+
+    /**
+     * 다른 요청이 보유한 리스가 풀릴 때까지 대기
+     *
+     * @return 대기 시간 안에 리스가 풀렸으면 true
+     */
+    public boolean awaitRelease(String name, Duration maxWait) {
+        String key = LEASE_PREFIX + name;
+        long deadline = System.nanoTime() + maxWait.toNanos();
+
+        try {
+            while (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+
+        } catch (Exception e) {
+            log.warn("캐시 재계산 리스 대기 실패 - name: {}", name, e);
+            return false;
+        }
+    }
+}
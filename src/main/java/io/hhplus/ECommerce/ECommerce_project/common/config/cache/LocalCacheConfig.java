@@ -6,34 +6,35 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
 
 import java.util.concurrent.TimeUnit;
 
 /**
  * 로컬 캐시 설정 (Caffeine)
  * - 애플리케이션 메모리에 캐시를 저장
- * - 빠른 응답 속도가 필요한 데이터에 적합
- * - 단일 인스턴스 환경에서 효과적
+ * - 노드 간 무효화가 필요 없는 짧은 수명의 데이터에 적합
+ * - 노드 간 공유/무효화가 필요한 캐시는 twoLevelCacheManager 사용 (TwoLevelCacheConfig)
  */
 @Configuration
 @EnableCaching
 public class LocalCacheConfig {
 
     /**
-     * 로컬 캐시 매니저 (Caffeine)
-     * - 동적으로 캐시 생성 가능 (@Cacheable의 value에 지정한 이름으로 자동 생성)
-     * - 예: @Cacheable("categoryList"), @Cacheable("productList") 등
+     * 인기상품 응답 캐시 매니저 (Caffeine, 노드별)
+     * - (type, limit)별로 완성된 인기상품 목록을 짧게 보관
+     * - 랭킹은 계속 변하므로 수 초 단위로만 재사용 (요청 폭주 시 Redis/DB 조회를 노드당 주기 1회로 제한)
+     * - 비동기 캐시 모드: @Cacheable(sync = true) 적재가 맵 compute 밖(호출 스레드)에서 실행되므로
+     *   적재 중 리스 대기가 있어도 다른 키 조회를 막지 않음 (같은 키 요청만 결과를 기다림)
      */
     @Bean
-    @Primary  // 기본 CacheManager로 설정
-    public CacheManager localCacheManager() {
+    public CacheManager rankingResponseCacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
 
         cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(5, TimeUnit.MINUTES)  // 5분 후 만료
-                .maximumSize(100)  // 최대 100개 항목
+                .expireAfterWrite(3, TimeUnit.SECONDS)  // 3초 후 만료
+                .maximumSize(500)  // 타입 4종 × limit 1~100
                 .recordStats());  // 캐시 통계 기록
+        cacheManager.setAsyncCacheMode(true);
         return cacheManager;
     }
 }
\ No newline at end of file
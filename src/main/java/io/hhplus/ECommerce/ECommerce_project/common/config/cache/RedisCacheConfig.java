@@ -8,17 +8,19 @@ import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.hibernate5.jakarta.Hibernate5JakartaModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Redis 캐시 설정
@@ -31,11 +33,13 @@ public class RedisCacheConfig {
 
     /**
      * Redis 캐시 매니저
-     * - 동적으로 캐시 생성 가능 (@Cacheable의 cacheManager 속성으로 지정)
-     * - 예: @Cacheable(value = "productList", cacheManager = "redisCacheManager")
+     * - 2단계 캐시(twoLevelCacheManager)의 L2로 사용
+     * - 캐시별 TTL은 cache.two-level 설정의 l2-ttl 적용
+     * - clear() 시 KEYS 대신 SCAN으로 삭제 대상 조회 (Redis 블로킹 방지)
      */
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               TwoLevelCacheProperties twoLevelCacheProperties) {
         // ObjectMapper 설정: Java 8 날짜/시간 타입 + Hibernate Lazy Loading 지원
         ObjectMapper objectMapper = new ObjectMapper();
 
@@ -59,14 +63,23 @@ public class RedisCacheConfig {
 
         RedisCacheConfiguration config =
                 RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(2))  // 2분 TTL
+                .entryTtl(twoLevelCacheProperties.defaults().l2Ttl())
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        // 캐시별 TTL
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        twoLevelCacheProperties.caches().keySet().forEach(cacheName ->
+                cacheConfigs.put(cacheName, config.entryTtl(twoLevelCacheProperties.specOf(cacheName).l2Ttl())));
+
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(1000));
+
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(cacheConfigs)
                 .build();
     }
 }
\ No newline at end of file
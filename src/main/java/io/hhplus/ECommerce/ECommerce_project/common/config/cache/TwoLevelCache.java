@@ -0,0 +1,384 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단계 캐시 (L1 Caffeine → L2 Redis)
+ *
+ * - 조회: L1 → L2 순서로 확인하고, L2 적중 시 L1에 적재 (L1 적중 시 Redis 왕복/역직렬화 없음)
+ * - 저장/삭제: L2와 L1에 함께 반영한 뒤 다른 노드의 L1 무효화를 전파
+ * - L1 키는 문자열로 통일 (무효화 메시지로 키를 전달하기 위함, L2 Redis 키 변환과 동일하게 toString 사용)
+ *
+ * 캐시 스탬피드 방지 (get(key, loader) = @Cacheable(sync = true) 경로):
+ * - 노드 내: 같은 키 적재를 한 번으로 합침 (키별 진행 중 적재를 CompletableFuture로 공유)
+ *   리스 대기/DB 조회는 맵 compute 밖에서 수행하므로 다른 키의 조회를 막지 않음
+ * - 노드 간: L2 미스 시 재계산 리스를 얻은 노드만 적재, 나머지는 리스 해제를 기다린 뒤 L2를 다시 읽음
+ * - 조기 갱신: 만료가 가까워지면 확률적으로 한 요청이 미리 재계산 (그동안 다른 요청은 기존 값 사용)
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCacheEntry> l1;
+    private final Cache l2;
+    private final TwoLevelCacheProperties.CacheSpec spec;
+    private final CacheRecomputeLease recomputeLease;
+    private final InvalidationPublisher invalidationPublisher;
+    private final Stats stats = new Stats();
+
+    // 진행 중인 적재 (같은 키를 동시에 요청한 스레드가 결과를 공유)
+    private final ConcurrentMap<String, CompletableFuture<TwoLevelCacheEntry>> inFlight = new ConcurrentHashMap<>();
+
+    TwoLevelCache(String name,
+                  com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCacheEntry> l1,
+                  Cache l2,
+                  TwoLevelCacheProperties.CacheSpec spec,
+                  CacheRecomputeLease recomputeLease,
+                  InvalidationPublisher invalidationPublisher) {
+        super(true);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.spec = spec;
+        this.recomputeLease = recomputeLease;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+        String localKey = key.toString();
+
+        TwoLevelCacheEntry entry = l1.getIfPresent(localKey);
+        if (entry != null) {
+            stats.hit(Level.L1);
+            return toStoreValue(entry.getValue());
+        }
+        stats.miss(Level.L1);
+
+        entry = lookupL2(key);
+        if (entry == null) {
+            return null;
+        }
+        l1.put(localKey, entry);
+        return toStoreValue(entry.getValue());
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = key.toString();
+
+        TwoLevelCacheEntry entry = l1.getIfPresent(localKey);
+        if (entry != null) {
+            stats.hit(Level.L1);
+        } else {
+            stats.miss(Level.L1);
+            entry = loadOnce(key, localKey, valueLoader);
+        }
+
+        if (entry.shouldRefreshEarly(spec.earlyRefreshBeta())) {
+            entry = refreshEarly(key, valueLoader, entry);
+        }
+        return (T) entry.getValue();
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        // 계산 시간을 알 수 없으므로 조기 갱신 없이 만료 시각만 기록
+        TwoLevelCacheEntry entry = newEntry(value, 0L);
+        l2.put(key, entry);
+        l1.put(key.toString(), entry);
+        invalidationPublisher.publishEvict(name, key.toString());
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        evictLocal(key.toString());
+        invalidationPublisher.publishEvict(name, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        clearLocal();
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 시 L1만 삭제 (L2는 발신 노드가 이미 반영)
+     * - 진행 중인 적재도 분리해 무효화 이전에 읽은 값이 L1에 들어가지 않도록 함
+     */
+    void evictLocal(String key) {
+        inFlight.remove(key);
+        l1.invalidate(key);
+    }
+
+    void clearLocal() {
+        inFlight.clear();
+        l1.invalidateAll();
+    }
+
+    Stats stats() {
+        return stats;
+    }
+
+    /**
+     * 키별 단일 적재
+     * - 먼저 등록한 스레드만 L2 조회/리스 적재를 수행하고, 나머지는 그 결과(예외 포함)를 기다림
+     * - 적재 결과는 진행 중 표시가 남아 있을 때만 L1에 저장 (적재 중 무효화되었으면 호출자에게만 반환)
+     */
+    private TwoLevelCacheEntry loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<TwoLevelCacheEntry> future = new CompletableFuture<>();
+        CompletableFuture<TwoLevelCacheEntry> running = inFlight.putIfAbsent(localKey, future);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 등록 직전에 다른 스레드가 적재를 끝냈을 수 있으므로 L1 재확인
+            TwoLevelCacheEntry entry = l1.getIfPresent(localKey);
+            if (entry == null) {
+                entry = lookupL2(key);
+                if (entry == null) {
+                    entry = loadWithLease(key, valueLoader);
+                }
+
+                TwoLevelCacheEntry loaded = entry;
+                inFlight.computeIfPresent(localKey, (k, current) -> {
+                    if (current == future) {
+                        l1.put(k, loaded);
+                        return null;
+                    }
+                    return current;
+                });
+            }
+
+            future.complete(entry);
+            return entry;
+
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            inFlight.remove(localKey, future);
+        }
+    }
+
+    private TwoLevelCacheEntry await(CompletableFuture<TwoLevelCacheEntry> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Nullable
+    private TwoLevelCacheEntry lookupL2(Object key) {
+        ValueWrapper wrapper = l2.get(key);
+        if (wrapper == null) {
+            stats.miss(Level.L2);
+            return null;
+        }
+        stats.hit(Level.L2);
+
+        Object stored = wrapper.get();
+        return stored instanceof TwoLevelCacheEntry entry
+                ? entry
+                : new TwoLevelCacheEntry(stored, 0L, 0L);  // 메타데이터 없는 이전 형식
+    }
+
+    /**
+     * L2 미스 시 재계산 리스를 얻은 노드만 적재
+     * - 리스를 얻지 못하면 리스 해제(다른 노드의 적재 완료)를 기다린 뒤 L2를 다시 읽음
+     * - 대기 시간 안에 값이 생기지 않으면 직접 적재 (리스 보유 노드 장애 대비)
+     */
+    private TwoLevelCacheEntry loadWithLease(Object key, Callable<?> valueLoader) {
+        if (!isLeaseEnabled()) {
+            return load(key, valueLoader);
+        }
+
+        String leaseName = leaseName(key);
+        Optional<String> lease = recomputeLease.tryAcquire(leaseName, spec.leaseTtl());
+
+        if (lease.isEmpty()) {
+            stats.leaseWait();
+            if (recomputeLease.awaitRelease(leaseName, spec.leaseTtl())) {
+                TwoLevelCacheEntry loaded = lookupL2(key);
+                if (loaded != null) {
+                    return loaded;
+                }
+            }
+            return load(key, valueLoader);
+        }
+
+        try {
+            return load(key, valueLoader);
+        } finally {
+            recomputeLease.release(leaseName, lease.get());
+        }
+    }
+
+    /**
+     * 확률적 조기 갱신
+     * - 리스를 얻은 한 요청만 재계산하고, 나머지와 재계산 실패 시에는 기존 값을 그대로 사용
+     */
+    private TwoLevelCacheEntry refreshEarly(Object key, Callable<?> valueLoader, TwoLevelCacheEntry current) {
+        String leaseName = leaseName(key);
+        Optional<String> lease = isLeaseEnabled()
+                ? recomputeLease.tryAcquire(leaseName, spec.leaseTtl())
+                : Optional.of("");
+        if (lease.isEmpty()) {
+            return current;
+        }
+
+        try {
+            TwoLevelCacheEntry refreshed = load(key, valueLoader);
+            stats.earlyRefresh();
+
+            // 다른 노드의 L1에 남은 기존 값도 L2의 새 값으로 교체되도록 전파
+            l1.put(key.toString(), refreshed);
+            invalidationPublisher.publishEvict(name, key.toString());
+            return refreshed;
+
+        } catch (ValueRetrievalException e) {
+            log.warn("캐시 조기 갱신 실패, 기존 값 사용 - cache: {}, key: {}", name, key, e);
+            return current;
+
+        } finally {
+            if (isLeaseEnabled()) {
+                recomputeLease.release(leaseName, lease.get());
+            }
+        }
+    }
+
+    /**
+     * 값 계산 후 L2 저장 (L1 저장은 호출 측에서 처리)
+     */
+    private TwoLevelCacheEntry load(Object key, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        TwoLevelCacheEntry entry = newEntry(value, System.currentTimeMillis() - startedAt);
+        l2.put(key, entry);
+        return entry;
+    }
+
+    private TwoLevelCacheEntry newEntry(@Nullable Object value, long computeMillis) {
+        return new TwoLevelCacheEntry(value, computeMillis, System.currentTimeMillis() + spec.l2Ttl().toMillis());
+    }
+
+    private boolean isLeaseEnabled() {
+        Duration leaseTtl = spec.leaseTtl();
+        return leaseTtl != null && !leaseTtl.isZero() && !leaseTtl.isNegative();
+    }
+
+    private String leaseName(Object key) {
+        return name + ":" + key;
+    }
+
+    /**
+     * 캐시 단계
+     */
+    public enum Level {
+        L1, L2;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 단계별 적중/미적중, 리스 대기, 조기 갱신 횟수 (TwoLevelCacheManager가 메트릭으로 노출)
+     */
+    static final class Stats {
+
+        private final LongAdder[] hits = {new LongAdder(), new LongAdder()};
+        private final LongAdder[] misses = {new LongAdder(), new LongAdder()};
+        private final LongAdder leaseWaits = new LongAdder();
+        private final LongAdder earlyRefreshes = new LongAdder();
+
+        void hit(Level level) {
+            hits[level.ordinal()].increment();
+        }
+
+        void miss(Level level) {
+            misses[level.ordinal()].increment();
+        }
+
+        void leaseWait() {
+            leaseWaits.increment();
+        }
+
+        void earlyRefresh() {
+            earlyRefreshes.increment();
+        }
+
+        long hits(Level level) {
+            return hits[level.ordinal()].sum();
+        }
+
+        long misses(Level level) {
+            return misses[level.ordinal()].sum();
+        }
+
+        long leaseWaits() {
+            return leaseWaits.sum();
+        }
+
+        long earlyRefreshes() {
+            return earlyRefreshes.sum();
+        }
+
+        double hitRatio(Level level) {
+            long hitCount = hits(level);
+            long total = hitCount + misses(level);
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+    }
+
+    /**
+     * 다른 노드로의 L1 무효화 전파
+     */
+    interface InvalidationPublisher {
+
+        void publishEvict(String cacheName, String key);
+
+        void publishClear(String cacheName);
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 2단계 캐시 설정 (L1 Caffeine / L2 Redis)
+ * - 노드 메모리(L1)에서 먼저 조회하고, 없으면 Redis(L2)에서 조회
+ * - 다중 인스턴스 환경에서도 저장/삭제가 모든 노드의 L1에 전파됨
+ * - 예: @Cacheable(value = "productList", cacheManager = "twoLevelCacheManager")
+ */
+@Configuration
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
+public class TwoLevelCacheConfig {
+
+    @Bean
+    @Primary  // 기본 CacheManager로 설정
+    public CacheManager twoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                             RedisTemplate<String, String> redisTemplate,
+                                             RedisMessageListenerContainer redisMessageListenerContainer,
+                                             CacheRecomputeLease cacheRecomputeLease,
+                                             TwoLevelCacheProperties twoLevelCacheProperties,
+                                             MeterRegistry meterRegistry) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager, redisTemplate, cacheRecomputeLease, twoLevelCacheProperties, meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(
+                cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATE_CHANNEL));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 2단계 캐시 저장 단위 (값 + 조기 갱신 판단용 메타데이터)
+ *
+ * - L1/L2 모두 이 형태로 보관
+ * - L2(Redis) JSON 역직렬화를 위해 기본 생성자를 가진 non-final 클래스로 둠 (타입 정보 포함 직렬화)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TwoLevelCacheEntry {
+
+    private Object value;
+
+    // 값 계산 소요 시간 (0이면 알 수 없음)
+    private long computeMillis;
+
+    // L2 만료 시각 (0이면 알 수 없음)
+    private long expiresAtMillis;
+
+    /**
+     * 확률적 조기 갱신 여부 (XFetch)
+     * - now + 계산시간 × beta × (-ln(rand)) >= 만료 시각이면 갱신
+     * - 계산이 오래 걸리는 값일수록, 만료에 가까울수록 갱신 확률이 높아져 만료 전에 한 요청만 미리 재계산
+     */
+    boolean shouldRefreshEarly(double beta) {
+        if (beta <= 0 || expiresAtMillis <= 0) {
+            return false;
+        }
+
+        double gap = computeMillis * beta * -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= expiresAtMillis;
+    }
+}
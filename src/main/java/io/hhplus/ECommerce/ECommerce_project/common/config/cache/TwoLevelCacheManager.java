@@ -0,0 +1,167 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 2단계 캐시 매니저 (L1 Caffeine / L2 Redis)
+ *
+ * - 캐시 이름별 L1 크기/TTL, L2 TTL은 cache.two-level 설정으로 지정 (TwoLevelCacheProperties)
+ * - 저장/삭제 시 Redis Pub/Sub(cache:two-level:invalidate)로 모든 노드의 L1에서 해당 키를 제거
+ * - Pub/Sub는 전달을 보장하지 않으므로 L1 TTL이 최대 불일치 시간이 된다
+ * - 단계별 적중률과 스탬피드 방지 동작을 메트릭으로 노출
+ *   (cache.two-level.gets, cache.two-level.hit.ratio, cache.two-level.lease.waits, cache.two-level.early.refreshes)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, TwoLevelCache.InvalidationPublisher {
+
+    public static final String INVALIDATE_CHANNEL = "cache:two-level:invalidate";
+
+    private static final String SEPARATOR = "|";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final RedisCacheManager l2CacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheRecomputeLease recomputeLease;
+    private final TwoLevelCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 자신이 보낸 무효화 메시지는 이미 반영했으므로 무시
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager l2CacheManager,
+                                RedisTemplate<String, String> redisTemplate,
+                                CacheRecomputeLease recomputeLease,
+                                TwoLevelCacheProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.l2CacheManager = l2CacheManager;
+        this.redisTemplate = redisTemplate;
+        this.recomputeLease = recomputeLease;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    @Override
+    public void publishEvict(String cacheName, String key) {
+        publish(EVICT, cacheName, key);
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    /**
+     * 다른 노드의 저장/삭제 알림 수신 → L1 무효화
+     * - 메시지 형식: {nodeId}|{E|C}|{cacheName}|{key}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = payload.split("\\|", 4);
+
+        if (parts.length < 4) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", payload);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        TwoLevelCacheProperties.CacheSpec spec = properties.specOf(name);
+
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCacheEntry> l1 = Caffeine.newBuilder()
+                .maximumSize(spec.l1MaximumSize())
+                .expireAfterWrite(spec.l1Ttl())
+                .build();
+
+        // L2 TTL은 RedisCacheManager의 캐시별 설정으로 적용 (RedisCacheConfig)
+        Cache l2 = l2CacheManager.getCache(name);
+
+        TwoLevelCache cache = new TwoLevelCache(name, l1, l2, spec, recomputeLease, this);
+        registerMetrics(cache);
+
+        log.info("2단계 캐시 생성 - name: {}, l1MaximumSize: {}, l1Ttl: {}, l2Ttl: {}, leaseTtl: {}, earlyRefreshBeta: {}",
+                name, spec.l1MaximumSize(), spec.l1Ttl(), spec.l2Ttl(), spec.leaseTtl(), spec.earlyRefreshBeta());
+        return cache;
+    }
+
+    private void registerMetrics(TwoLevelCache cache) {
+        for (TwoLevelCache.Level level : TwoLevelCache.Level.values()) {
+            FunctionCounter.builder("cache.two-level.gets", cache, c -> c.stats().hits(level))
+                    .description("2단계 캐시 단계별 조회 횟수")
+                    .tags("cache", cache.getName(), "level", level.tag(), "result", "hit")
+                    .register(meterRegistry);
+
+            FunctionCounter.builder("cache.two-level.gets", cache, c -> c.stats().misses(level))
+                    .description("2단계 캐시 단계별 조회 횟수")
+                    .tags("cache", cache.getName(), "level", level.tag(), "result", "miss")
+                    .register(meterRegistry);
+
+            Gauge.builder("cache.two-level.hit.ratio", cache, c -> c.stats().hitRatio(level))
+                    .description("2단계 캐시 단계별 적중률")
+                    .tags("cache", cache.getName(), "level", level.tag())
+                    .register(meterRegistry);
+        }
+
+        FunctionCounter.builder("cache.two-level.lease.waits", cache, c -> c.stats().leaseWaits())
+                .description("다른 노드의 재계산 리스 해제를 기다린 횟수")
+                .tags("cache", cache.getName())
+                .register(meterRegistry);
+
+        FunctionCounter.builder("cache.two-level.early.refreshes", cache, c -> c.stats().earlyRefreshes())
+                .description("만료 전 확률적 조기 갱신 횟수")
+                .tags("cache", cache.getName())
+                .register(meterRegistry);
+    }
+
+    private void publish(String type, String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.join(SEPARATOR, nodeId, type, cacheName, key));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1은 TTL 만료 시 갱신됨
+            log.warn("캐시 무효화 전파 실패 - cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+}
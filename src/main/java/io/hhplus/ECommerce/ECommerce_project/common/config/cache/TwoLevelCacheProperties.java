@@ -0,0 +1,57 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 2단계 캐시 설정 (cache.two-level)
+ * - defaults: 모든 캐시 공통 설정
+ * - caches: 캐시 이름별 설정 (지정하지 않은 항목은 defaults 값 사용)
+ */
+@ConfigurationProperties(prefix = "cache.two-level")
+public record TwoLevelCacheProperties(CacheSpec defaults, Map<String, CacheSpec> caches) {
+
+    private static final CacheSpec FALLBACK = new CacheSpec(
+            1000L, Duration.ofMinutes(1), Duration.ofMinutes(2), Duration.ofSeconds(3), 1.0);
+
+    public TwoLevelCacheProperties {
+        defaults = FALLBACK.overriddenBy(defaults);
+        caches = caches != null ? Map.copyOf(caches) : Map.of();
+    }
+
+    /**
+     * 캐시 이름별 최종 설정 (defaults 위에 캐시별 설정을 덮어씀)
+     */
+    public CacheSpec specOf(String cacheName) {
+        return defaults.overriddenBy(caches.get(cacheName));
+    }
+
+    /**
+     * @param l1MaximumSize L1(Caffeine) 최대 항목 수 (노드별)
+     * @param l1Ttl L1 만료 시간 (무효화 메시지 유실 시 최대 지연)
+     * @param l2Ttl L2(Redis) 만료 시간
+     * @param leaseTtl L2 미스 시 노드 간 재계산 리스 유지 시간 (0이면 리스 없이 각 노드가 적재)
+     * @param earlyRefreshBeta 확률적 조기 갱신 강도 (클수록 일찍 갱신, 0이면 사용 안 함)
+     */
+    public record CacheSpec(Long l1MaximumSize,
+                            Duration l1Ttl,
+                            Duration l2Ttl,
+                            Duration leaseTtl,
+                            Double earlyRefreshBeta) {
+
+        CacheSpec overriddenBy(CacheSpec other) {
+            if (other == null) {
+                return this;
+            }
+            return new CacheSpec(
+                    other.l1MaximumSize() != null ? other.l1MaximumSize() : l1MaximumSize,
+                    other.l1Ttl() != null ? other.l1Ttl() : l1Ttl,
+                    other.l2Ttl() != null ? other.l2Ttl() : l2Ttl,
+                    other.leaseTtl() != null ? other.leaseTtl() : leaseTtl,
+                    other.earlyRefreshBeta() != null ? other.earlyRefreshBeta() : earlyRefreshBeta
+            );
+        }
+    }
+}
@@ -31,7 +31,10 @@ public enum ErrorCode {
     PRODUCT_ID_INVALID("PRODUCT ID는 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
     PRODUCT_PRICE_INVALID("가격은 0 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
     PRODUCT_STOCK_INVALID("재고는 0 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
-    PRODUCT_RANKED_PRODUCT_TYPE_INVALID("인기상품 조회 타입은 daily 혹은 weekly 중 하나여야 합니다.", HttpStatus.BAD_REQUEST),
+    PRODUCT_RANKED_PRODUCT_TYPE_INVALID("인기상품 조회 타입은 daily, weekly, trending-1h, trending-24h 중 하나여야 합니다.", HttpStatus.BAD_REQUEST),
+    PRODUCT_RANKED_CATEGORY_TYPE_INVALID("카테고리별 인기상품은 daily, weekly 타입만 조회할 수 있습니다.", HttpStatus.BAD_REQUEST),
+    PRODUCT_RANKING_REBUILD_IN_PROGRESS("인기상품 랭킹 재구성이 이미 진행 중입니다.", HttpStatus.CONFLICT),
+    PRODUCT_CURSOR_INVALID("유효하지 않은 상품 목록 커서입니다.", HttpStatus.BAD_REQUEST),
     PRODUCT_OUT_OF_STOCK("재고가 부족합니다.", HttpStatus.CONFLICT),
     PRODUCT_ALREADY_ACTIVE("이미 활성화된 상품입니다.", HttpStatus.CONFLICT),
     PRODUCT_ALREADY_INACTIVE("이미 비활성화된 상품입니다.", HttpStatus.CONFLICT),
@@ -98,6 +101,7 @@ public enum ErrorCode {
     ORDER_INVALID_STATUS_FOR_PAYMENT("결제 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
     ORDER_INVALID_STATUS_FOR_CANCEL("취소 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
     ORDER_INVALID_STATUS_FOR_COMPLETE("완료 가능한 상태가 아닙니다.", HttpStatus.CONFLICT),
+    ORDER_STOCK_HOLD_EXPIRED("재고 점유 시간이 만료된 주문입니다.", HttpStatus.CONFLICT),
     ORDER_ITEM_NOT_FOUND("주문 아이템을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     ORDER_ITEM_ORDER_ID_REQUIRED("주문 ID는 필수입니다.", HttpStatus.BAD_REQUEST),
     ORDER_ITEM_PRODUCT_ID_REQUIRED("상품 ID는 필수입니다.", HttpStatus.BAD_REQUEST),
@@ -160,6 +164,10 @@ public enum ErrorCode {
     COUPON_MIN_ORDER_AMOUNT_NOT_MET("최소 주문 금액을 충족하지 못했습니다.", HttpStatus.BAD_REQUEST),
     COUPON_INVALID_DISCOUNT_TYPE("지원하지 않는 할인 타입입니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     COUPON_ISSUE_FAILED("쿠폰 발급이 실패했습니다.", HttpStatus.CONFLICT),
+    COUPON_WAITING_TOKEN_NOT_FOUND("쿠폰 발급 대기열 토큰을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    COUPON_BULK_ISSUE_JOB_NOT_FOUND("쿠폰 일괄 발급 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    COUPON_BULK_ISSUE_JOB_NOT_RESUMABLE("재개할 수 없는 쿠폰 일괄 발급 작업입니다.", HttpStatus.CONFLICT),
+    COUPON_BULK_ISSUE_FILE_INVALID("쿠폰 일괄 발급 대상 파일 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
 
     // ===== Category =====
     CATEGORY_NOT_FOUND("카테고리를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
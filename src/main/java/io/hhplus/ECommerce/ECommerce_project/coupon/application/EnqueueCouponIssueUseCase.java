@@ -0,0 +1,44 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.IssueCouponCommand;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponWaitingTicket;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponWaitingRoomService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.service.CouponDomainService;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.service.UserDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnqueueCouponIssueUseCase {
+
+    private final UserDomainService userDomainService;
+    private final CouponDomainService couponDomainService;
+    private final CouponWaitingRoomService couponWaitingRoomService;
+
+    /**
+     * 쿠폰 발급 대기열 입장
+     * - 발급은 CouponAdmissionScheduler가 초당 허가 수만큼 순서대로 처리
+     * - 토큰으로 상태/순번 조회 또는 SSE 구독
+     */
+    public CouponWaitingTicket execute(IssueCouponCommand command) {
+
+        userDomainService.validateId(command.userId());
+        couponDomainService.validateId(command.couponId());
+
+        CouponWaitingTicket ticket = couponWaitingRoomService.enqueue(command.userId(), command.couponId());
+
+        log.debug("쿠폰 발급 대기열 입장 - userId: {}, couponId: {}, status: {}, position: {}",
+                command.userId(), command.couponId(), ticket.status(), ticket.position());
+        return ticket;
+    }
+
+    /**
+     * 대기열 사용 여부 (coupon.waiting-room.enabled)
+     */
+    public boolean isEnabled() {
+        return couponWaitingRoomService.isEnabled();
+    }
+}
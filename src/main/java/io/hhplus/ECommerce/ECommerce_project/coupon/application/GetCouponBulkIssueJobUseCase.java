@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponBulkIssueJob;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GetCouponBulkIssueJobUseCase {
+
+    private final CouponBulkIssueJobService couponBulkIssueJobService;
+
+    public CouponBulkIssueJob execute(String jobId) {
+        return couponBulkIssueJobService.getJob(jobId);
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponWaitingTicket;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponWaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GetCouponWaitingTicketUseCase {
+
+    private final CouponWaitingRoomService couponWaitingRoomService;
+
+    public CouponWaitingTicket execute(String token) {
+        return couponWaitingRoomService.getTicket(token);
+    }
+}
@@ -4,15 +4,14 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.IssueCouponCommand;
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponFinderService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponIssueStreamService;
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.RedisCouponMetadataService;
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.RedisCouponService;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
-import io.hhplus.ECommerce.ECommerce_project.coupon.domain.event.CouponIssuedEvent;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.service.CouponDomainService;
 import io.hhplus.ECommerce.ECommerce_project.user.domain.service.UserDomainService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -25,13 +24,13 @@ public class IssueCouponUseCase {
     private final CouponFinderService couponFinderService;
     private final RedisCouponService redisCouponService;
     private final RedisCouponMetadataService redisCouponMetadataService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CouponIssueStreamService couponIssueStreamService;
 
     /**
-     * Redis Lua Script + 비동기 이벤트 발행
+     * Redis Lua Script + 발급 스트림 적재
      * - Lua Script가 원자성 보장 (분산 락 불필요)
      * - Redis 발급 성공 후 즉시 반환
-     * - DB 저장은 비동기 이벤트로 처리
+     * - DB 저장은 발급 스트림 소비자(CouponIssueStreamScheduler)가 배치로 처리
      */
     public void execute(IssueCouponCommand command) {
 
@@ -52,12 +51,18 @@ public class IssueCouponUseCase {
             throw new CouponException(ErrorCode.COUPON_ALL_ISSUED);
         }
 
-        // 3. 비동기 이벤트 발행 (DB 저장은 리스너에서 처리)
-        applicationEventPublisher.publishEvent(
-                CouponIssuedEvent.of(command.userId(), command.couponId())
-        );
+        // 3. 발급 스트림 적재 (DB 저장은 스트림 소비자가 배치로 처리)
+        try {
+            couponIssueStreamService.append(command.userId(), command.couponId());
+        } catch (Exception e) {
+            // 적재하지 못한 발급은 DB에 반영될 수 없으므로 Redis 발급 취소
+            log.error("쿠폰 발급 스트림 적재 실패, Redis 발급 취소 - userId: {}, couponId: {}",
+                    command.userId(), command.couponId(), e);
+            redisCouponService.cancelIssueCoupon(command.couponId(), command.userId());
+            throw new CouponException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
 
-        log.info("쿠폰 발급 이벤트 발행 완료 - userId: {}, couponId: {}", command.userId(), command.couponId());
+        log.info("쿠폰 발급 스트림 적재 완료 - userId: {}, couponId: {}", command.userId(), command.couponId());
     }
 
     /**
@@ -0,0 +1,38 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponBulkIssueJob;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueJobService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeCouponBulkIssueUseCase {
+
+    private final CouponBulkIssueJobService couponBulkIssueJobService;
+    private final CouponBulkIssueRunner couponBulkIssueRunner;
+
+    /**
+     * 쿠폰 일괄 발급 작업 재개
+     * - 마지막으로 완료한 청크 다음부터 이어서 실행
+     */
+    public CouponBulkIssueJob execute(String jobId) {
+        CouponBulkIssueJob job = couponBulkIssueJobService.getJob(jobId);
+
+        if (!job.status().isResumable() || couponBulkIssueJobService.isLeased(jobId)) {
+            throw new CouponException(ErrorCode.COUPON_BULK_ISSUE_JOB_NOT_RESUMABLE);
+        }
+
+        couponBulkIssueJobService.updateStatus(jobId, CouponBulkIssueStatus.RUNNING, null);
+        log.info("쿠폰 일괄 발급 작업 재개 - jobId: {}, cursor: {}", jobId, job.cursor());
+
+        couponBulkIssueRunner.run(jobId);
+        return couponBulkIssueJobService.getJob(jobId);
+    }
+}
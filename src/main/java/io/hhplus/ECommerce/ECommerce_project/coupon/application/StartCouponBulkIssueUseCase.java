@@ -0,0 +1,52 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.StartCouponBulkIssueCommand;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponBulkIssueJob;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueSource;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueJobService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueRunner;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponFinderService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.service.CouponDomainService;
+import io.hhplus.ECommerce.ECommerce_project.user.application.service.UserFinderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StartCouponBulkIssueUseCase {
+
+    private final CouponDomainService couponDomainService;
+    private final CouponFinderService couponFinderService;
+    private final UserFinderService userFinderService;
+    private final CouponBulkIssueJobService couponBulkIssueJobService;
+    private final CouponBulkIssueRunner couponBulkIssueRunner;
+
+    /**
+     * 쿠폰 일괄 발급 작업 시작
+     * - 작업 상태를 등록하고 즉시 반환, 발급은 백그라운드에서 청크 단위로 진행
+     * - 진행 상황은 작업 ID로 조회
+     */
+    public CouponBulkIssueJob execute(StartCouponBulkIssueCommand command) {
+
+        couponDomainService.validateId(command.couponId());
+
+        Coupon coupon = couponFinderService.getCoupon(command.couponId());
+        coupon.validateAvailability();
+
+        String jobId;
+        if (command.userIdFile() != null) {
+            jobId = couponBulkIssueJobService.create(coupon.getId(), CouponBulkIssueSource.FILE, 0);
+            long userCount = couponBulkIssueJobService.appendFileUserIds(jobId, command.userIdFile());
+            log.info("쿠폰 일괄 발급 대상 파일 적재 - jobId: {}, 대상수: {}", jobId, userCount);
+        } else {
+            jobId = couponBulkIssueJobService.create(coupon.getId(), CouponBulkIssueSource.ALL_USERS,
+                    userFinderService.countUsers());
+        }
+
+        couponBulkIssueRunner.run(jobId);
+        return couponBulkIssueJobService.getJob(jobId);
+    }
+}
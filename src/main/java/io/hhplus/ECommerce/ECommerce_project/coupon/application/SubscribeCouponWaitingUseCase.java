@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponWaitingNotifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@RequiredArgsConstructor
+public class SubscribeCouponWaitingUseCase {
+
+    private final CouponWaitingNotifier couponWaitingNotifier;
+
+    public SseEmitter execute(String token) {
+        return couponWaitingNotifier.subscribe(token);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.command;
+
+import java.io.InputStream;
+
+/**
+ * @param userIdFile 대상 사용자 ID 파일 (한 줄에 하나), null이면 전체 사용자
+ */
+public record StartCouponBulkIssueCommand(
+    Long couponId,
+    InputStream userIdFile
+) {}
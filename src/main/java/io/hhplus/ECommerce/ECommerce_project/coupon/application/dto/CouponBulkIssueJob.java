@@ -0,0 +1,42 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueSource;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 일괄 발급 작업 진행 상태
+ *
+ * @param cursor 다음 청크 시작 위치 (ALL_USERS: 마지막 처리 userId, FILE: 처리한 줄 수)
+ * @param totalCount 대상 사용자 수 (작업 시작 시점 기준)
+ * @param processedCount 처리한 대상 수
+ * @param issuedCount 새로 발급한 수
+ * @param skippedCount 이미 발급받았거나 수량 초과로 건너뛴 수
+ * @param failedCount 저장할 수 없어 발급을 취소한 수 (존재하지 않는 사용자 등)
+ */
+public record CouponBulkIssueJob(
+        String jobId,
+        Long couponId,
+        CouponBulkIssueSource source,
+        CouponBulkIssueStatus status,
+        long cursor,
+        long totalCount,
+        long processedCount,
+        long issuedCount,
+        long skippedCount,
+        long failedCount,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt,
+        String lastError
+) {
+
+    /**
+     * 처리량 (초당 처리 대상 수)
+     */
+    public double throughputPerSecond() {
+        long elapsedMillis = Duration.between(startedAt, updatedAt).toMillis();
+        return elapsedMillis > 0 ? processedCount * 1000.0 / elapsedMillis : 0.0;
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.dto;
+
+/**
+ * 쿠폰 발급 스트림 레코드 (Redis 발급 성공 1건)
+ */
+public record CouponIssueRecord(
+        Long userId,
+        Long couponId
+) {
+    public static CouponIssueRecord of(Long userId, Long couponId) {
+        return new CouponIssueRecord(userId, couponId);
+    }
+}
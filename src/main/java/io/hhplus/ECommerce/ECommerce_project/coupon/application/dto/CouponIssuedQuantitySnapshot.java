@@ -0,0 +1,14 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.dto;
+
+/**
+ * 쿠폰 발급 수량 정합성 검증용 스냅샷
+ *
+ * @param issuedQuantity coupons.issued_quantity (집계값)
+ * @param persistedCount user_coupons 저장 건수 (실제 발급 기록)
+ */
+public record CouponIssuedQuantitySnapshot(
+        Long couponId,
+        int issuedQuantity,
+        long persistedCount
+) {
+}
@@ -0,0 +1,19 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponWaitingStatus;
+
+/**
+ * 쿠폰 발급 대기열 토큰 상태
+ *
+ * @param position 대기 순번 (1부터 시작, 대기 중이 아니면 null)
+ * @param reason 발급 실패 사유 (실패가 아니면 null)
+ */
+public record CouponWaitingTicket(
+        String token,
+        Long userId,
+        Long couponId,
+        CouponWaitingStatus status,
+        Long position,
+        String reason
+) {
+}
@@ -0,0 +1,20 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.enums;
+
+/**
+ * 쿠폰 일괄 발급 대상 사용자 출처
+ */
+public enum CouponBulkIssueSource {
+
+    ALL_USERS("전체 사용자 (users 테이블 ID 순)"),
+    FILE("업로드한 사용자 ID 파일");
+
+    private final String description;
+
+    CouponBulkIssueSource(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
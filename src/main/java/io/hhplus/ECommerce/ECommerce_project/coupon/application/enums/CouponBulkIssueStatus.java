@@ -0,0 +1,26 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.enums;
+
+public enum CouponBulkIssueStatus {
+
+    RUNNING("진행 중"),
+    PAUSED("실패로 중단 (재개 가능)"),
+    COMPLETED("모든 대상 처리 완료"),
+    SOLD_OUT("수량 소진으로 종료");
+
+    private final String description;
+
+    CouponBulkIssueStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 재개 가능 여부
+     */
+    public boolean isResumable() {
+        return this == RUNNING || this == PAUSED;
+    }
+}
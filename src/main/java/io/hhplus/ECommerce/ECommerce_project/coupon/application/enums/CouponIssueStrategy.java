@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.enums;
+
+public enum CouponIssueStrategy {
+
+    SORTED_SET("Sorted Set 순위 기반"),
+    COUNTER_SET("발급 카운터 + 발급자 Set");
+
+    private final String description;
+
+    CouponIssueStrategy(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
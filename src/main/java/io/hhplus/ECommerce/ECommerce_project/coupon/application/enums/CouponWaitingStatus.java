@@ -0,0 +1,27 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.enums;
+
+public enum CouponWaitingStatus {
+
+    WAITING("입장 대기"),
+    ADMITTED("입장 완료, 발급 처리 중"),
+    ISSUED("발급 성공"),
+    SOLD_OUT("수량 소진"),
+    FAILED("발급 실패");
+
+    private final String description;
+
+    CouponWaitingStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 최종 상태 여부
+     */
+    public boolean isFinished() {
+        return this == ISSUED || this == SOLD_OUT || this == FAILED;
+    }
+}
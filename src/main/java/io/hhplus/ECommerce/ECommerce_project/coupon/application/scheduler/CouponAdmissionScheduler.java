@@ -0,0 +1,107 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.IssueCouponUseCase;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.IssueCouponCommand;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponWaitingTicket;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponWaitingStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponWaitingNotifier;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponWaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 대기열 입장 스케줄러
+ * - 100ms마다 쿠폰별 대기열 앞에서 허가된 토큰을 꺼내 발급 처리 (초당 허가 수는 Redis 카운터로 전 노드 합산 제한)
+ * - 발급 결과를 토큰에 기록하고 SSE 구독자에게 알림
+ * - 수량이 소진되면 남은 대기 토큰을 일괄 SOLD_OUT 처리
+ * - 100ms 주기가 다른 스케줄 작업에 밀리지 않도록 스케줄러 스레드 풀 사용 (spring.task.scheduling.pool.size)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponAdmissionScheduler {
+
+    private final CouponWaitingRoomService couponWaitingRoomService;
+    private final CouponWaitingNotifier couponWaitingNotifier;
+    private final IssueCouponUseCase issueCouponUseCase;
+
+    private static final int TICKS_PER_SECOND = 10;
+
+    @Scheduled(fixedRate = 100)
+    public void admitWaitingUsers() {
+        if (!couponWaitingRoomService.isEnabled()) {
+            return;
+        }
+
+        for (Long couponId : couponWaitingRoomService.getActiveCouponIds()) {
+            try {
+                admit(couponId);
+            } catch (Exception e) {
+                log.error("쿠폰 대기열 입장 처리 실패 - couponId: {}", couponId, e);
+            }
+        }
+    }
+
+    /**
+     * 쿠폰 하나의 대기열 입장 처리 (1틱)
+     * - 허가된 토큰을 입장 순서대로 발급하고, 결과 기록 후 알림 발행
+     */
+    public void admit(Long couponId) {
+        // 틱당 허가 수 = 초당 허가 수를 틱 수로 나눈 값 (초 경계의 몰림 방지)
+        int maxPerTick = Math.max(1, (couponWaitingRoomService.getAdmitsPerSecond() + TICKS_PER_SECOND - 1) / TICKS_PER_SECOND);
+        List<String> admitted = couponWaitingRoomService.admit(couponId, maxPerTick);
+
+        List<String> completed = new ArrayList<>();
+        boolean soldOut = false;
+
+        for (String token : admitted) {
+            CouponWaitingTicket ticket;
+            try {
+                ticket = couponWaitingRoomService.getTicket(token);
+            } catch (CouponException e) {
+                continue; // 토큰 만료
+            }
+
+            if (soldOut) {
+                couponWaitingRoomService.complete(token, CouponWaitingStatus.SOLD_OUT, ErrorCode.COUPON_ALL_ISSUED.getMessage());
+                completed.add(token);
+                continue;
+            }
+
+            try {
+                issueCouponUseCase.execute(new IssueCouponCommand(ticket.userId(), couponId));
+                couponWaitingRoomService.complete(token, CouponWaitingStatus.ISSUED, null);
+
+            } catch (CouponException e) {
+                // Lua Script는 중복 발급과 수량 소진을 같은 실패로 반환하므로 발급 수로 구분
+                if (e.getErrorCode() == ErrorCode.COUPON_ALL_ISSUED && couponWaitingRoomService.isSoldOut(couponId)) {
+                    soldOut = true;
+                    couponWaitingRoomService.complete(token, CouponWaitingStatus.SOLD_OUT, e.getMessage());
+                } else {
+                    couponWaitingRoomService.complete(token, CouponWaitingStatus.FAILED, e.getMessage());
+                }
+
+            } catch (Exception e) {
+                log.error("대기열 쿠폰 발급 실패 - couponId: {}, token: {}", couponId, token, e);
+                couponWaitingRoomService.complete(token, CouponWaitingStatus.FAILED, ErrorCode.COUPON_ISSUE_FAILED.getMessage());
+            }
+            completed.add(token);
+        }
+
+        couponWaitingNotifier.publish(completed);
+
+        // 수량 소진 시 남은 대기 토큰 일괄 정리
+        if (soldOut || couponWaitingRoomService.isSoldOut(couponId)) {
+            couponWaitingRoomService.drainSoldOut(couponId, couponWaitingNotifier::publish);
+        } else if (admitted.isEmpty()) {
+            couponWaitingRoomService.deactivateIfEmpty(couponId);
+        }
+    }
+}
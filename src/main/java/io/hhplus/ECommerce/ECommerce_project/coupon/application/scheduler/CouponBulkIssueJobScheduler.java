@@ -0,0 +1,39 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponBulkIssueJob;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueJobService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중단된 쿠폰 일괄 발급 작업 재개 스케줄러
+ * - 1분마다 RUNNING 상태인데 실행 점유가 만료된 작업(실행 노드 장애/재기동)을 찾아 이어서 실행
+ * - PAUSED 작업은 원인 확인 후 재개 API로만 재개
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponBulkIssueJobScheduler {
+
+    private final CouponBulkIssueJobService couponBulkIssueJobService;
+    private final CouponBulkIssueRunner couponBulkIssueRunner;
+
+    @Scheduled(fixedDelay = 60000) // 60초 = 1분
+    public void resumeAbandonedJobs() {
+        for (String jobId : couponBulkIssueJobService.getActiveJobIds()) {
+            try {
+                CouponBulkIssueJob job = couponBulkIssueJobService.getJob(jobId);
+                if (job.status() == CouponBulkIssueStatus.RUNNING && !couponBulkIssueJobService.isLeased(jobId)) {
+                    log.warn("중단된 쿠폰 일괄 발급 작업 재개 - jobId: {}, cursor: {}", jobId, job.cursor());
+                    couponBulkIssueRunner.run(jobId);
+                }
+            } catch (Exception e) {
+                log.error("쿠폰 일괄 발급 작업 재개 실패 - jobId: {}", jobId, e);
+            }
+        }
+    }
+}
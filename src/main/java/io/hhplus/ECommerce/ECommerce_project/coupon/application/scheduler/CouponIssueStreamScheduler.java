@@ -0,0 +1,128 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponIssueRecord;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponIssueStreamService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.RedisCouponService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 쿠폰 발급 스트림 소비 스케줄러
+ *
+ * 발급 1건마다 조회 2회 + 저장 + 수량 증가 트랜잭션을 여는 대신:
+ * 1. 100ms마다 스트림에서 최대 500건씩 읽음 (이전에 ACK하지 못한 레코드부터)
+ * 2. user_coupons INSERT는 JDBC batch로, issued_quantity는 쿠폰당 UPDATE 1건으로 한 트랜잭션에 반영 (분산 락 없음)
+ * 3. 커밋 후 ACK, 실패 시 ACK하지 않으므로 다음 주기(또는 재기동 후)에 같은 레코드부터 재처리
+ * 4. 배치 저장이 데이터 오류로 실패하면 건별로 저장하고, 저장할 수 없는 건(존재하지 않는 사용자 등)은 Redis 발급을 취소
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueStreamScheduler {
+
+    private final CouponIssueStreamService couponIssueStreamService;
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final RedisCouponService redisCouponService;
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    @Scheduled(fixedDelay = 100)
+    public void drainIssuedCoupons() {
+        // 같은 소비자의 PEL을 동시에 처리하지 않도록 직렬화
+        drainLock.lock();
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                List<MapRecord<String, Object, Object>> records = couponIssueStreamService.readPending(BATCH_SIZE);
+                if (records.isEmpty()) {
+                    records = couponIssueStreamService.readNew(BATCH_SIZE);
+                }
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                if (!processBatch(records)) {
+                    break;  // DB 장애 등: PEL에 남겨 두고 다음 주기에 재시도
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("쿠폰 발급 스트림 처리 실패", e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 처리하다 방치한 레코드 회수 (30초마다)
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void claimAbandonedRecords() {
+        try {
+            couponIssueStreamService.claimAbandoned(BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("방치된 쿠폰 발급 레코드 회수 실패", e);
+        }
+    }
+
+    /**
+     * @return 배치 처리(ACK 포함) 완료 여부
+     */
+    private boolean processBatch(List<MapRecord<String, Object, Object>> records) {
+        List<RecordId> recordIds = new ArrayList<>(records.size());
+        Set<CouponIssueRecord> issueRecords = new LinkedHashSet<>();
+
+        for (MapRecord<String, Object, Object> record : records) {
+            recordIds.add(record.getId());
+
+            CouponIssueRecord issueRecord = couponIssueStreamService.toIssueRecord(record);
+            if (issueRecord != null) {
+                issueRecords.add(issueRecord);  // 같은 배치 내 중복 제거
+            }
+        }
+
+        try {
+            int savedCount = userCouponJdbcRepository.saveIssuedCoupons(new ArrayList<>(issueRecords));
+            log.debug("쿠폰 발급 일괄 저장 완료: 레코드={}, 신규 저장={}", records.size(), savedCount);
+
+        } catch (DataIntegrityViolationException e) {
+            log.warn("쿠폰 발급 일괄 저장 실패, 건별 저장으로 전환: 레코드={}", records.size(), e);
+            saveOneByOne(issueRecords);
+
+        } catch (Exception e) {
+            log.error("쿠폰 발급 일괄 저장 실패, 다음 주기에 재시도: 레코드={}", records.size(), e);
+            return false;
+        }
+
+        couponIssueStreamService.acknowledge(recordIds);
+        return true;
+    }
+
+    private void saveOneByOne(Set<CouponIssueRecord> issueRecords) {
+        for (CouponIssueRecord issueRecord : issueRecords) {
+            try {
+                userCouponJdbcRepository.saveIssuedCoupons(List.of(issueRecord));
+
+            } catch (DataIntegrityViolationException e) {
+                // 저장 불가능한 발급 건 (존재하지 않는 사용자/쿠폰 등) → Redis 발급 취소
+                log.error("쿠폰 발급 DB 저장 불가, Redis 발급 취소 - userId: {}, couponId: {}",
+                        issueRecord.userId(), issueRecord.couponId(), e);
+                redisCouponService.cancelIssueCoupon(issueRecord.couponId(), issueRecord.userId());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponIssuedQuantitySnapshot;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.RedisCouponService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 수량 정합성 검증 스케줄러
+ *
+ * issued_quantity는 발급 스트림 소비자가 배치마다 쿠폰당 UPDATE 1건(issued_quantity + ?)으로 합산 반영하므로
+ * 발급 1건마다 분산 락을 잡지 않는다. 대신 1분마다 아래를 대조한다:
+ * 1. DB issued_quantity ≠ user_coupons 저장 건수 → user_coupons를 정답으로 issued_quantity 보정
+ * 2. Redis 발급 수(ZCARD/카운터) < user_coupons 저장 건수 → Redis 발급 데이터 유실 (초과 발급 위험), 경고만 기록
+ *    (Redis 발급 수가 더 큰 것은 스트림에 아직 저장되지 않은 발급 건이므로 정상)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssuedQuantityReconcileScheduler {
+
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final RedisCouponService redisCouponService;
+    private final MeterRegistry meterRegistry;
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Scheduled(fixedDelay = 60000) // 60초 = 1분
+    public void reconcileIssuedQuantity() {
+        long lastId = 0L;
+        int dbMismatchCount = 0;
+        int redisMissingCount = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            while (true) {
+                List<CouponIssuedQuantitySnapshot> chunk =
+                        userCouponJdbcRepository.findIssuedQuantitySnapshots(lastId, now, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                for (CouponIssuedQuantitySnapshot snapshot : chunk) {
+                    if (snapshot.issuedQuantity() != snapshot.persistedCount()) {
+                        dbMismatchCount++;
+                        log.warn("쿠폰 발급 수량 불일치, 보정: couponId={}, issued_quantity={}, 저장 건수={}",
+                                snapshot.couponId(), snapshot.issuedQuantity(), snapshot.persistedCount());
+                        userCouponJdbcRepository.syncIssuedQuantity(snapshot.couponId());
+                    }
+
+                    long redisCount = redisCouponService.getIssuedCount(snapshot.couponId());
+                    if (redisCount < snapshot.persistedCount()) {
+                        redisMissingCount++;
+                        log.error("Redis 쿠폰 발급 수가 DB보다 적음 (초과 발급 위험): couponId={}, Redis={}, 저장 건수={}",
+                                snapshot.couponId(), redisCount, snapshot.persistedCount());
+                    }
+                }
+
+                lastId = chunk.get(chunk.size() - 1).couponId();
+                if (chunk.size() < CHUNK_SIZE) {
+                    break;
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("쿠폰 발급 수량 정합성 검증 실패", e);
+        }
+
+        recordCount("db", dbMismatchCount);
+        recordCount("redis", redisMissingCount);
+    }
+
+    private void recordCount(String type, int count) {
+        Counter.builder("coupon.issued_quantity.mismatches")
+                .description("쿠폰 발급 수량 정합성 검증 불일치 건수")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
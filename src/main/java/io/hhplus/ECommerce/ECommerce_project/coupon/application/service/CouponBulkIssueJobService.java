@@ -0,0 +1,327 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponBulkIssueJob;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueSource;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 쿠폰 일괄 발급 작업 상태 저장소 (Redis)
+ *
+ * - 작업 상태: coupon:bulk:job:{jobId} (Hash, 커서와 집계값)
+ * - 파일 대상 사용자: coupon:bulk:{jobId}:users (List, 업로드 시 1,000건씩 RPUSH)
+ * - 처리 중 청크: coupon:bulk:{jobId}:inflight (List, Redis 예약과 동시에 기록되고 DB 저장 후 삭제)
+ * - 실행 점유: coupon:bulk:{jobId}:lease (한 작업을 한 노드에서만 실행, 청크마다 연장)
+ * - 진행 중 작업 목록: coupon:bulk:jobs (Set, 노드 장애 후 다른 노드가 이어서 실행)
+ *
+ * 커서 이동, 집계값 증가, 처리 중 목록 삭제는 MULTI로 함께 반영하므로
+ * 어느 시점에 중단되어도 마지막으로 완료한 청크 다음부터 재개된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponBulkIssueJobService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String JOB_PREFIX = "coupon:bulk:job:";
+    private static final String BULK_PREFIX = "coupon:bulk:";
+    private static final String USERS_SUFFIX = ":users";
+    private static final String INFLIGHT_SUFFIX = ":inflight";
+    private static final String LEASE_SUFFIX = ":lease";
+    private static final String ACTIVE_JOBS_KEY = "coupon:bulk:jobs";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final Duration FINISHED_JOB_TTL = Duration.ofDays(7);
+    private static final int FILE_PUSH_CHUNK_SIZE = 1000;
+
+    private static final String COUPON_ID = "couponId";
+    private static final String SOURCE = "source";
+    private static final String STATUS = "status";
+    private static final String CURSOR = "cursor";
+    private static final String TOTAL_COUNT = "totalCount";
+    private static final String PROCESSED_COUNT = "processedCount";
+    private static final String ISSUED_COUNT = "issuedCount";
+    private static final String SKIPPED_COUNT = "skippedCount";
+    private static final String FAILED_COUNT = "failedCount";
+    private static final String STARTED_AT = "startedAt";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String LAST_ERROR = "lastError";
+
+    private final String leaseOwner = resolveLeaseOwner();
+
+    /**
+     * 작업 생성 (RUNNING 상태로 등록)
+     */
+    public String create(Long couponId, CouponBulkIssueSource source, long totalCount) {
+        String jobId = UUID.randomUUID().toString();
+        String now = String.valueOf(System.currentTimeMillis());
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(COUPON_ID, couponId.toString());
+        fields.put(SOURCE, source.name());
+        fields.put(STATUS, CouponBulkIssueStatus.RUNNING.name());
+        fields.put(CURSOR, "0");
+        fields.put(TOTAL_COUNT, String.valueOf(totalCount));
+        fields.put(PROCESSED_COUNT, "0");
+        fields.put(ISSUED_COUNT, "0");
+        fields.put(SKIPPED_COUNT, "0");
+        fields.put(FAILED_COUNT, "0");
+        fields.put(STARTED_AT, now);
+        fields.put(UPDATED_AT, now);
+
+        redisTemplate.opsForHash().putAll(jobKey(jobId), fields);
+        redisTemplate.opsForSet().add(ACTIVE_JOBS_KEY, jobId);
+        return jobId;
+    }
+
+    /**
+     * 업로드 파일의 사용자 ID를 작업 대상 List에 적재 (한 줄에 하나, 빈 줄 무시)
+     * - 1,000건씩 RPUSH 1회로 적재
+     *
+     * @return 적재한 사용자 수
+     */
+    public long appendFileUserIds(String jobId, InputStream userIdFile) {
+        String usersKey = usersKey(jobId);
+        long count = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(userIdFile, StandardCharsets.UTF_8))) {
+            List<String> buffer = new ArrayList<>(FILE_PUSH_CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String userId = line.trim();
+                if (userId.isEmpty()) {
+                    continue;
+                }
+                Long.parseLong(userId);  // 형식 검증
+                buffer.add(userId);
+
+                if (buffer.size() == FILE_PUSH_CHUNK_SIZE) {
+                    pushAll(usersKey, buffer);
+                    count += buffer.size();
+                    buffer.clear();
+                }
+            }
+            if (!buffer.isEmpty()) {
+                pushAll(usersKey, buffer);
+                count += buffer.size();
+            }
+
+        } catch (IOException | NumberFormatException e) {
+            delete(jobId);
+            throw new CouponException(ErrorCode.COUPON_BULK_ISSUE_FILE_INVALID);
+        }
+
+        redisTemplate.opsForHash().put(jobKey(jobId), TOTAL_COUNT, String.valueOf(count));
+        return count;
+    }
+
+    /**
+     * 파일 대상 사용자 청크 조회
+     *
+     * @param offset 시작 위치 (처리한 줄 수)
+     */
+    public List<Long> getFileUserIds(String jobId, long offset, int size) {
+        List<String> userIds = redisTemplate.opsForList().range(usersKey(jobId), offset, offset + size - 1);
+        if (userIds == null) {
+            return List.of();
+        }
+        return userIds.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public CouponBulkIssueJob getJob(String jobId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(jobKey(jobId));
+        if (fields.isEmpty()) {
+            throw new CouponException(ErrorCode.COUPON_BULK_ISSUE_JOB_NOT_FOUND);
+        }
+
+        Object lastError = fields.get(LAST_ERROR);
+        return new CouponBulkIssueJob(
+                jobId,
+                Long.valueOf(fields.get(COUPON_ID).toString()),
+                CouponBulkIssueSource.valueOf(fields.get(SOURCE).toString()),
+                CouponBulkIssueStatus.valueOf(fields.get(STATUS).toString()),
+                longField(fields, CURSOR),
+                longField(fields, TOTAL_COUNT),
+                longField(fields, PROCESSED_COUNT),
+                longField(fields, ISSUED_COUNT),
+                longField(fields, SKIPPED_COUNT),
+                longField(fields, FAILED_COUNT),
+                toDateTime(longField(fields, STARTED_AT)),
+                toDateTime(longField(fields, UPDATED_AT)),
+                lastError != null ? lastError.toString() : null
+        );
+    }
+
+    /**
+     * 처리 중 청크 List 키 (일괄 발급 Lua Script가 새로 발급한 사용자를 기록)
+     */
+    public String inflightKey(String jobId) {
+        return BULK_PREFIX + jobId + INFLIGHT_SUFFIX;
+    }
+
+    /**
+     * 처리 중 청크의 발급 사용자 (이전 실행에서 예약만 되고 저장되지 않은 사용자 포함)
+     */
+    public List<Long> getInflightUserIds(String jobId) {
+        List<String> userIds = redisTemplate.opsForList().range(inflightKey(jobId), 0, -1);
+        if (userIds == null) {
+            return List.of();
+        }
+        return userIds.stream()
+                .map(Long::valueOf)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 청크 완료 반영 (커서 이동 + 집계 + 처리 중 목록 삭제를 MULTI로 원자 반영)
+     */
+    public void completeChunk(String jobId, long nextCursor, long processed, long issued, long skipped, long failed) {
+        String jobKey = jobKey(jobId);
+        String inflightKey = inflightKey(jobId);
+
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                ops.opsForHash().put(jobKey, CURSOR, String.valueOf(nextCursor));
+                ops.opsForHash().increment(jobKey, PROCESSED_COUNT, processed);
+                ops.opsForHash().increment(jobKey, ISSUED_COUNT, issued);
+                ops.opsForHash().increment(jobKey, SKIPPED_COUNT, skipped);
+                ops.opsForHash().increment(jobKey, FAILED_COUNT, failed);
+                ops.opsForHash().put(jobKey, UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+                ops.delete(inflightKey);
+                return ops.exec();
+            }
+        });
+    }
+
+    /**
+     * 작업 상태 변경
+     * - 종료 상태(COMPLETED, SOLD_OUT)면 진행 중 목록에서 제거하고 7일 후 만료
+     */
+    public void updateStatus(String jobId, CouponBulkIssueStatus status, String lastError) {
+        String jobKey = jobKey(jobId);
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(STATUS, status.name());
+        fields.put(UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+        if (lastError != null) {
+            fields.put(LAST_ERROR, lastError);
+        }
+        redisTemplate.opsForHash().putAll(jobKey, fields);
+
+        if (!status.isResumable()) {
+            redisTemplate.opsForSet().remove(ACTIVE_JOBS_KEY, jobId);
+            redisTemplate.delete(List.of(usersKey(jobId), inflightKey(jobId)));
+            redisTemplate.expire(jobKey, FINISHED_JOB_TTL);
+        }
+    }
+
+    /**
+     * 진행 중(RUNNING/PAUSED) 작업 ID 목록
+     */
+    public Set<String> getActiveJobIds() {
+        Set<String> jobIds = redisTemplate.opsForSet().members(ACTIVE_JOBS_KEY);
+        return jobIds != null ? jobIds : Set.of();
+    }
+
+    /**
+     * 실행 점유 획득 (다른 노드가 실행 중이면 false)
+     */
+    public boolean tryAcquireLease(String jobId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(leaseKey(jobId), leaseOwner, LEASE_TTL));
+    }
+
+    /**
+     * 실행 점유 연장 (청크마다 호출)
+     */
+    public void renewLease(String jobId) {
+        redisTemplate.expire(leaseKey(jobId), LEASE_TTL);
+    }
+
+    /**
+     * 실행 점유 해제 (자신이 점유한 경우에만)
+     */
+    public void releaseLease(String jobId) {
+        String leaseKey = leaseKey(jobId);
+        if (leaseOwner.equals(redisTemplate.opsForValue().get(leaseKey))) {
+            redisTemplate.delete(leaseKey);
+        }
+    }
+
+    public boolean isLeased(String jobId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey(jobId)));
+    }
+
+    private void pushAll(String key, List<String> values) {
+        redisTemplate.opsForList().rightPushAll(key, values);
+    }
+
+    private void delete(String jobId) {
+        redisTemplate.delete(List.of(jobKey(jobId), usersKey(jobId), inflightKey(jobId)));
+        redisTemplate.opsForSet().remove(ACTIVE_JOBS_KEY, jobId);
+    }
+
+    private long longField(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private String jobKey(String jobId) {
+        return JOB_PREFIX + jobId;
+    }
+
+    private String usersKey(String jobId) {
+        return BULK_PREFIX + jobId + USERS_SUFFIX;
+    }
+
+    private String leaseKey(String jobId) {
+        return BULK_PREFIX + jobId + LEASE_SUFFIX;
+    }
+
+    private static String resolveLeaseOwner() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + ":" + UUID.randomUUID();
+        } catch (Exception e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponBulkIssueJob;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponIssueRecord;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueSource;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponJdbcRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.application.service.UserFinderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 쿠폰 일괄 발급 작업 실행기
+ *
+ * 대상 사용자를 1,000명 청크로 순회하며:
+ * 1. Lua Script 1회로 청크 전체를 Redis에 예약 (새로 발급된 사용자는 처리 중 목록에 함께 기록)
+ * 2. 처리 중 목록의 사용자를 user_coupons에 JDBC batch INSERT (issued_quantity는 쿠폰당 UPDATE 1건)
+ * 3. 커서/집계값 갱신과 처리 중 목록 삭제를 원자적으로 반영
+ *
+ * - 중단된 작업은 마지막 완료 청크 다음부터 재개 (이전 실행의 처리 중 목록도 함께 저장)
+ * - DB 저장이 반복 실패하면 PAUSED로 멈추고, 저장할 수 없는 사용자(존재하지 않는 ID 등)는 Redis 발급 취소 후 실패로 집계
+ * - 처리 결과는 coupon.bulk_issue.users{result=issued|skipped|failed} 메트릭으로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponBulkIssueRunner {
+
+    private final CouponBulkIssueJobService couponBulkIssueJobService;
+    private final CouponFinderService couponFinderService;
+    private final UserFinderService userFinderService;
+    private final RedisCouponService redisCouponService;
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 500;
+    private static final int PROGRESS_LOG_INTERVAL = 100;
+
+    /**
+     * 작업 실행 (이미 다른 노드가 실행 중이면 아무것도 하지 않음)
+     */
+    @Async
+    public void run(String jobId) {
+        if (!couponBulkIssueJobService.tryAcquireLease(jobId)) {
+            log.debug("쿠폰 일괄 발급 작업이 다른 노드에서 실행 중 - jobId: {}", jobId);
+            return;
+        }
+
+        try {
+            execute(jobId);
+
+        } catch (Exception e) {
+            log.error("쿠폰 일괄 발급 작업 중단, 재개 필요 - jobId: {}", jobId, e);
+            couponBulkIssueJobService.updateStatus(jobId, CouponBulkIssueStatus.PAUSED, e.getMessage());
+
+        } finally {
+            couponBulkIssueJobService.releaseLease(jobId);
+        }
+    }
+
+    private void execute(String jobId) {
+        CouponBulkIssueJob job = couponBulkIssueJobService.getJob(jobId);
+        if (job.status() != CouponBulkIssueStatus.RUNNING) {
+            return;
+        }
+
+        Coupon coupon = couponFinderService.getCoupon(job.couponId());
+        int maxQuantity = coupon.getTotalQuantity();
+        String inflightKey = couponBulkIssueJobService.inflightKey(jobId);
+
+        log.info("쿠폰 일괄 발급 작업 시작 - jobId: {}, couponId: {}, source: {}, cursor: {}",
+                jobId, job.couponId(), job.source(), job.cursor());
+
+        long cursor = job.cursor();
+        int chunkCount = 0;
+
+        while (true) {
+            // 1. 다음 청크 조회
+            List<Long> userIds = nextUserIds(job, cursor);
+            if (userIds.isEmpty()) {
+                couponBulkIssueJobService.updateStatus(jobId, CouponBulkIssueStatus.COMPLETED, null);
+                break;
+            }
+            long nextCursor = job.source() == CouponBulkIssueSource.ALL_USERS
+                    ? userIds.get(userIds.size() - 1)
+                    : cursor + userIds.size();
+
+            // 2. Redis 일괄 예약 (Lua Script 1회)
+            redisCouponService.tryIssueCoupons(job.couponId(), userIds, maxQuantity, inflightKey);
+
+            // 3. 처리 중 목록 저장 (이전 실행에서 예약만 된 사용자 포함)
+            List<Long> issuedUserIds = couponBulkIssueJobService.getInflightUserIds(jobId);
+            int failedCount = save(job.couponId(), issuedUserIds);
+            int issuedCount = issuedUserIds.size() - failedCount;
+            int skippedCount = Math.max(0, userIds.size() - issuedUserIds.size());
+
+            // 4. 커서/집계 반영
+            couponBulkIssueJobService.completeChunk(jobId, nextCursor, userIds.size(), issuedCount, skippedCount, failedCount);
+            couponBulkIssueJobService.renewLease(jobId);
+            recordCount("issued", issuedCount);
+            recordCount("skipped", skippedCount);
+            recordCount("failed", failedCount);
+
+            cursor = nextCursor;
+            if (++chunkCount % PROGRESS_LOG_INTERVAL == 0) {
+                CouponBulkIssueJob progress = couponBulkIssueJobService.getJob(jobId);
+                log.info("쿠폰 일괄 발급 진행 - jobId: {}, 처리: {}/{}, 발급: {}, 처리량: {}/s",
+                        jobId, progress.processedCount(), progress.totalCount(), progress.issuedCount(),
+                        String.format("%.1f", progress.throughputPerSecond()));
+            }
+
+            // 5. 수량 소진 시 종료
+            if (issuedUserIds.size() < userIds.size()
+                    && redisCouponService.getIssuedCount(job.couponId()) >= maxQuantity) {
+                couponBulkIssueJobService.updateStatus(jobId, CouponBulkIssueStatus.SOLD_OUT, null);
+                break;
+            }
+        }
+
+        CouponBulkIssueJob finished = couponBulkIssueJobService.getJob(jobId);
+        log.info("쿠폰 일괄 발급 작업 종료 - jobId: {}, status: {}, 처리: {}, 발급: {}, 건너뜀: {}, 실패: {}, 처리량: {}/s",
+                jobId, finished.status(), finished.processedCount(), finished.issuedCount(),
+                finished.skippedCount(), finished.failedCount(), String.format("%.1f", finished.throughputPerSecond()));
+    }
+
+    private List<Long> nextUserIds(CouponBulkIssueJob job, long cursor) {
+        if (job.source() == CouponBulkIssueSource.ALL_USERS) {
+            return userFinderService.getUserIdsAfter(cursor, CHUNK_SIZE);
+        }
+        return couponBulkIssueJobService.getFileUserIds(job.jobId(), cursor, CHUNK_SIZE);
+    }
+
+    /**
+     * 발급 사용자 DB 저장
+     * - 일시적 실패는 재시도하고, 계속 실패하면 예외를 던져 작업을 멈춤 (처리 중 목록은 남아 재개 시 저장)
+     *
+     * @return 저장할 수 없어 발급을 취소한 수
+     */
+    private int save(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<CouponIssueRecord> records = userIds.stream()
+                .map(userId -> CouponIssueRecord.of(userId, couponId))
+                .toList();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                userCouponJdbcRepository.saveIssuedCoupons(records);
+                return 0;
+
+            } catch (DataIntegrityViolationException e) {
+                log.warn("쿠폰 일괄 발급 저장 실패, 건별 저장으로 전환 - couponId: {}, 대상수: {}", couponId, records.size());
+                return saveOneByOne(records);
+
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_SAVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("쿠폰 일괄 발급 저장 실패, 재시도 {}/{} - couponId: {}", attempt, MAX_SAVE_ATTEMPTS, couponId, e);
+                sleep(RETRY_BACKOFF_MILLIS * attempt);
+            }
+        }
+    }
+
+    private int saveOneByOne(List<CouponIssueRecord> records) {
+        int failedCount = 0;
+        for (CouponIssueRecord record : records) {
+            try {
+                userCouponJdbcRepository.saveIssuedCoupons(List.of(record));
+
+            } catch (DataIntegrityViolationException e) {
+                // 저장 불가능한 대상 (존재하지 않는 사용자 등) → Redis 발급 취소
+                log.warn("쿠폰 일괄 발급 대상 저장 불가, Redis 발급 취소 - userId: {}, couponId: {}",
+                        record.userId(), record.couponId());
+                redisCouponService.cancelIssueCoupon(record.couponId(), record.userId());
+                failedCount++;
+            }
+        }
+        return failedCount;
+    }
+
+    private void recordCount(String result, int count) {
+        if (count == 0) {
+            return;
+        }
+        Counter.builder("coupon.bulk_issue.users")
+                .description("쿠폰 일괄 발급 처리 대상 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 일괄 발급 저장 재시도 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponIssueRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 쿠폰 발급 스트림 서비스 (Redis Stream + Consumer Group)
+ *
+ * - Redis 발급 성공 건을 coupon:issue:stream에 적재 (XADD)
+ * - 소비자 그룹(coupon-issue-persister)이 배치 단위로 읽어 DB에 일괄 저장
+ * - 처리 완료 후 XACK + XDEL, 실패한 레코드는 PEL(Pending Entries List)에 남아 다음 주기에 재처리
+ * - 다른 인스턴스가 처리 중 죽어 오래 방치된 레코드는 XCLAIM으로 가져와 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueStreamService {
+
+    private static final String STREAM_KEY = "coupon:issue:stream";
+    private static final String GROUP_NAME = "coupon-issue-persister";
+    private static final String USER_ID_FIELD = "userId";
+    private static final String COUPON_ID_FIELD = "couponId";
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofSeconds(60);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String consumerName = resolveConsumerName();
+
+    /**
+     * 기동 시 소비자 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createGroupIfAbsent() {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> createGroup(connection));
+            log.info("쿠폰 발급 스트림 소비자 그룹 생성: stream={}, group={}", STREAM_KEY, GROUP_NAME);
+
+        } catch (RedisSystemException e) {
+            if (e.getMessage() != null && e.getMessage().contains("BUSYGROUP")) {
+                log.debug("쿠폰 발급 스트림 소비자 그룹 이미 존재: group={}", GROUP_NAME);
+                return;
+            }
+            log.error("쿠폰 발급 스트림 소비자 그룹 생성 실패", e);
+        }
+    }
+
+    /**
+     * 발급 성공 건 적재
+     *
+     * @return 스트림 레코드 ID
+     */
+    public RecordId append(Long userId, Long couponId) {
+        MapRecord<String, String, String> record = StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(Map.of(
+                        USER_ID_FIELD, userId.toString(),
+                        COUPON_ID_FIELD, couponId.toString()
+                ));
+
+        return redisTemplate.opsForStream().add(record);
+    }
+
+    /**
+     * 이 소비자에게 전달되었지만 아직 ACK되지 않은 레코드 조회 (재기동/실패 후 이어서 처리)
+     */
+    public List<MapRecord<String, Object, Object>> readPending(int count) {
+        return read(ReadOffset.from("0"), count);
+    }
+
+    /**
+     * 아직 어떤 소비자에게도 전달되지 않은 새 레코드 조회
+     */
+    public List<MapRecord<String, Object, Object>> readNew(int count) {
+        return read(ReadOffset.lastConsumed(), count);
+    }
+
+    /**
+     * 다른 소비자가 오래 처리하지 못한 레코드를 이 소비자로 가져옴
+     *
+     * @return 가져온 레코드 수
+     */
+    public int claimAbandoned(int count) {
+        PendingMessages pending = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, GROUP_NAME, Range.unbounded(), count);
+
+        RecordId[] abandonedIds = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (abandonedIds.length == 0) {
+            return 0;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                .claim(STREAM_KEY, GROUP_NAME, consumerName, CLAIM_MIN_IDLE, abandonedIds);
+
+        log.warn("방치된 쿠폰 발급 레코드 가져옴: {}건", claimed.size());
+        return claimed.size();
+    }
+
+    /**
+     * 처리 완료 레코드 ACK 후 스트림에서 삭제 (스트림 크기를 미처리분으로 유지)
+     */
+    public void acknowledge(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP_NAME, ids);
+        redisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    /**
+     * 스트림 레코드 → 발급 레코드 변환
+     *
+     * @return 필드가 올바르지 않으면 null
+     */
+    public CouponIssueRecord toIssueRecord(MapRecord<String, Object, Object> record) {
+        try {
+            Map<Object, Object> fields = record.getValue();
+            return CouponIssueRecord.of(
+                    Long.valueOf(fields.get(USER_ID_FIELD).toString()),
+                    Long.valueOf(fields.get(COUPON_ID_FIELD).toString())
+            );
+        } catch (RuntimeException e) {
+            log.error("잘못된 쿠폰 발급 스트림 레코드: id={}, value={}", record.getId(), record.getValue());
+            return null;
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset, int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP_NAME, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, offset)
+        );
+        return records != null ? records : List.of();
+    }
+
+    private String createGroup(RedisConnection connection) {
+        return connection.streamCommands().xGroupCreate(
+                STREAM_KEY.getBytes(StandardCharsets.UTF_8),
+                GROUP_NAME,
+                ReadOffset.from("0"),
+                true  // MKSTREAM
+        );
+    }
+
+    /**
+     * 재기동 후에도 같은 PEL을 이어받도록 호스트명을 소비자 이름으로 사용
+     */
+    private static String resolveConsumerName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "consumer-" + UUID.randomUUID();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponWaitingTicket;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponWaitingStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 발급 대기열 SSE 알림
+ *
+ * - SSE 연결은 노드 로컬에 보관하고, 상태 변경은 Redis Pub/Sub(coupon:waiting:status)로 모든 노드에 전파
+ * - 메시지를 받은 노드는 자신이 들고 있는 연결에만 최신 상태를 전송, 최종 상태면 연결 종료
+ * - 대기 중인 연결에는 1초마다 현재 순번을 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponWaitingNotifier implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CouponWaitingRoomService couponWaitingRoomService;
+
+    private static final String STATUS_CHANNEL = "coupon:waiting:status";
+    private static final String EVENT_NAME = "coupon-waiting";
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(10);
+
+    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(STATUS_CHANNEL));
+    }
+
+    /**
+     * 토큰 상태 구독 (현재 상태를 즉시 1회 전송)
+     */
+    public SseEmitter subscribe(String token) {
+        CouponWaitingTicket ticket = couponWaitingRoomService.getTicket(token);
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        emitter.onCompletion(() -> emitters.remove(token, emitter));
+        emitter.onTimeout(() -> emitters.remove(token, emitter));
+        emitter.onError(e -> emitters.remove(token, emitter));
+
+        emitters.put(token, emitter);
+        send(token, emitter, ticket);
+        return emitter;
+    }
+
+    /**
+     * 상태 변경 알림 (모든 노드로 전파)
+     */
+    public void publish(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(STATUS_CHANNEL, String.join(",", tokens));
+        } catch (Exception e) {
+            // 알림 실패는 발급 결과에 영향 없음 (클라이언트는 폴링으로 확인 가능)
+            log.warn("쿠폰 대기열 상태 알림 실패 - 토큰수: {}", tokens.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String token : body.split(",")) {
+            SseEmitter emitter = emitters.get(token);
+            if (emitter != null) {
+                refresh(token, emitter);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 연결에 현재 순번 전송 (1초마다)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void sendPositions() {
+        emitters.forEach(this::refresh);
+    }
+
+    private void refresh(String token, SseEmitter emitter) {
+        try {
+            send(token, emitter, couponWaitingRoomService.getTicket(token));
+        } catch (CouponException e) {
+            // 토큰 만료
+            emitters.remove(token, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void send(String token, SseEmitter emitter, CouponWaitingTicket ticket) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(ticket));
+
+            if (ticket.status().isFinished()) {
+                emitters.remove(token, emitter);
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            emitters.remove(token, emitter);
+        }
+    }
+}
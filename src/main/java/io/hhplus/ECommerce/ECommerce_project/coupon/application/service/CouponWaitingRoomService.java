@@ -0,0 +1,249 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.config.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.CouponException;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponWaitingTicket;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponWaitingStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 대기열(Waiting Room) 서비스
+ *
+ * 캠페인 시작 순간 몰리는 발급 요청을 바로 Lua Script로 보내는 대신:
+ * 1. 요청마다 토큰을 발급하고 쿠폰별 대기열(Sorted Set, 입장 순번)에 등록
+ * 2. 스케줄러가 초당 허가 수(coupon.waiting-room.admits-per-second)만큼 대기열 앞에서 꺼내 발급 처리
+ * 3. 클라이언트는 토큰으로 상태/순번을 조회하거나 SSE로 결과를 받음
+ * 4. 수량이 소진되면 남은 대기 토큰을 일괄로 SOLD_OUT 처리
+ *
+ * - 토큰 상태: coupon:waiting:token:{token} (Hash: userId, couponId, status, reason)
+ * - 허가 직후 노드가 죽으면 토큰은 ADMITTED 상태로 남고 TTL(30분) 후 만료됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponWaitingRoomService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final RedisCouponService redisCouponService;
+    private final RedisCouponMetadataService redisCouponMetadataService;
+    private final RedisScript<String> couponWaitingEnqueueScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> couponWaitingAdmitScript;
+    private final RedisScript<Long> couponWaitingDeactivateScript;
+
+    @Getter
+    @Value("${coupon.waiting-room.enabled:false}")
+    private boolean enabled;
+
+    @Getter
+    @Value("${coupon.waiting-room.admits-per-second:200}")
+    private int admitsPerSecond;
+
+    private static final String QUEUE_PREFIX = "coupon:waiting:";
+    private static final String SEQUENCE_SUFFIX = ":seq";
+    private static final String USER_INFIX = ":user:";
+    private static final String ADMITTED_INFIX = ":admitted:";
+    private static final String ACTIVE_COUPONS_KEY = "coupon:waiting:active";
+    private static final String TOKEN_PREFIX = "coupon:waiting:token:";
+    private static final Duration TOKEN_TTL = Duration.ofMinutes(30);
+    private static final int DRAIN_CHUNK_SIZE = 1000;
+
+    private static final String USER_ID_FIELD = "userId";
+    private static final String COUPON_ID_FIELD = "couponId";
+    private static final String STATUS_FIELD = "status";
+    private static final String REASON_FIELD = "reason";
+
+    /**
+     * 대기열 입장
+     * - 같은 사용자가 다시 요청하면 기존 토큰을 그대로 반환
+     * - 이미 수량이 소진된 쿠폰은 대기열에 넣지 않고 SOLD_OUT 토큰 반환
+     */
+    public CouponWaitingTicket enqueue(Long userId, Long couponId) {
+        if (isSoldOut(couponId)) {
+            return new CouponWaitingTicket(null, userId, couponId, CouponWaitingStatus.SOLD_OUT, null,
+                    ErrorCode.COUPON_ALL_ISSUED.getMessage());
+        }
+
+        String token = redisScriptRegistry.execute(
+                couponWaitingEnqueueScript,
+                List.of(queueKey(couponId), queueKey(couponId) + SEQUENCE_SUFFIX,
+                        queueKey(couponId) + USER_INFIX + userId, ACTIVE_COUPONS_KEY),
+                UUID.randomUUID().toString(),
+                couponId.toString(),
+                userId.toString(),
+                String.valueOf(TOKEN_TTL.toSeconds()),
+                TOKEN_PREFIX
+        );
+
+        return getTicket(token);
+    }
+
+    /**
+     * 토큰 상태 조회 (대기 중이면 현재 순번 포함)
+     */
+    public CouponWaitingTicket getTicket(String token) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(TOKEN_PREFIX + token);
+        if (fields.isEmpty()) {
+            throw new CouponException(ErrorCode.COUPON_WAITING_TOKEN_NOT_FOUND);
+        }
+
+        Long couponId = Long.valueOf(fields.get(COUPON_ID_FIELD).toString());
+        CouponWaitingStatus status = CouponWaitingStatus.valueOf(fields.get(STATUS_FIELD).toString());
+
+        Long position = null;
+        if (status == CouponWaitingStatus.WAITING) {
+            Long rank = redisTemplate.opsForZSet().rank(queueKey(couponId), token);
+            position = rank != null ? rank + 1 : null;
+        }
+
+        Object reason = fields.get(REASON_FIELD);
+        return new CouponWaitingTicket(
+                token,
+                Long.valueOf(fields.get(USER_ID_FIELD).toString()),
+                couponId,
+                status,
+                position,
+                reason != null ? reason.toString() : null
+        );
+    }
+
+    /**
+     * 대기열 앞에서 허가 가능한 만큼 꺼냄 (초당 허가 수는 모든 노드 합산 기준)
+     *
+     * @param maxCount 이번 호출에서 허가할 최대 수
+     * @return 허가된 토큰 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> admit(Long couponId, int maxCount) {
+        long epochSecond = System.currentTimeMillis() / 1000;
+
+        List<String> tokens = redisScriptRegistry.execute(
+                couponWaitingAdmitScript,
+                List.of(queueKey(couponId), queueKey(couponId) + ADMITTED_INFIX + epochSecond),
+                String.valueOf(admitsPerSecond),
+                String.valueOf(maxCount),
+                TOKEN_PREFIX
+        );
+        return tokens != null ? tokens : List.of();
+    }
+
+    /**
+     * 토큰 최종 상태 기록
+     */
+    public void complete(String token, CouponWaitingStatus status, String reason) {
+        String key = TOKEN_PREFIX + token;
+        if (reason != null) {
+            redisTemplate.opsForHash().putAll(key, Map.of(STATUS_FIELD, status.name(), REASON_FIELD, reason));
+        } else {
+            redisTemplate.opsForHash().put(key, STATUS_FIELD, status.name());
+        }
+    }
+
+    /**
+     * 수량 소진 시 남은 대기 토큰 일괄 SOLD_OUT 처리
+     * - ZPOPMIN으로 청크 단위로 꺼내고, 상태 변경은 파이프라인으로 한 번에 전송
+     *
+     * @param onDrained 청크마다 처리된 토큰 목록을 전달받는 콜백 (SSE 알림 등)
+     * @return 처리한 토큰 수
+     */
+    public int drainSoldOut(Long couponId, Consumer<List<String>> onDrained) {
+        int drainedCount = 0;
+
+        while (true) {
+            Set<ZSetOperations.TypedTuple<String>> popped =
+                    redisTemplate.opsForZSet().popMin(queueKey(couponId), DRAIN_CHUNK_SIZE);
+            if (popped == null || popped.isEmpty()) {
+                break;
+            }
+
+            List<String> tokens = popped.stream()
+                    .map(ZSetOperations.TypedTuple::getValue)
+                    .toList();
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String token : tokens) {
+                    stringConnection.hMSet(TOKEN_PREFIX + token, Map.of(
+                            STATUS_FIELD, CouponWaitingStatus.SOLD_OUT.name(),
+                            REASON_FIELD, ErrorCode.COUPON_ALL_ISSUED.getMessage()
+                    ));
+                }
+                return null;
+            });
+
+            drainedCount += tokens.size();
+            onDrained.accept(tokens);
+
+            if (tokens.size() < DRAIN_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        deactivateIfEmpty(couponId);
+
+        if (drainedCount > 0) {
+            log.info("쿠폰 수량 소진, 대기 토큰 일괄 정리 - couponId: {}, 토큰수: {}", couponId, drainedCount);
+        }
+        return drainedCount;
+    }
+
+    /**
+     * 대기열이 있는 쿠폰 ID 목록
+     */
+    public Set<Long> getActiveCouponIds() {
+        Set<String> members = redisTemplate.opsForSet().members(ACTIVE_COUPONS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 대기열이 비었으면 활성 목록에서 제거
+     * - 확인과 제거를 Lua Script 한 번으로 처리 (사이에 입장한 토큰이 허가 대상에서 빠지지 않게)
+     *
+     * @return 제거 여부
+     */
+    public boolean deactivateIfEmpty(Long couponId) {
+        Long removed = redisScriptRegistry.execute(
+                couponWaitingDeactivateScript,
+                List.of(queueKey(couponId), ACTIVE_COUPONS_KEY),
+                couponId.toString()
+        );
+        return removed != null && removed == 1;
+    }
+
+    /**
+     * 수량 소진 여부 (Redis 발급 수 ≥ 총 수량)
+     */
+    public boolean isSoldOut(Long couponId) {
+        Integer totalQuantity = redisCouponMetadataService.getTotalQuantity(couponId);
+        return totalQuantity != null && redisCouponService.getIssuedCount(couponId) >= totalQuantity;
+    }
+
+    private String queueKey(Long couponId) {
+        return QUEUE_PREFIX + couponId;
+    }
+}
@@ -1,30 +1,57 @@
 package io.hhplus.ECommerce.ECommerce_project.coupon.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponMetadataDto;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 쿠폰 메타데이터 서비스
  * - 쿠폰 기본 정보를 Redis에 캐싱하여 빠른 조회 제공
  * - Hash 구조로 저장: coupon:metadata:{couponId}
+ *
+ * 노드 로컬 니어 캐시 (Caffeine):
+ * - 발급 시도마다 HGET이 나가지 않도록 CouponMetadataDto를 노드 메모리에 보관 (HGETALL 1회로 적재)
+ * - 메타데이터 변경(저장/수량/활성화/삭제) 시 Redis Pub/Sub(coupon:metadata:invalidate)로 모든 노드의 캐시 무효화
+ * - Pub/Sub 메시지 유실에 대비해 1분 후 자동 만료
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class RedisCouponMetadataService {
+public class RedisCouponMetadataService implements MessageListener {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
 
     private static final String COUPON_METADATA_PREFIX = "coupon:metadata:";
+    private static final String INVALIDATE_CHANNEL = "coupon:metadata:invalidate";
     private static final long TTL_DAYS = 30;
 
+    private final Cache<Long, CouponMetadataDto> nearCache = Caffeine.newBuilder()
+            .expireAfterWrite(1, TimeUnit.MINUTES)  // Pub/Sub 유실 대비 안전 만료
+            .maximumSize(10_000)
+            .recordStats()
+            .build();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
     /**
      * 쿠폰 메타데이터 저장 (Hash 구조)
      * - 단일 putAll 연산으로 네트워크 호출 최소화
@@ -49,6 +76,7 @@ public class RedisCouponMetadataService {
         redisTemplate.opsForHash().putAll(key, dto.toHashMap());
 
         redisTemplate.expire(key, Duration.ofDays(TTL_DAYS));
+        invalidate(couponId);
 
         log.info("쿠폰 메타데이터 저장 완료 - couponId: {}, totalQuantity: {}, isActive: {}",
                 couponId, totalQuantity, isActive);
@@ -58,66 +86,46 @@ public class RedisCouponMetadataService {
      * 쿠폰 총 수량 조회
      */
     public Integer getTotalQuantity(Long couponId) {
-        String key = COUPON_METADATA_PREFIX + couponId;
-        Object value = redisTemplate.opsForHash().get(key, "totalQuantity");
+        CouponMetadataDto metadata = getCouponMetadata(couponId);
 
-        if (value == null) {
+        if (metadata == null) {
             log.debug("Redis에 쿠폰 메타데이터 없음 - couponId: {}", couponId);
             return null;
         }
 
-        return Integer.parseInt(value.toString());
+        return metadata.getTotalQuantity();
     }
 
     /**
      * 쿠폰 활성화 여부 조회
      */
     public Boolean isActive(Long couponId) {
-        String key = COUPON_METADATA_PREFIX + couponId;
-        Object value = redisTemplate.opsForHash().get(key, "isActive");
-
-        if (value == null) {
-            return null;
-        }
-
-        return Boolean.parseBoolean(value.toString());
+        CouponMetadataDto metadata = getCouponMetadata(couponId);
+        return metadata != null ? metadata.isActive() : null;
     }
 
     /**
      * 쿠폰 시작일 조회
      */
     public LocalDateTime getStartDate(Long couponId) {
-        String key = COUPON_METADATA_PREFIX + couponId;
-        Object value = redisTemplate.opsForHash().get(key, "startDate");
-
-        if (value == null) {
-            return null;
-        }
-
-        return LocalDateTime.parse(value.toString());
+        CouponMetadataDto metadata = getCouponMetadata(couponId);
+        return metadata != null ? metadata.getStartDate() : null;
     }
 
     /**
      * 쿠폰 종료일 조회
      */
     public LocalDateTime getEndDate(Long couponId) {
-        String key = COUPON_METADATA_PREFIX + couponId;
-        Object value = redisTemplate.opsForHash().get(key, "endDate");
-
-        if (value == null) {
-            return null;
-        }
-
-        return LocalDateTime.parse(value.toString());
+        CouponMetadataDto metadata = getCouponMetadata(couponId);
+        return metadata != null ? metadata.getEndDate() : null;
     }
 
     /**
      * 쿠폰 메타데이터 전체 조회 (DTO 반환)
+     * - 니어 캐시 우선, 없으면 HGETALL 1회로 적재 (Redis에도 없으면 캐싱하지 않음)
      */
     public CouponMetadataDto getCouponMetadata(Long couponId) {
-        String key = COUPON_METADATA_PREFIX + couponId;
-        Map<Object, Object> hashMap = redisTemplate.opsForHash().entries(key);
-        return CouponMetadataDto.fromHashMap(hashMap);
+        return nearCache.get(couponId, this::loadCouponMetadata);
     }
 
     /**
@@ -126,6 +134,7 @@ public class RedisCouponMetadataService {
     public void deleteCouponMetadata(Long couponId) {
         String key = COUPON_METADATA_PREFIX + couponId;
         redisTemplate.delete(key);
+        invalidate(couponId);
         log.info("쿠폰 메타데이터 삭제 완료 - couponId: {}", couponId);
     }
 
@@ -150,6 +159,7 @@ public class RedisCouponMetadataService {
         }
 
         redisTemplate.opsForHash().put(key, "totalQuantity", String.valueOf(totalQuantity));
+        invalidate(couponId);
         log.info("쿠폰 수량 업데이트 완료 - couponId: {}, totalQuantity: {}", couponId, totalQuantity);
     }
 
@@ -165,6 +175,41 @@ public class RedisCouponMetadataService {
         }
 
         redisTemplate.opsForHash().put(key, "isActive", String.valueOf(isActive));
+        invalidate(couponId);
         log.info("쿠폰 활성화 상태 업데이트 완료 - couponId: {}, isActive: {}", couponId, isActive);
     }
-}
\ No newline at end of file
+
+    /**
+     * 다른 노드(또는 자신)의 메타데이터 변경 알림 수신 → 니어 캐시 무효화
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            nearCache.invalidate(Long.valueOf(payload.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 쿠폰 메타데이터 무효화 메시지: {}", payload);
+        }
+    }
+
+    /**
+     * 니어 캐시 무효화 (현재 노드 즉시 + 다른 노드에 전파)
+     */
+    private void invalidate(Long couponId) {
+        nearCache.invalidate(couponId);
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, couponId.toString());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 캐시는 만료 시각에 자동 갱신됨
+            log.warn("쿠폰 메타데이터 무효화 전파 실패 - couponId: {}", couponId, e);
+        }
+    }
+
+    private CouponMetadataDto loadCouponMetadata(Long couponId) {
+        String key = COUPON_METADATA_PREFIX + couponId;
+        Map<Object, Object> hashMap = redisTemplate.opsForHash().entries(key);
+        return CouponMetadataDto.fromHashMap(hashMap);
+    }
+}
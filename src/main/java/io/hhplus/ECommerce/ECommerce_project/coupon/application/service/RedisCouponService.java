@@ -1,27 +1,36 @@
 package io.hhplus.ECommerce.ECommerce_project.coupon.application.service;
 
+import io.hhplus.ECommerce.ECommerce_project.common.config.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponIssueStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Redis Sorted Set을 사용한 선착순 쿠폰 발급 서비스
+ * Redis 선착순 쿠폰 발급 서비스
  *
- * 자료구조: Sorted Set
+ * 발급 방식은 coupon.issue.strategy 설정으로 선택 (CouponIssueStrategy)
+ *
+ * 1. SORTED_SET (기본값)
  * - Key: coupon:issue:{couponId}
- * - Score: 발급 시간 (timestamp in milliseconds)
- * - Member: userId
+ * - Score: 발급 시간 (timestamp in milliseconds), Member: userId
+ * - 중복 발급 방지: Sorted Set의 member 유일성 활용
+ * - 발급 순서 추적: score로 발급 시간 저장, ZRANK로 순위 판정 (O(log N))
+ *
+ * 2. COUNTER_SET
+ * - Key: coupon:issued:{couponId}:count (발급 수 카운터), coupon:issued:{couponId}:users (발급자 Set)
+ * - 카운터 비교 + SISMEMBER/SADD로 판정 (O(1))
+ * - 발급에 성공한 사용자만 Set에 남으므로 거절된 시도는 메모리를 차지하지 않음
+ * - 발급 순위는 보관하지 않음 (발급 순번은 발급 시점에만 반환)
+ * - 기존 coupon:issue:{couponId} 키는 첫 발급/취소 시 또는 migrateLegacyIssueData()로 이관
  *
- * 주요 기능:
- * 1. 중복 발급 방지: Sorted Set의 member 유일성 활용
- * 2. 발급 순서 추적: score로 발급 시간 저장
- * 3. 발급 수량 확인: ZCARD로 총 발급 수 조회
- * 4. 원자적 연산: Redis 단일 명령으로 원자성 보장
+ * 두 방식 모두 Lua Script 1회 호출로 원자성 보장
  */
 @Service
 @RequiredArgsConstructor
@@ -29,14 +38,28 @@ import java.util.List;
 public class RedisCouponService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
     private final RedisScript<Long> redisCouponIssueScript;
+    private final RedisScript<Long> couponCounterIssueScript;
+    private final RedisScript<Long> couponCounterCancelScript;
+    private final RedisScript<Long> couponIssueMigrateScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> couponBulkIssueScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> couponCounterBulkIssueScript;
+
+    @Value("${coupon.issue.strategy:SORTED_SET}")
+    private CouponIssueStrategy issueStrategy;
 
     private static final String COUPON_ISSUE_PREFIX = "coupon:issue:";
+    private static final String COUPON_ISSUED_PREFIX = "coupon:issued:";
+    private static final String COUNT_SUFFIX = ":count";
+    private static final String USERS_SUFFIX = ":users";
     private static final long DEFAULT_TTL_DAYS = 30;
     private static final long DEFAULT_TTL_SECONDS = DEFAULT_TTL_DAYS * 24 * 60 * 60; // 30일
 
     /**
-     * 선착순 쿠폰 발급 시도
+     * 선착순 쿠폰 발급 시도 (설정된 발급 방식 사용)
      *
      * 장점:
      * 1. 완벽한 원자성 보장 (모든 연산이 하나의 트랜잭션)
@@ -49,18 +72,36 @@ public class RedisCouponService {
      * @return 발급 성공 여부
      */
     public boolean tryIssueCoupon(Long couponId, Long userId, int maxQuantity) {
-        String key = COUPON_ISSUE_PREFIX + couponId;
-        long timestamp = System.currentTimeMillis();
-
-        // Lua Script 실행
-        Long result = redisTemplate.execute(
-                redisCouponIssueScript,
-                List.of(key),   // KEYS
-                userId.toString(),
-                String.valueOf(timestamp),
-                String.valueOf(maxQuantity),
-                String.valueOf(DEFAULT_TTL_SECONDS) // ARGV
-        );
+        return tryIssueCoupon(issueStrategy, couponId, userId, maxQuantity);
+    }
+
+    /**
+     * 선착순 쿠폰 발급 시도 (발급 방식 지정)
+     *
+     * @param strategy 발급 방식
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param maxQuantity 최대 발급 수량
+     * @return 발급 성공 여부
+     */
+    public boolean tryIssueCoupon(CouponIssueStrategy strategy, Long couponId, Long userId, int maxQuantity) {
+        // Lua Script 실행 (EVALSHA)
+        Long result = strategy == CouponIssueStrategy.COUNTER_SET
+                ? redisScriptRegistry.execute(
+                        couponCounterIssueScript,
+                        counterKeys(couponId),  // KEYS
+                        userId.toString(),
+                        String.valueOf(maxQuantity),
+                        String.valueOf(DEFAULT_TTL_SECONDS) // ARGV
+                )
+                : redisScriptRegistry.execute(
+                        redisCouponIssueScript,
+                        List.of(COUPON_ISSUE_PREFIX + couponId),   // KEYS
+                        userId.toString(),
+                        String.valueOf(System.currentTimeMillis()),
+                        String.valueOf(maxQuantity),
+                        String.valueOf(DEFAULT_TTL_SECONDS) // ARGV
+                );
 
         if (result == null) {
             log.error("Lua Script 실행 실패. couponId={}, userId={}", couponId, userId);
@@ -82,6 +123,56 @@ public class RedisCouponService {
         return false;
     }
 
+    /**
+     * 여러 사용자 일괄 발급 시도 (설정된 발급 방식, Lua Script 1회)
+     * - 새로 발급된 사용자는 inflightKey List에도 원자적으로 기록됨 (DB 저장 완료 후 호출자가 삭제)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 발급 대상 사용자 ID 목록 (청크)
+     * @param maxQuantity 최대 발급 수량
+     * @param inflightKey 새로 발급된 사용자를 기록할 List 키
+     * @return 새로 발급된 사용자 ID 목록 (중복 발급, 수량 초과 제외)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> tryIssueCoupons(Long couponId, List<Long> userIds, int maxQuantity, String inflightKey) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> args = new ArrayList<>(userIds.size() + 3);
+        List<String> issued;
+
+        if (issueStrategy == CouponIssueStrategy.COUNTER_SET) {
+            args.add(String.valueOf(maxQuantity));
+            args.add(String.valueOf(DEFAULT_TTL_SECONDS));
+            userIds.forEach(userId -> args.add(userId.toString()));
+
+            List<String> keys = new ArrayList<>(counterKeys(couponId));
+            keys.add(inflightKey);
+            issued = redisScriptRegistry.execute(couponCounterBulkIssueScript, keys, args.toArray());
+        } else {
+            args.add(String.valueOf(maxQuantity));
+            args.add(String.valueOf(System.currentTimeMillis()));
+            args.add(String.valueOf(DEFAULT_TTL_SECONDS));
+            userIds.forEach(userId -> args.add(userId.toString()));
+
+            issued = redisScriptRegistry.execute(
+                    couponBulkIssueScript,
+                    List.of(COUPON_ISSUE_PREFIX + couponId, inflightKey),
+                    args.toArray()
+            );
+        }
+
+        if (issued == null) {
+            log.error("일괄 발급 Lua Script 실행 실패. couponId={}, 대상수={}", couponId, userIds.size());
+            return List.of();
+        }
+
+        return issued.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
     /**
      * 특정 사용자의 쿠폰 발급 여부 확인
      *
@@ -90,6 +181,11 @@ public class RedisCouponService {
      * @return 발급 여부
      */
     public boolean isAlreadyIssued(Long couponId, Long userId) {
+        if (usesCounter(couponId)) {
+            return Boolean.TRUE.equals(
+                    redisTemplate.opsForSet().isMember(usersKey(couponId), userId.toString()));
+        }
+
         String key = COUPON_ISSUE_PREFIX + couponId;
         Double score = redisTemplate.opsForZSet().score(key, userId.toString());
         return score != null;
@@ -102,6 +198,11 @@ public class RedisCouponService {
      * @return 발급 수량
      */
     public long getIssuedCount(Long couponId) {
+        if (usesCounter(couponId)) {
+            String count = redisTemplate.opsForValue().get(countKey(couponId));
+            return count != null ? Long.parseLong(count) : 0L;
+        }
+
         String key = COUPON_ISSUE_PREFIX + couponId;
         Long count = redisTemplate.opsForZSet().zCard(key);
         return count != null ? count : 0L;
@@ -115,10 +216,20 @@ public class RedisCouponService {
      * @return 취소 성공 여부
      */
     public boolean cancelIssueCoupon(Long couponId, Long userId) {
-        String key = COUPON_ISSUE_PREFIX + couponId;
-        Long removed = redisTemplate.opsForZSet().remove(key, userId.toString());
+        boolean success;
 
-        boolean success = removed != null && removed > 0;
+        if (issueStrategy == CouponIssueStrategy.COUNTER_SET) {
+            Long removed = redisScriptRegistry.execute(
+                    couponCounterCancelScript,
+                    counterKeys(couponId),
+                    userId.toString()
+            );
+            success = removed != null && removed > 0;
+        } else {
+            String key = COUPON_ISSUE_PREFIX + couponId;
+            Long removed = redisTemplate.opsForZSet().remove(key, userId.toString());
+            success = removed != null && removed > 0;
+        }
 
         if (success) {
             log.info("쿠폰 발급 취소. couponId={}, userId={}", couponId, userId);
@@ -129,25 +240,66 @@ public class RedisCouponService {
 
     /**
      * 특정 쿠폰의 발급 순위 조회
+     * - 카운터 방식으로 이관된 쿠폰은 순위를 보관하지 않으므로 null
      *
      * @param couponId 쿠폰 ID
      * @param userId 사용자 ID
      * @return 발급 순위 (0부터 시작, 없으면 null)
      */
     public Long getIssuanceRank(Long couponId, Long userId) {
+        if (usesCounter(couponId)) {
+            return null;
+        }
+
         String key = COUPON_ISSUE_PREFIX + couponId;
         // rank는 0부터 시작 (0 = 1등)
         return redisTemplate.opsForZSet().rank(key, userId.toString());
     }
 
+    /**
+     * 레거시 Sorted Set 발급 데이터를 카운터 방식으로 이관
+     * - 발급 방식 전환 후 첫 발급/취소 시에도 자동으로 이관되므로, 배포 전에 미리 옮겨 둘 때 사용
+     *
+     * @param couponId 쿠폰 ID
+     * @return 이관 후 발급 수
+     */
+    public long migrateLegacyIssueData(Long couponId) {
+        Long issuedCount = redisScriptRegistry.execute(couponIssueMigrateScript, counterKeys(couponId));
+        log.info("쿠폰 발급 데이터 이관. couponId={}, issuedCount={}", couponId, issuedCount);
+        return issuedCount != null ? issuedCount : 0L;
+    }
+
     /**
      * Redis 쿠폰 발급 데이터 초기화
      *
      * @param couponId 쿠폰 ID
      */
     public void clearCouponIssueData(Long couponId) {
-        String key = COUPON_ISSUE_PREFIX + couponId;
-        redisTemplate.delete(key);
+        redisTemplate.delete(List.of(COUPON_ISSUE_PREFIX + couponId, countKey(couponId), usersKey(couponId)));
         log.info("쿠폰 발급 데이터 초기화. couponId={}", couponId);
     }
+
+    /**
+     * 카운터 방식 데이터로 조회할지 여부
+     * - 카운터 방식 설정이어도 아직 이관되지 않은 쿠폰은 레거시 Sorted Set 조회
+     */
+    private boolean usesCounter(Long couponId) {
+        if (issueStrategy != CouponIssueStrategy.COUNTER_SET) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(countKey(couponId)))
+                || !Boolean.TRUE.equals(redisTemplate.hasKey(COUPON_ISSUE_PREFIX + couponId));
+    }
+
+    private List<String> counterKeys(Long couponId) {
+        return List.of(countKey(couponId), usersKey(couponId), COUPON_ISSUE_PREFIX + couponId);
+    }
+
+    private String countKey(Long couponId) {
+        return COUPON_ISSUED_PREFIX + couponId + COUNT_SUFFIX;
+    }
+
+    private String usersKey(Long couponId) {
+        return COUPON_ISSUED_PREFIX + couponId + USERS_SUFFIX;
+    }
 }
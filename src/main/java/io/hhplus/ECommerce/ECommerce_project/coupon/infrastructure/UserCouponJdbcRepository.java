@@ -0,0 +1,153 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.common.SnowflakeIdGenerator;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponIssueRecord;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponIssuedQuantitySnapshot;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.UserCouponStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 발급 쿠폰 일괄 저장용 JDBC 리포지토리
+ * - 엔티티 조회 없이 user_coupons INSERT를 JDBC batch로 처리
+ * - 쿠폰별 issued_quantity는 배치당 UPDATE 1건으로 합산 반영 (락 없이 issued_quantity + ?)
+ * - 정합성 검증: issued_quantity와 user_coupons 저장 건수 비교/보정
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCouponJdbcRepository {
+
+    private static final String FIND_EXISTING_SQL = """
+            SELECT user_id, coupon_id
+            FROM user_coupons
+            WHERE user_id IN (:userIds) AND coupon_id IN (:couponIds)
+            """;
+
+    private static final String INSERT_USER_COUPON_SQL = """
+            INSERT INTO user_coupons (id, version, coupon_id, user_id, status, used_count, issued_at)
+            VALUES (?, 0, ?, ?, ?, 0, ?)
+            """;
+
+    private static final String INCREASE_ISSUED_QUANTITY_SQL = """
+            UPDATE coupons
+            SET issued_quantity = issued_quantity + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ?
+            """;
+
+    private static final String FIND_ISSUED_QUANTITY_SNAPSHOTS_SQL = """
+            SELECT c.id, c.issued_quantity,
+                   (SELECT COUNT(*) FROM user_coupons uc WHERE uc.coupon_id = c.id) AS persisted_count
+            FROM coupons c
+            WHERE c.id > ? AND c.end_date >= ?
+            ORDER BY c.id
+            LIMIT ?
+            """;
+
+    private static final String SYNC_ISSUED_QUANTITY_SQL = """
+            UPDATE coupons
+            SET issued_quantity = (SELECT COUNT(*) FROM user_coupons uc WHERE uc.coupon_id = ?),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    /**
+     * 발급 쿠폰 일괄 저장 (단일 트랜잭션)
+     * - 이미 저장된 (userId, couponId)는 건너뜀 (재전달된 스트림 레코드 대비)
+     * - 하나라도 실패하면 전체 롤백되어 호출자가 그대로 재시도할 수 있음
+     *
+     * @param records 발급 레코드 (중복 없음)
+     * @return 새로 저장한 건수
+     */
+    @Transactional
+    public int saveIssuedCoupons(List<CouponIssueRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 이미 저장된 발급 건 제외
+        Set<CouponIssueRecord> existing = findExisting(records);
+        List<CouponIssueRecord> newRecords = records.stream()
+                .filter(record -> !existing.contains(record))
+                .toList();
+
+        if (newRecords.isEmpty()) {
+            return 0;
+        }
+
+        // 2. user_coupons 일괄 INSERT
+        Timestamp issuedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> insertArgs = new ArrayList<>(newRecords.size());
+        Map<Long, Integer> issuedCounts = new LinkedHashMap<>();
+        for (CouponIssueRecord record : newRecords) {
+            insertArgs.add(new Object[]{
+                    snowflakeIdGenerator.nextId(),
+                    record.couponId(),
+                    record.userId(),
+                    UserCouponStatus.AVAILABLE.name(),
+                    issuedAt
+            });
+            issuedCounts.merge(record.couponId(), 1, Integer::sum);
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_COUPON_SQL, insertArgs);
+
+        // 3. 쿠폰별 발급 수량 합산 반영
+        List<Object[]> updateArgs = new ArrayList<>(issuedCounts.size());
+        issuedCounts.forEach((couponId, count) -> updateArgs.add(new Object[]{count, couponId}));
+        jdbcTemplate.batchUpdate(INCREASE_ISSUED_QUANTITY_SQL, updateArgs);
+
+        return newRecords.size();
+    }
+
+    /**
+     * 종료되지 않은 쿠폰의 발급 수량 스냅샷 청크 조회 (id 키셋 페이징)
+     */
+    public List<CouponIssuedQuantitySnapshot> findIssuedQuantitySnapshots(long lastId, LocalDateTime now, int size) {
+        return jdbcTemplate.query(FIND_ISSUED_QUANTITY_SNAPSHOTS_SQL,
+                (rs, rowNum) -> new CouponIssuedQuantitySnapshot(
+                        rs.getLong("id"),
+                        rs.getInt("issued_quantity"),
+                        rs.getLong("persisted_count")),
+                lastId, Timestamp.valueOf(now), size);
+    }
+
+    /**
+     * issued_quantity를 user_coupons 저장 건수로 보정
+     * - 조회와 갱신을 한 문장으로 처리하여 그 사이에 저장된 발급 건도 반영
+     */
+    public void syncIssuedQuantity(Long couponId) {
+        jdbcTemplate.update(SYNC_ISSUED_QUANTITY_SQL, couponId, couponId);
+    }
+
+    private Set<CouponIssueRecord> findExisting(List<CouponIssueRecord> records) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> couponIds = new HashSet<>();
+        records.forEach(record -> {
+            userIds.add(record.userId());
+            couponIds.add(record.couponId());
+        });
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("couponIds", couponIds);
+
+        return new HashSet<>(namedParameterJdbcTemplate.query(FIND_EXISTING_SQL, params,
+                (rs, rowNum) -> CouponIssueRecord.of(rs.getLong("user_id"), rs.getLong("coupon_id"))));
+    }
+}
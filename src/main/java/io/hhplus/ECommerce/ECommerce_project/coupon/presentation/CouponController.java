@@ -1,15 +1,23 @@
 package io.hhplus.ECommerce.ECommerce_project.coupon.presentation;
 
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.*;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.StartCouponBulkIssueCommand;
 import io.hhplus.ECommerce.ECommerce_project.coupon.presentation.request.CreateCouponRequest;
 import io.hhplus.ECommerce.ECommerce_project.coupon.presentation.request.IssueCouponRequest;
 import io.hhplus.ECommerce.ECommerce_project.coupon.presentation.request.UpdateCouponRequest;
+import io.hhplus.ECommerce.ECommerce_project.coupon.presentation.response.CouponBulkIssueJobResponse;
 import io.hhplus.ECommerce.ECommerce_project.coupon.presentation.response.CouponResponse;
+import io.hhplus.ECommerce.ECommerce_project.coupon.presentation.response.CouponWaitingResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -24,6 +32,12 @@ public class CouponController {
     private final IssueCouponUseCase issueCouponUseCase;
     private final DeactivateCouponUseCase deactivateCouponUseCase;
     private final ActivateCouponUseCase activateCouponUseCase;
+    private final EnqueueCouponIssueUseCase enqueueCouponIssueUseCase;
+    private final GetCouponWaitingTicketUseCase getCouponWaitingTicketUseCase;
+    private final SubscribeCouponWaitingUseCase subscribeCouponWaitingUseCase;
+    private final StartCouponBulkIssueUseCase startCouponBulkIssueUseCase;
+    private final GetCouponBulkIssueJobUseCase getCouponBulkIssueJobUseCase;
+    private final ResumeCouponBulkIssueUseCase resumeCouponBulkIssueUseCase;
 
     /**
      * 쿠폰 마스터 생성
@@ -69,13 +83,77 @@ public class CouponController {
      * 선착순 쿠폰 발급 (사용자당 1개)
      * - Redis에서 즉시 발급 처리
      * - DB 저장은 비동기 이벤트로 처리
+     * - 대기열 사용 시(coupon.waiting-room.enabled) 대기열 토큰을 발급하고 202 Accepted 반환
      */
     @PostMapping("/issue")
-    public ResponseEntity<Void> issueCoupon(@Valid @RequestBody IssueCouponRequest request) {
+    public ResponseEntity<CouponWaitingResponse> issueCoupon(@Valid @RequestBody IssueCouponRequest request) {
+        if (enqueueCouponIssueUseCase.isEnabled()) {
+            var ticket = enqueueCouponIssueUseCase.execute(request.toCommand());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponWaitingResponse.from(ticket));
+        }
+
         issueCouponUseCase.execute(request.toCommand());
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 쿠폰 발급 대기열 상태 조회 (폴링)
+     */
+    @GetMapping("/issue/waiting/{token}")
+    public ResponseEntity<CouponWaitingResponse> getWaitingTicket(@PathVariable String token) {
+        var ticket = getCouponWaitingTicketUseCase.execute(token);
+        return ResponseEntity.ok(CouponWaitingResponse.from(ticket));
+    }
+
+    /**
+     * 쿠폰 발급 대기열 상태 구독 (SSE)
+     * - 대기 중에는 1초마다 순번 전송, 최종 상태 전송 후 연결 종료
+     */
+    @GetMapping(value = "/issue/waiting/{token}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeWaitingTicket(@PathVariable String token) {
+        return subscribeCouponWaitingUseCase.execute(token);
+    }
+
+    /**
+     * 쿠폰 일괄 발급 (전체 사용자 대상)
+     * - 작업을 등록하고 202 Accepted 반환, 발급은 백그라운드에서 청크 단위로 진행
+     */
+    @PostMapping("/{id}/bulk-issue")
+    public ResponseEntity<CouponBulkIssueJobResponse> bulkIssueCoupon(@PathVariable Long id) {
+        var job = startCouponBulkIssueUseCase.execute(new StartCouponBulkIssueCommand(id, null));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponBulkIssueJobResponse.from(job));
+    }
+
+    /**
+     * 쿠폰 일괄 발급 (업로드한 사용자 ID 파일 대상, 한 줄에 하나)
+     */
+    @PostMapping(value = "/{id}/bulk-issue/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CouponBulkIssueJobResponse> bulkIssueCouponFromFile(
+            @PathVariable Long id,
+            @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        var job = startCouponBulkIssueUseCase.execute(new StartCouponBulkIssueCommand(id, file.getInputStream()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponBulkIssueJobResponse.from(job));
+    }
+
+    /**
+     * 쿠폰 일괄 발급 진행 상황 조회
+     */
+    @GetMapping("/bulk-issue/{jobId}")
+    public ResponseEntity<CouponBulkIssueJobResponse> getBulkIssueJob(@PathVariable String jobId) {
+        var job = getCouponBulkIssueJobUseCase.execute(jobId);
+        return ResponseEntity.ok(CouponBulkIssueJobResponse.from(job));
+    }
+
+    /**
+     * 중단된 쿠폰 일괄 발급 재개 (마지막 완료 청크 다음부터)
+     */
+    @PostMapping("/bulk-issue/{jobId}/resume")
+    public ResponseEntity<CouponBulkIssueJobResponse> resumeBulkIssueJob(@PathVariable String jobId) {
+        var job = resumeCouponBulkIssueUseCase.execute(jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponBulkIssueJobResponse.from(job));
+    }
+
     /**
      * 쿠폰 마스터 비활성화
      */
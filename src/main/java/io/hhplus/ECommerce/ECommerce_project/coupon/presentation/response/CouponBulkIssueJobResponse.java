@@ -0,0 +1,41 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.presentation.response;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponBulkIssueJob;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueSource;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueStatus;
+
+import java.time.LocalDateTime;
+
+public record CouponBulkIssueJobResponse(
+        String jobId,
+        Long couponId,
+        CouponBulkIssueSource source,
+        CouponBulkIssueStatus status,
+        long totalCount,
+        long processedCount,
+        long issuedCount,
+        long skippedCount,
+        long failedCount,
+        double throughputPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt,
+        String lastError
+) {
+    public static CouponBulkIssueJobResponse from(CouponBulkIssueJob job) {
+        return new CouponBulkIssueJobResponse(
+                job.jobId(),
+                job.couponId(),
+                job.source(),
+                job.status(),
+                job.totalCount(),
+                job.processedCount(),
+                job.issuedCount(),
+                job.skippedCount(),
+                job.failedCount(),
+                job.throughputPerSecond(),
+                job.startedAt(),
+                job.updatedAt(),
+                job.lastError()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.presentation.response;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponWaitingTicket;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponWaitingStatus;
+
+public record CouponWaitingResponse(
+        String token,
+        Long couponId,
+        CouponWaitingStatus status,
+        Long position,
+        String reason
+) {
+    public static CouponWaitingResponse from(CouponWaitingTicket ticket) {
+        return new CouponWaitingResponse(
+                ticket.token(),
+                ticket.couponId(),
+                ticket.status(),
+                ticket.position(),
+                ticket.reason()
+        );
+    }
+}
@@ -2,16 +2,18 @@ package io.hhplus.ECommerce.ECommerce_project.order.application;
 
 import io.hhplus.ECommerce.ECommerce_project.cart.application.service.CartFinderService;
 import io.hhplus.ECommerce.ECommerce_project.cart.domain.entity.Cart;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromCartCommand;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderFromCartValidationRequestedEvent;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.SoldOutRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,7 +21,7 @@ import java.util.Map;
 /**
  * 장바구니 주문 생성 UseCase
  * - 장바구니 조회 및 상품별 수량 집계
- * - Redis 재고 차감 (동기, All or Nothing)
+ * - Redis 재고 일괄 차감 (동기, 단일 Lua Script로 All or Nothing)
  * - 이후 처리는 비동기 이벤트로 진행
  */
 @Slf4j
@@ -28,12 +30,13 @@ import java.util.Map;
 public class CreateOrderFromCartUseCase {
 
     private final RedisStockService redisStockService;
+    private final SoldOutRegistry soldOutRegistry;
     private final CartFinderService cartFinderService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public CreateOrderResponse execute(CreateOrderFromCartCommand command) {
 
-        List<Map.Entry<Long, Integer>> successEntries = new ArrayList<>();
+        List<Map.Entry<Long, Integer>> reservedEntries = List.of();
 
         try {
             log.info("장바구니 주문 시작 - userId: {}, 장바구니 아이템수: {}",
@@ -61,20 +64,24 @@ public class CreateOrderFromCartUseCase {
 
             log.info("상품별 수량 집계 완료 - 총 상품수: {}", sortedEntries.size());
 
-            // 2. 모든 상품 Redis 재고 차감 (동기, All or Nothing)
-            for (Map.Entry<Long, Integer> entry : sortedEntries) {
-                Long productId = entry.getKey();
-                Integer quantity = entry.getValue();
+            // 품절 표시된 상품이 포함되어 있으면 Redis 왕복 없이 즉시 거절
+            if (soldOutRegistry.isAnySoldOut(productQuantityMap.keySet())) {
+                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
 
-                redisStockService.decreaseStock(productId, quantity);
-                successEntries.add(entry);
+            // 2. 모든 상품 Redis 재고 일괄 차감 (단일 Lua Script, All or Nothing)
+            List<Long> shortageProductIds = redisStockService.decreaseStocks(productQuantityMap);
 
-                log.debug("Redis 재고 차감 성공 - productId: {}, quantity: {}",
-                        productId, quantity);
+            if (!shortageProductIds.isEmpty()) {
+                // 하나라도 부족하면 어떤 상품도 차감되지 않았으므로 복구 불필요
+                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                        "재고가 부족합니다. 상품 ID: " + shortageProductIds);
             }
 
+            reservedEntries = sortedEntries;
+
             log.info("전체 상품 Redis 재고 차감 완료 - userId: {}, 성공수: {}",
-                    command.userId(), successEntries.size());
+                    command.userId(), reservedEntries.size());
 
             // 3. 검증 및 계산 이벤트 발행 (비동기)
             applicationEventPublisher.publishEvent(
@@ -87,11 +94,11 @@ public class CreateOrderFromCartUseCase {
                     cartList.size()
             );
         } catch (Exception e) {
-            log.error("장바구니 주문 실패 - userId: {}, 실패 위치: {}, reason: {}",
-                    command.userId(), successEntries.size(), e.getMessage(), e);
+            log.error("장바구니 주문 실패 - userId: {}, 차감 완료 상품수: {}, reason: {}",
+                    command.userId(), reservedEntries.size(), e.getMessage(), e);
 
-            // 실패 시 이미 차감된 Redis 재고 모두 복구
-            rollbackRedisStock(successEntries);
+            // 차감 이후 단계에서 실패한 경우에만 Redis 재고 복구
+            rollbackRedisStock(reservedEntries);
             throw e;
         }
     }
@@ -100,6 +107,10 @@ public class CreateOrderFromCartUseCase {
      * Redis 재고 복구 (동기 처리)
      */
     private void rollbackRedisStock(List<Map.Entry<Long, Integer>> successEntries) {
+        if (successEntries.isEmpty()) {
+            return;
+        }
+
         log.warn("Redis 재고 복구 시작 - 복구 대상 상품수: {}", successEntries.size());
 
         for (Map.Entry<Long, Integer> entry : successEntries) {
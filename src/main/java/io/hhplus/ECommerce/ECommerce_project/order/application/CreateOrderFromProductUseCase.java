@@ -1,13 +1,19 @@
 package io.hhplus.ECommerce.ECommerce_project.order.application;
 
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
 import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderFromProductValidationRequestedEvent;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.SoldOutRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 단일 상품 주문 생성 UseCase
  * - Redis 재고 차감 후 즉시 응답 반환
@@ -18,13 +24,25 @@ import org.springframework.stereotype.Service;
 public class CreateOrderFromProductUseCase {
 
     private final RedisStockService redisStockService;
+    private final SoldOutRegistry soldOutRegistry;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public CreateOrderResponse execute(CreateOrderFromProductCommand command) {
 
+        // 품절 표시된 상품은 Redis 왕복 없이 즉시 거절
+        if (soldOutRegistry.isSoldOut(command.productId())) {
+            throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+        }
+
         try {
-            // 1. Redis 재고 차감 (동기)
-            redisStockService.decreaseStock(command.productId(), command.quantity());
+            // 1. Redis 재고 차감 (동기, 장바구니 주문과 동일한 일괄 차감 스크립트 사용)
+            List<Long> shortageProductIds = redisStockService.decreaseStocks(
+                    Map.of(command.productId(), command.quantity())
+            );
+
+            if (!shortageProductIds.isEmpty()) {
+                throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
+            }
 
             // 2. 검증 및 계산 이벤트 발행 (비동기)
             applicationEventPublisher.publishEvent(
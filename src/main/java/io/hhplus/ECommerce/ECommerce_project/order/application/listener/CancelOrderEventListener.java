@@ -26,7 +26,9 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 주문 취소 원복 이벤트 리스너
@@ -94,12 +96,12 @@ public class CancelOrderEventListener {
 
             List<OrderItem> orderItems = orderItemFinderService.getOrderItems(order.getId());
 
+            // 결제 전 취소라면 재고 점유 해제로 Redis 재고 반환
+            Map<Long, Integer> productQuantities = new LinkedHashMap<>();
             for (OrderItem orderItem : orderItems) {
-                stockService.compensateStock(
-                        orderItem.getProduct().getId(),
-                        orderItem.getQuantity()
-                );
+                productQuantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
             }
+            stockService.compensateOrderStocks(order.getId(), productQuantities);
 
             log.info("재고 복구 완료: orderId={}, itemCount={}",
                     order.getId(), orderItems.size());
@@ -5,6 +5,7 @@ import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderCreationFro
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderCreationFromCartRequestedEvent;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderFromCartCompletedEvent;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockHoldService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -15,6 +16,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * 장바구니 주문 생성 이벤트 리스너
  * - DB 재고 차감 완료 후 주문 생성 수행
@@ -26,6 +30,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class OrderCreationFromCartEventListener {
 
     private final OrderCompletionService orderCompletionService;
+    private final StockHoldService stockHoldService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Async  // TODO: Kafka 도입 시 메시지 컨슈머로 변경 예정
@@ -45,6 +50,10 @@ public class OrderCreationFromCartEventListener {
             log.info("장바구니 주문 생성 완료 - userId: {}, orderId: {}, finalAmount: {}",
                     event.command().userId(), response.orderId(), response.finalAmount());
 
+            // Redis에서 차감한 재고를 주문 ID로 점유 등록 (미결제 시 만료 후 자동 반환)
+            registerStockHold(response.orderId(), event.validatedOrderFromCartData().sortedEntries().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, Integer::sum)));
+
             // 주문 완료 이벤트 발행 (알림용)
             applicationEventPublisher.publishEvent(
                     OrderFromCartCompletedEvent.of(event.command().userId(), response)
@@ -65,4 +74,17 @@ public class OrderCreationFromCartEventListener {
             );
         }
     }
+
+    /**
+     * 재고 점유 등록
+     * - 점유 등록 실패가 주문 생성을 실패시키지 않도록 예외를 전파하지 않음
+     * - 점유가 없는 주문은 OrderExpirationScheduler가 기존 방식으로 정리
+     */
+    private void registerStockHold(Long orderId, Map<Long, Integer> productQuantities) {
+        try {
+            stockHoldService.createHold(orderId, productQuantities);
+        } catch (Exception e) {
+            log.error("재고 점유 등록 실패 - orderId: {}, reason: {}", orderId, e.getMessage(), e);
+        }
+    }
 }
@@ -2,7 +2,7 @@ package io.hhplus.ECommerce.ECommerce_project.order.application.listener;
 
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderCreationFromCartFailedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
-import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockDeductionService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockDeductionRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -24,7 +24,7 @@ import java.util.Map;
 public class OrderCreationFromCartFailedEventListener {
 
     private final RedisStockService redisStockService;
-    private final StockDeductionService stockDeductionService;
+    private final StockDeductionRouter stockDeductionRouter;
 
     @Async  // TODO: Kafka 도입 시 메시지 컨슈머로 변경 예정
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -44,7 +44,7 @@ public class OrderCreationFromCartFailedEventListener {
                 for (Map.Entry<Long, Integer> entry : event.sortedEntries()) {
                     try {
                         // 외부 서비스 호출 → AOP 프록시 작동
-                        stockDeductionService.recoverStockWithDistributedLock(entry.getKey(), entry.getValue());
+                        stockDeductionRouter.recoverStock(entry.getKey(), entry.getValue());
                         dbSuccessCount++;
 
                         log.debug("DB 재고 복구 성공 - productId: {}, quantity: {}",
@@ -5,6 +5,7 @@ import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderFromProduct
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderCreationFromProductFailedEvent;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderCreationFromProductRequestedEvent;
 import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockHoldService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -15,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Map;
+
 /**
  * 주문 생성 이벤트 리스너
  * - DB 재고 차감 완료 후 주문 생성 수행
@@ -26,6 +29,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class OrderCreationFromProductEventListener {
 
     private final OrderCompletionService orderCompletionService;
+    private final StockHoldService stockHoldService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Async  // TODO: Kafka 도입 시 메시지 컨슈머로 변경 예정
@@ -45,6 +49,9 @@ public class OrderCreationFromProductEventListener {
             log.info("주문 생성 완료 - userId: {}, orderId: {}, finalAmount: {}",
                     event.command().userId(), response.orderId(), response.finalAmount());
 
+            // Redis에서 차감한 재고를 주문 ID로 점유 등록 (미결제 시 만료 후 자동 반환)
+            registerStockHold(response.orderId(), Map.of(event.command().productId(), event.command().quantity()));
+
             // 주문 완료 이벤트 발행 (알림용)
             applicationEventPublisher.publishEvent(
                     OrderFromProductCompletedEvent.of(event.command().userId(), response)
@@ -65,4 +72,17 @@ public class OrderCreationFromProductEventListener {
             );
         }
     }
+
+    /**
+     * 재고 점유 등록
+     * - 점유 등록 실패가 주문 생성을 실패시키지 않도록 예외를 전파하지 않음
+     * - 점유가 없는 주문은 OrderExpirationScheduler가 기존 방식으로 정리
+     */
+    private void registerStockHold(Long orderId, Map<Long, Integer> productQuantities) {
+        try {
+            stockHoldService.createHold(orderId, productQuantities);
+        } catch (Exception e) {
+            log.error("재고 점유 등록 실패 - orderId: {}, reason: {}", orderId, e.getMessage(), e);
+        }
+    }
 }
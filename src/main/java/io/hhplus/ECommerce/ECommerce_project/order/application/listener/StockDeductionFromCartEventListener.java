@@ -3,7 +3,7 @@ package io.hhplus.ECommerce.ECommerce_project.order.application.listener;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.OrderCreationFromCartRequestedEvent;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.StockDeductionFromCartFailedEvent;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.event.StockDeductionFromCartRequestedEvent;
-import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockDeductionService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockDeductionRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -29,7 +29,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class StockDeductionFromCartEventListener {
 
-    private final StockDeductionService stockDeductionService;
+    private final StockDeductionRouter stockDeductionRouter;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Async  // TODO: Kafka 도입 시 메시지 컨슈머로 변경 예정
@@ -48,7 +48,7 @@ public class StockDeductionFromCartEventListener {
                 Integer quantity = entry.getValue();
 
                 // 외부 서비스 호출 → AOP 프록시 작동
-                stockDeductionService.deductStockWithDistributedLock(productId, quantity);
+                stockDeductionRouter.deductStock(productId, quantity);
                 successEntries.add(entry);
 
                 log.debug("DB 재고 차감 성공 - productId: {}, quantity: {}", productId, quantity);
@@ -92,7 +92,7 @@ public class StockDeductionFromCartEventListener {
         for (Map.Entry<Long, Integer> entry : successEntries) {
             try {
                 // 외부 서비스 호출 → AOP 프록시 작동
-                stockDeductionService.recoverStockWithDistributedLock(entry.getKey(), entry.getValue());
+                stockDeductionRouter.recoverStock(entry.getKey(), entry.getValue());
                 log.debug("DB 재고 복구 성공 - productId: {}, quantity: {}",
                         entry.getKey(), entry.getValue());
             } catch (Exception e) {
@@ -4,6 +4,7 @@ import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderExpi
 import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderFinderService;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockHoldService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -13,9 +14,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 /**
- * 주문 만료 스케줄러
- * - 매 1분마다 15분 이상 PENDING 상태인 주문을 자동 취소
+ * 주문 만료 스케줄러 (보조 정리용)
+ * - 매 5분마다 15분 이상 PENDING 상태인 주문을 자동 취소
  * - 각 주문은 독립적인 트랜잭션으로 처리 (한 주문 실패가 다른 주문에 영향 없음)
+ * - 만료 주문의 재고 반환은 StockHoldExpirationScheduler가 수 초 내에 처리하며,
+ *   이 스케줄러는 재고 점유가 없는 주문이나 리퍼의 취소 실패 건만 정리
  */
 @Slf4j
 @Component
@@ -26,11 +29,11 @@ public class OrderExpirationScheduler {
     private final OrderExpirationService orderExpirationService;
 
     /**
-     * 이전 작업 완료 후 1분 대기하여 15분 이상 PENDING 상태인 주문 취소 - 주문 만료 동작이 1분 안에 다 되지 않은 상태에서 될 수 있으므로 fixedRate -> fixedDelay로 변경
+     * 이전 작업 완료 후 5분 대기하여 15분 이상 PENDING 상태인 주문 취소 - 주문 만료 동작이 1분 안에 다 되지 않은 상태에서 될 수 있으므로 fixedRate -> fixedDelay로 변경
      */
-    @Scheduled(fixedDelay = 60000) // 이전 작업 완료 후 1분 대기
+    @Scheduled(fixedDelay = 300000) // 이전 작업 완료 후 5분 대기
     public void cancelExpiredOrders() {
-        LocalDateTime expirationTime = LocalDateTime.now().minusMinutes(15);
+        LocalDateTime expirationTime = LocalDateTime.now().minus(StockHoldService.HOLD_TTL);
 
         // PENDING 상태이면서 15분 이상 지난 주문 조회
         List<Orders> expiredOrders = orderFinderService.getExpiredOrders(OrderStatus.PENDING, expirationTime);
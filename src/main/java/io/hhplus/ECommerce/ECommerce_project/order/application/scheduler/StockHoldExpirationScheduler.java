@@ -0,0 +1,65 @@
+package io.hhplus.ECommerce.ECommerce_project.order.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderExpirationService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockHoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 점유 만료 리퍼
+ * - 매 5초마다 만료된 재고 점유를 Redis에서 일괄 반환 (Lua Script, 테이블 스캔 없음)
+ * - 재고를 반환한 주문만 골라 DB 주문 취소(쿠폰/포인트/DB 재고 복구) 처리
+ * - Redis 재고는 이미 반환되었으므로 취소 처리에서 중복 반환하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockHoldExpirationScheduler {
+
+    private final StockHoldService stockHoldService;
+    private final OrderExpirationService orderExpirationService;
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    @Scheduled(fixedDelay = 5000) // 이전 작업 완료 후 5초 대기
+    public void releaseExpiredHolds() {
+        List<Long> releasedOrderIds = new ArrayList<>();
+
+        // 1. 만료된 점유 재고 반환 (배치 단위, 한 번에 최대 BATCH_SIZE * MAX_BATCHES_PER_RUN건)
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<Long> batch = stockHoldService.releaseExpiredHolds(BATCH_SIZE);
+            releasedOrderIds.addAll(batch);
+
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (releasedOrderIds.isEmpty()) return;
+
+        log.info("만료된 재고 점유 {}건 반환, 주문 취소 처리 시작", releasedOrderIds.size());
+
+        int successCount = 0;
+        int failCount = 0;
+
+        // 2. 주문 취소 (각 주문마다 독립적인 트랜잭션)
+        for (Long orderId : releasedOrderIds) {
+            try {
+                orderExpirationService.cancelOrder(orderId);
+                successCount++;
+            } catch (Exception e) {
+                log.error("만료 주문 취소 실패: orderId={}, error={}", orderId, e.getMessage(), e);
+                failCount++;
+                // 실패한 주문은 OrderExpirationScheduler가 재시도 (Redis 재고는 이미 반환됨)
+            }
+        }
+
+        log.info("만료 주문 취소 처리 완료: 성공={}, 실패={}", successCount, failCount);
+    }
+}
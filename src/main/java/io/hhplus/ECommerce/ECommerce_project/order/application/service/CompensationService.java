@@ -12,7 +12,9 @@ import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockSe
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -41,13 +43,12 @@ public class CompensationService {
             // 1. 주문 아이템 조회
             List<OrderItem> orderItems = orderItemFinderService.getOrderItems(order.getId());
 
-            // 2. 상품 재고 복구 (동시성 제어 적용)
+            // 2. 상품 재고 복구 (재고 점유가 남아 있으면 점유 해제로 Redis 재고 반환)
+            Map<Long, Integer> productQuantities = new LinkedHashMap<>();
             for (OrderItem orderItem : orderItems) {
-                stockService.compensateStock(
-                        orderItem.getProduct().getId(),
-                        orderItem.getQuantity()
-                );
+                productQuantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
             }
+            stockService.compensateOrderStocks(order.getId(), productQuantities);
         } catch (Exception e) {
             throw new ProductException(
                     ErrorCode.PRODUCT_RESTORE_FAILED,
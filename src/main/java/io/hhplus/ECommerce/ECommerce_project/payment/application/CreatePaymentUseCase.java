@@ -1,7 +1,10 @@
 package io.hhplus.ECommerce.ECommerce_project.payment.application;
 
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.OrderException;
 import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderFinderService;
 import io.hhplus.ECommerce.ECommerce_project.order.application.service.OrderItemFinderService;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.OrderItem;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.entity.Orders;
 import io.hhplus.ECommerce.ECommerce_project.order.domain.service.OrderDomainService;
 import io.hhplus.ECommerce.ECommerce_project.payment.application.command.CreatePaymentCommand;
@@ -10,12 +13,17 @@ import io.hhplus.ECommerce.ECommerce_project.payment.domain.event.PaymentComplet
 import io.hhplus.ECommerce.ECommerce_project.payment.domain.event.PaymentFailedEvent;
 import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
 import io.hhplus.ECommerce.ECommerce_project.payment.presentation.response.CreatePaymentResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.StockHoldConfirmResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockHoldService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockHoldConfirmedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +33,7 @@ public class CreatePaymentUseCase {
     private final OrderDomainService orderDomainService;
     private final OrderFinderService orderFinderService;
     private final OrderItemFinderService orderItemFinderService;
+    private final StockHoldService stockHoldService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
@@ -39,6 +48,21 @@ public class CreatePaymentUseCase {
         // 2. 주문이 결제 가능한 상태인지 확인 (PENDING 상태만 결제 가능)
         orderDomainService.validateCanPayment(order);
 
+        List<OrderItem> orderItems = orderItemFinderService.getOrderItems(order.getId());
+
+        // 2-1. 재고 점유 확정 (점유 → 영구 차감, 이미 만료되어 재고가 반환된 주문은 결제 불가)
+        StockHoldConfirmResult holdResult = stockHoldService.confirmHold(order.getId());
+        if (holdResult == StockHoldConfirmResult.EXPIRED) {
+            throw new OrderException(ErrorCode.ORDER_STOCK_HOLD_EXPIRED);
+        }
+
+        // Redis 점유 확정은 DB 롤백으로 되돌려지지 않으므로, 롤백 시 점유를 복원하도록 이벤트 발행 (AFTER_ROLLBACK)
+        if (holdResult == StockHoldConfirmResult.CONFIRMED) {
+            applicationEventPublisher.publishEvent(
+                    StockHoldConfirmedEvent.of(order.getId(), productQuantitiesOf(orderItems))
+            );
+        }
+
         // 3. 결제 정보 생성
         Payment payment = Payment.createPayment(
                 order,
@@ -72,8 +96,7 @@ public class CreatePaymentUseCase {
              */
 
             List<PaymentCompletedEvent.OrderItemInfo> orderItemInfoes =
-                    orderItemFinderService.getOrderItems(order.getId())
-                            .stream()
+                    orderItems.stream()
                             .map(orderItem -> new PaymentCompletedEvent.OrderItemInfo(
                                     orderItem.getProduct().getId(),
                                     orderItem.getQuantity()
@@ -114,4 +137,16 @@ public class CreatePaymentUseCase {
             return CreatePaymentResponse.failed(payment, order);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 항목의 상품 ID별 수량 (재고 점유 등록 시와 같은 형태)
+     */
+    private Map<Long, Integer> productQuantitiesOf(List<OrderItem> orderItems) {
+        return orderItems.stream()
+                .collect(Collectors.toMap(
+                        orderItem -> orderItem.getProduct().getId(),
+                        OrderItem::getQuantity,
+                        Integer::sum
+                ));
+    }
+}
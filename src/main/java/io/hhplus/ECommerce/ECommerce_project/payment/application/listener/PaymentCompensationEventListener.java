@@ -17,7 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 결제 보상 이벤트 리스너
@@ -83,13 +85,12 @@ public class PaymentCompensationEventListener {
             // 1. 주문 아이템 조회
             List<OrderItem> orderItems = orderItemFinderService.getOrderItems(order.getId());
 
-            // 2. 상품 재고 복구 (동시성 제어 적용)
+            // 2. 상품 재고 복구 (재고 점유가 남아 있으면 점유 해제로 Redis 재고 반환)
+            Map<Long, Integer> productQuantities = new LinkedHashMap<>();
             for (OrderItem orderItem : orderItems) {
-                stockService.compensateStock(
-                        orderItem.getProduct().getId(),
-                        orderItem.getQuantity()
-                );
+                productQuantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
             }
+            stockService.compensateOrderStocks(order.getId(), productQuantities);
 
             log.info("재고 복구 완료: orderId={}, itemCount={}", order.getId(), orderItems.size());
 
@@ -0,0 +1,33 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.HotStockStatus;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 핫 상품 해제 UseCase
+ * - 스트라이프 재고를 기본 재고 키로 합쳐 일반 모드로 복귀
+ */
+@Service
+@RequiredArgsConstructor
+public class DemoteHotProductUseCase {
+
+    private final ProductDomainService productDomainService;
+    private final ProductFinderService productFinderService;
+    private final RedisStockService redisStockService;
+
+    public HotStockStatus execute(Long productId) {
+
+        // 1. ID 검증
+        productDomainService.validateId(productId);
+
+        // 2. 상품 존재 확인
+        productFinderService.getActiveProduct(productId);
+
+        // 3. Redis 재고 스트라이프 처리
+        return redisStockService.demoteHotProduct(productId);
+    }
+}
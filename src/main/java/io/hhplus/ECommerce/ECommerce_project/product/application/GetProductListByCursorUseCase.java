@@ -0,0 +1,58 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.service.CategoryDomainService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursor;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursorResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 상품 목록 조회 (키셋 페이징)
+ * - OFFSET 대신 이전 페이지 마지막 상품의 (정렬 값, id) 이후부터 조회하므로 깊은 페이지도 첫 페이지와 같은 비용
+ * - size + 1건을 조회해 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+ * - 전체 상품 수는 includeTotal=true일 때만 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class GetProductListByCursorUseCase {
+
+    private final CategoryDomainService categoryDomainService;
+    private final ProductFinderService productFinderService;
+
+    @Transactional(readOnly = true)
+    public ProductCursorResult execute(Long categoryId, ProductSortType sortType, String cursor, int size,
+                                       boolean includeTotal) {
+
+        // 1. ID 검증 (카테고리 필터가 있을 때만)
+        if (categoryId != null) {
+            categoryDomainService.validateId(categoryId);
+        }
+
+        // 2. 커서 해석 (첫 페이지면 null)
+        ProductCursor productCursor = cursor != null && !cursor.isBlank()
+                ? ProductCursor.decode(cursor, sortType)
+                : null;
+
+        // 3. 커서 이후 size + 1건 조회
+        List<Product> products = productFinderService.getProductsAfter(categoryId, sortType, productCursor, size + 1);
+
+        boolean hasNext = products.size() > size;
+        List<Product> page = hasNext ? products.subList(0, size) : products;
+
+        // 4. 다음 페이지 커서 (마지막 상품 기준)
+        String nextCursor = hasNext
+                ? ProductCursor.of(sortType, page.get(page.size() - 1)).encode()
+                : null;
+
+        // 5. 전체 상품 수 (선택)
+        Long totalElements = includeTotal ? productFinderService.countActiveProducts(categoryId) : null;
+
+        return new ProductCursorResult(List.copyOf(page), nextCursor, hasNext, totalElements);
+    }
+}
@@ -21,11 +21,16 @@ public class GetProductListUseCase {
     private final CategoryDomainService categoryDomainService;
     private final ProductFinderService productFinderService;
 
+    /**
+     * 상품 목록 조회 (모든 페이지/크기 캐싱)
+     * - 캐시 키에 카테고리 세대가 포함되므로 무효화는 세대 증가로 처리 (ProductListCacheGeneration)
+     * - sync: 캐시 미스 시 노드 내 단일 적재 + 노드 간 재계산 리스 + 조기 갱신 (TwoLevelCache)
+     */
     @Cacheable(
             value = "productList",
-            key = "#categoryId + '_' + #sortType + '_' + #page + '_' + #size",
-            condition = "#page == 0",   // 첫 페이지만 캐싱
-            cacheManager = "redisCacheManager"
+            key = "@productListCacheGeneration.cacheKey(#categoryId, #sortType, #page, #size)",
+            cacheManager = "twoLevelCacheManager",
+            sync = true
     )
     @Transactional(readOnly = true)
     public ProductPageResult execute(Long categoryId, ProductSortType sortType, int page, int size) {
@@ -1,11 +1,10 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application;
 
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductViewCountService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductViewedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +14,13 @@ public class GetProductUseCase {
 
     private final ProductDomainService productDomainService;
     private final ProductFinderService productFinderService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ProductViewCountService productViewCountService;
 
-    @Transactional
+    /**
+     * 상품 상세 조회 (읽기 전용)
+     * - 조회수는 메모리에 누적 후 주기적으로 DB/랭킹에 일괄 반영 (ProductViewCountFlushScheduler)
+     */
+    @Transactional(readOnly = true)
     public Product execute(Long productId) {
 
         // 1. ID 검증
@@ -26,13 +29,9 @@ public class GetProductUseCase {
         // 2. 상품 조회
         Product product = productFinderService.getActiveProduct(productId);
 
-        // 3. 조회수 증가
-        product.increaseViewCount();
+        // 3. 조회수 누적 (DB/랭킹 반영은 주기적으로 일괄 처리)
+        productViewCountService.recordView(productId);
 
-        // 4. 상품 조회 이벤트 발행 (Redis 조회수는 비동기로 처리)
-        applicationEventPublisher.publishEvent(ProductViewedEvent.of(productId));
-
-        // 5. 저장된 변경사항 반환
         return product;
     }
 }
\ No newline at end of file
@@ -2,104 +2,179 @@ package io.hhplus.ECommerce.ECommerce_project.product.application;
 
 import io.hhplus.ECommerce.ECommerce_project.category.application.service.CategoryFinderService;
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.common.config.cache.CacheRecomputeLease;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.TrendingWindow;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductRedisCacheService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.TrendingRankingService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 인기상품 조회
+ *
+ * 요청당 I/O:
+ * 1. 랭킹 ID 목록 ZREVRANGE 1회
+ * 2. 상품 캐시 MGET 1회
+ * 3. 캐시 히트 상품의 카테고리 일괄 조회 1회
+ * 4. 캐시 미스가 있을 때만 상품 DB 일괄 조회 1회 + 캐시 파이프라인 저장 1회
+ * 완성된 결과는 (type, categoryId, limit)별로 노드 로컬에 3초간 캐싱 (rankingResponseCacheManager)
+ *
+ * 캐시 스탬피드 방지:
+ * - 노드 내: 같은 (type, categoryId, limit) 요청은 한 번만 계산 (@Cacheable sync)
+ * - 노드 간: 상품 캐시 미스(날짜/주차 전환, 캐시 삭제 직후)는 재계산 리스를 얻은 노드만 DB 조회,
+ *   나머지는 리스 해제를 기다린 뒤 상품 캐시를 다시 조회
+ * - 리스는 (주기, 미스 상품 ID 집합)별이므로 다른 카테고리/limit의 미스끼리는 서로 기다리지 않음
+ * categoryId가 있으면 카테고리별 일별/주간 랭킹을 조회한다 (트렌드는 전체 랭킹만 제공)
+ */
 @Service
 @RequiredArgsConstructor
 public class GetTopRankedProductsUseCase {
 
     private final ProductFinderService productFinderService;
     private final RedisRankingService redisRankingService;
+    private final TrendingRankingService trendingRankingService;
     private final ProductRedisCacheService productRedisCacheService;
     private final CategoryFinderService categoryFinderService;
+    private final CacheRecomputeLease cacheRecomputeLease;
 
-    public List<Product> execute(String type, int limit) {
+    private static final String DAILY_LOAD_LEASE_PREFIX = "ranking:product:cache:daily:";
+    private static final String WEEKLY_LOAD_LEASE_PREFIX = "ranking:product:cache:weekly:";
+    private static final Duration LOAD_LEASE_TTL = Duration.ofSeconds(2);
+
+    @Cacheable(
+            value = "topRankedProducts",
+            key = "#type + '_' + #categoryId + '_' + #limit",
+            cacheManager = "rankingResponseCacheManager",
+            sync = true
+    )
+    public List<Product> execute(String type, Long categoryId, int limit) {
 
         // 1. Redis에서 인기상품 ID 목록 가져오기
+        Optional<TrendingWindow> trendingWindow = TrendingWindow.fromType(type);
         List<Long> productIds;
-        if ("daily".equals(type)) {
+        if (trendingWindow.isPresent()) { // 실시간 트렌드 (최근 1시간/24시간)
+            productIds = trendingRankingService.getTopProducts(trendingWindow.get(), limit);
+        } else if (categoryId != null) { // 카테고리별 인기 상품
+            productIds = "daily".equals(type)
+                    ? redisRankingService.getTodayTopProducts(categoryId, limit)
+                    : redisRankingService.getWeeklyTopProducts(categoryId, limit);
+        } else if ("daily".equals(type)) {
             productIds = redisRankingService.getTodayTopProducts(limit);
         } else { // 주간 인기 상품
             productIds = redisRankingService.getWeeklyTopProducts(limit);
         }
 
+        // 상품 정보 캐시는 주간만 별도, 트렌드는 일별 캐시를 함께 사용
+        boolean weekly = "weekly".equals(type);
+
         // 2. 빈 목록 체크
         if (productIds.isEmpty()) {
             return List.of();
         }
 
-        // 3. 캐시에서 상품 정보 조회 + 캐시 미스 ID 분리
-        List<Product> cachedProducts = new ArrayList<>();
-        List<Long> missedIds = new ArrayList<>();
+        // 3. 캐시에서 상품 정보 일괄 조회 (MGET) + 캐시 미스 ID 분리
+        Map<Long, ProductRedisCacheService.ProductCacheDto> cachedDtos =
+                new HashMap<>(getCachedProducts(weekly, productIds));
+        List<Long> missedIds = missedIds(productIds, cachedDtos);
 
-        for (Long productId : productIds) {
-            Optional<ProductRedisCacheService.ProductCacheDto> cacheDto;
+        // 4. 캐시 미스된 것만 DB 조회 후 일괄 캐싱 (재계산 리스를 얻은 노드만)
+        List<Product> dbProducts = List.of();
+        if (!missedIds.isEmpty()) {
+            String leaseName = loadLeaseName(weekly, missedIds);
+            Optional<String> lease = cacheRecomputeLease.tryAcquire(leaseName, LOAD_LEASE_TTL);
+
+            try {
+                if (lease.isEmpty() && cacheRecomputeLease.awaitRelease(leaseName, LOAD_LEASE_TTL)) {
+                    // 다른 노드가 채운 상품 캐시 재조회
+                    cachedDtos.putAll(getCachedProducts(weekly, missedIds));
+                    missedIds = missedIds(productIds, cachedDtos);
+                }
 
-            if ("daily".equals(type)) {
-                cacheDto = productRedisCacheService.getDailyProduct(productId);
-            } else {
-                cacheDto = productRedisCacheService.getWeeklyProduct(productId);
-            }
+                if (!missedIds.isEmpty()) {
+                    dbProducts = productFinderService.getAllProductsById(missedIds);
 
-            if (cacheDto.isPresent()) {
-                // 캐시 히트: DTO → Product 변환
-                cachedProducts.add(toProduct(cacheDto.get()));
-            } else {
-                // 캐시 미스: DB 조회 대상
-                missedIds.add(productId);
+                    if (weekly) {
+                        productRedisCacheService.cacheWeeklyProducts(dbProducts);
+                    } else {
+                        productRedisCacheService.cacheDailyProducts(dbProducts);
+                    }
+                }
+            } finally {
+                lease.ifPresent(token -> cacheRecomputeLease.release(leaseName, token));
             }
         }
 
-        // 4. 캐시 미스된 것만 DB 조회
-        List<Product> dbProducts = List.of();
-        if (!missedIds.isEmpty()) {
-            dbProducts = productFinderService.getAllProductsById(missedIds);
-
-            // DB 조회한 것들 캐싱
-            for (Product product : dbProducts) {
-                if ("daily".equals(type)) {
-                    productRedisCacheService.cacheDailyProduct(product);
-                } else {
-                    productRedisCacheService.cacheWeeklyProduct(product);
-                }
+        // 5. 캐시 히트 상품의 카테고리를 한 번에 조회 후 Product로 변환
+        Set<Long> categoryIds = cachedDtos.values().stream()
+                .map(ProductRedisCacheService.ProductCacheDto::categoryId)
+                .collect(Collectors.toSet());
+        Map<Long, Category> categories = categoryFinderService.getActiveCategories(categoryIds);
+
+        Map<Long, Product> productMap = new HashMap<>();
+        cachedDtos.forEach((productId, dto) -> {
+            Category category = categories.get(dto.categoryId());
+            if (category != null) { // 삭제된 카테고리의 상품 제외
+                productMap.put(productId, toProduct(dto, category));
             }
-        }
+        });
 
-        // 5. 캐시 + DB 결과 합치기
-        List<Product> allProducts = new ArrayList<>(cachedProducts);
-        allProducts.addAll(dbProducts);
+        dbProducts.forEach(product -> productMap.put(product.getId(), product));
 
         // 6. Redis 랭킹 순서대로 정렬
-        Map<Long, Product> productMap = allProducts.stream()
-                .collect(Collectors.toMap(Product::getId, p -> p));
+        List<Product> rankedProducts = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            Product product = productMap.get(productId);
+            if (product != null) { // 삭제된 상품 제외
+                rankedProducts.add(product);
+            }
+        }
+        return List.copyOf(rankedProducts);
+    }
+
+    private Map<Long, ProductRedisCacheService.ProductCacheDto> getCachedProducts(boolean weekly, List<Long> productIds) {
+        return weekly
+                ? productRedisCacheService.getWeeklyProducts(productIds)
+                : productRedisCacheService.getDailyProducts(productIds);
+    }
 
+    /**
+     * 상품 캐시 적재 리스 이름 (주기 + 정렬된 미스 상품 ID 집합의 해시)
+     */
+    private String loadLeaseName(boolean weekly, List<Long> missedIds) {
+        String ids = missedIds.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        return (weekly ? WEEKLY_LOAD_LEASE_PREFIX : DAILY_LOAD_LEASE_PREFIX)
+                + missedIds.size() + ":" + Integer.toHexString(ids.hashCode());
+    }
+
+    private List<Long> missedIds(List<Long> productIds, Map<Long, ProductRedisCacheService.ProductCacheDto> cachedDtos) {
         return productIds.stream()
-                .map(productMap::get)
-                .filter(product -> product != null)  // 삭제된 상품 제외
+                .filter(productId -> !cachedDtos.containsKey(productId))
                 .toList();
     }
 
     /**
      * ProductCacheDto → Product 변환
-     * Category는 DB에서 조회 후 Product.fromCache 정적 팩토리 메서드 사용
+     * 미리 조회한 Category로 Product.fromCache 정적 팩토리 메서드 사용
      */
-    private Product toProduct(ProductRedisCacheService.ProductCacheDto dto) {
-        // Category를 DB에서 조회
-        Category category = categoryFinderService.getActiveCategory(dto.categoryId());
-
-        // Product.fromCache 정적 팩토리 메서드로 생성
+    private Product toProduct(ProductRedisCacheService.ProductCacheDto dto, Category category) {
         return Product.fromCache(
             dto.id(),
             category,
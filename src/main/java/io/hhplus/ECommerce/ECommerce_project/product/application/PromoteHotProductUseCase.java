@@ -0,0 +1,34 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.command.PromoteHotProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.HotStockStatus;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 핫 상품 승격 UseCase
+ * - 상품 재고를 여러 Redis 키(스트라이프)로 나눠 단일 키 경합을 분산
+ */
+@Service
+@RequiredArgsConstructor
+public class PromoteHotProductUseCase {
+
+    private final ProductDomainService productDomainService;
+    private final ProductFinderService productFinderService;
+    private final RedisStockService redisStockService;
+
+    public HotStockStatus execute(PromoteHotProductCommand command) {
+
+        // 1. ID 검증
+        productDomainService.validateId(command.productId());
+
+        // 2. 상품 존재 확인
+        productFinderService.getActiveProduct(command.productId());
+
+        // 3. Redis 재고 스트라이프 처리
+        return redisStockService.promoteHotProduct(command.productId(), command.stripeCount());
+    }
+}
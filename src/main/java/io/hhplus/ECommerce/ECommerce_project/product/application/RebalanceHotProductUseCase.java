@@ -0,0 +1,33 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.HotStockStatus;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 핫 상품 스트라이프 재분배 UseCase
+ * - 특정 스트라이프에 차감이 몰려 생긴 재고 쏠림을 균등하게 재분배
+ */
+@Service
+@RequiredArgsConstructor
+public class RebalanceHotProductUseCase {
+
+    private final ProductDomainService productDomainService;
+    private final ProductFinderService productFinderService;
+    private final RedisStockService redisStockService;
+
+    public HotStockStatus execute(Long productId) {
+
+        // 1. ID 검증
+        productDomainService.validateId(productId);
+
+        // 2. 상품 존재 확인
+        productFinderService.getActiveProduct(productId);
+
+        // 3. Redis 재고 스트라이프 처리
+        return redisStockService.rebalanceHotProduct(productId);
+    }
+}
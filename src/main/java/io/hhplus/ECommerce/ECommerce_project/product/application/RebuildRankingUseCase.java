@@ -0,0 +1,20 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.RankingRebuildResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RankingRebuildService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class RebuildRankingUseCase {
+
+    private final RankingRebuildService rankingRebuildService;
+
+    public RankingRebuildResult execute() {
+        return rankingRebuildService.rebuild()
+                .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_RANKING_REBUILD_IN_PROGRESS));
+    }
+}
@@ -3,7 +3,9 @@ package io.hhplus.ECommerce.ECommerce_project.product.application;
 import io.hhplus.ECommerce.ECommerce_project.category.application.service.CategoryFinderService;
 import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
 import io.hhplus.ECommerce.ECommerce_project.product.application.command.UpdateProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductCategoryResolver;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.service.ProductDomainService;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
@@ -19,6 +21,8 @@ public class UpdateProductUseCase {
     private final ProductFinderService productFinderService;
     private final CategoryFinderService categoryFinderService;
     private final ProductCacheInvalidator cacheInvalidator;
+    private final ProductCategoryResolver productCategoryResolver;
+    private final RedisRankingService redisRankingService;
 
     @Transactional
     public Product execute(UpdateProductCommand command) {
@@ -78,6 +82,10 @@ public class UpdateProductUseCase {
             // 카테고리가 변경된 경우 양쪽 모두 무효화
             cacheInvalidator.evictProductListCache(oldCategoryId);
             cacheInvalidator.evictProductListCache(newCategoryId);
+
+            // 카테고리별 랭킹: 이전 카테고리 랭킹에서 제거, 이후 점수는 새 카테고리로 반영
+            productCategoryResolver.evict(command.id());
+            redisRankingService.removeFromCategoryRanking(command.id(), oldCategoryId);
         } else {
             // 같은 카테고리면 해당 카테고리만 무효화
             cacheInvalidator.evictProductListCache(oldCategoryId);
@@ -0,0 +1,6 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.command;
+
+public record PromoteHotProductCommand(
+        Long productId,
+        int stripeCount
+) {}
@@ -0,0 +1,14 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 결제 완료일 기준 상품별 일 판매량 (주문 이력 기반 랭킹 재구성용)
+ */
+public record DailyProductSales(
+        Long productId,
+        Long categoryId,
+        LocalDate soldDate,
+        long quantity
+) {
+}
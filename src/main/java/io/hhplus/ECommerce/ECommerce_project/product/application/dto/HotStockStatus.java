@@ -0,0 +1,19 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import java.util.List;
+
+/**
+ * 핫 상품 재고 스트라이프 현황
+ *
+ * @param productId 상품 ID
+ * @param stripeCount 스트라이프 수 (1이면 일반 모드)
+ * @param stripeStocks 스트라이프별 재고 (0번 = {stock}:product:{productId})
+ * @param totalStock 전체 재고 (스트라이프 합계)
+ */
+public record HotStockStatus(
+        Long productId,
+        int stripeCount,
+        List<Long> stripeStocks,
+        long totalStock
+) {
+}
@@ -0,0 +1,10 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+/**
+ * 상품-카테고리 매핑 (카테고리별 랭킹 반영용, 엔티티 대신 id만 조회)
+ */
+public record ProductCategoryId(
+        Long productId,
+        Long categoryId
+) {
+}
@@ -0,0 +1,87 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록 키셋 페이징 커서 (마지막으로 조회한 상품의 (정렬 값, id))
+ *
+ * 클라이언트에는 "정렬타입|정렬값|id"를 Base64(URL-safe)로 인코딩한 불투명 문자열로 전달한다.
+ * 다른 정렬 타입으로 발급된 커서는 사용할 수 없다.
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        String sortValue,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    /**
+     * 페이지의 마지막 상품으로 다음 페이지 커서 생성
+     */
+    public static ProductCursor of(ProductSortType sortType, Product last) {
+        String sortValue = switch (sortType) {
+            case LATEST -> last.getCreatedAt().toString();
+            case POPULAR -> String.valueOf(last.getSoldCount());
+            case VIEWED -> String.valueOf(last.getViewCount());
+            case PRICE_LOW, PRICE_HIGH -> last.getPrice().toPlainString();
+        };
+        return new ProductCursor(sortType, sortValue, last.getId());
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param sortType 요청한 정렬 타입 (커서 발급 시 정렬 타입과 같아야 함)
+     */
+    public static ProductCursor decode(String cursor, ProductSortType sortType) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+            if (parts.length != 3 || ProductSortType.valueOf(parts[0]) != sortType) {
+                throw new ProductException(ErrorCode.PRODUCT_CURSOR_INVALID);
+            }
+
+            ProductCursor productCursor = new ProductCursor(sortType, parts[1], Long.valueOf(parts[2]));
+
+            // 정렬 값 형식 검증
+            switch (sortType) {
+                case LATEST -> productCursor.createdAt();
+                case POPULAR, VIEWED -> productCursor.count();
+                case PRICE_LOW, PRICE_HIGH -> productCursor.price();
+            }
+            return productCursor;
+
+        } catch (ProductException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ProductException(ErrorCode.PRODUCT_CURSOR_INVALID);
+        }
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ===== 정렬 타입별 정렬 값 =====
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    public Integer count() {
+        return Integer.valueOf(sortValue);
+    }
+
+    public BigDecimal price() {
+        return new BigDecimal(sortValue);
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+
+import java.util.List;
+
+/**
+ * 키셋 페이징 상품 목록 조회 결과
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param totalElements 전체 상품 수 (요청 시에만 COUNT 조회, 아니면 null)
+ */
+public record ProductCursorResult(
+        List<Product> products,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+}
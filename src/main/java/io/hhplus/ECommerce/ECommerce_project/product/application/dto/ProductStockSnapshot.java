@@ -0,0 +1,10 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+/**
+ * 재고 정합성 검증용 상품 재고 스냅샷 (엔티티 대신 id, stock만 조회)
+ */
+public record ProductStockSnapshot(
+        Long productId,
+        int stock
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 이력 기반 랭킹 재구성 결과
+ *
+ * @param from 집계 시작일 (일별 보관 기간과 이번 주 중 이른 날)
+ * @param dailyRankingCount 교체한 전체 일별 랭킹 수 (날짜)
+ * @param weeklyRankingCount 교체한 전체 주간 랭킹 수
+ * @param categoryDailyRankingCount 교체한 카테고리 일별 랭킹 수 (카테고리 × 날짜)
+ * @param categoryWeeklyRankingCount 교체한 카테고리 주간 랭킹 수
+ * @param soldQuantity 집계한 총 판매 수량
+ */
+public record RankingRebuildResult(
+        LocalDate from,
+        int dailyRankingCount,
+        int weeklyRankingCount,
+        int categoryDailyRankingCount,
+        int categoryWeeklyRankingCount,
+        long soldQuantity
+) {
+}
@@ -0,0 +1,24 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.dto;
+
+/**
+ * 상품별 누적 재고 변화량 (Write-Behind 버퍼용)
+ *
+ * @param stockDecrease 차감할 재고 (음수면 증가)
+ * @param soldIncrease 증가할 판매량 (음수면 감소)
+ */
+public record StockDelta(
+        long stockDecrease,
+        long soldIncrease
+) {
+
+    public StockDelta plus(StockDelta other) {
+        return new StockDelta(
+                this.stockDecrease + other.stockDecrease,
+                this.soldIncrease + other.soldIncrease
+        );
+    }
+
+    public boolean isZero() {
+        return stockDecrease == 0 && soldIncrease == 0;
+    }
+}
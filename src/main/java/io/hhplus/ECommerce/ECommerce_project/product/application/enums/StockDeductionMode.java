@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.enums;
+
+public enum StockDeductionMode {
+
+    DISTRIBUTED_LOCK("분산락 + 엔티티 변경"),
+    CONDITIONAL_UPDATE("조건부 UPDATE (락 없음)");
+
+    private final String description;
+
+    StockDeductionMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
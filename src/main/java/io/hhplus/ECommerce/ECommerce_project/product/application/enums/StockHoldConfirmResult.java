@@ -0,0 +1,18 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.enums;
+
+public enum StockHoldConfirmResult {
+
+    CONFIRMED("점유 확정 (점유 삭제, 차감 영구 반영)"),
+    NOT_HELD("점유 없음 (점유 등록 이전 주문 등)"),
+    EXPIRED("점유 만료 (재고가 이미 반환됨)");
+
+    private final String description;
+
+    StockHoldConfirmResult(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
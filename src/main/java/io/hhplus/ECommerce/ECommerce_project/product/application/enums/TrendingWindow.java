@@ -0,0 +1,35 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum TrendingWindow {
+
+    LAST_1H("trending-1h", 1),
+    LAST_24H("trending-24h", 24);
+
+    private final String type;
+    private final int hours;
+
+    TrendingWindow(String type, int hours) {
+        this.type = type;
+        this.hours = hours;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getHours() {
+        return hours;
+    }
+
+    /**
+     * 인기상품 조회 타입 문자열 → 트렌드 윈도우 (트렌드 타입이 아니면 empty)
+     */
+    public static Optional<TrendingWindow> fromType(String type) {
+        return Arrays.stream(values())
+                .filter(window -> window.type.equals(type))
+                .findFirst();
+    }
+}
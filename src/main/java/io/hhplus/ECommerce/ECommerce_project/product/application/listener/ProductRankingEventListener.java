@@ -2,7 +2,6 @@ package io.hhplus.ECommerce.ECommerce_project.product.application.listener;
 
 import io.hhplus.ECommerce.ECommerce_project.payment.domain.event.PaymentCompletedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisRankingService;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.event.ProductViewedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.retry.annotation.Backoff;
@@ -13,6 +12,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 상품 랭킹 이벤트 리스너
  * - 결제 완료 후 Redis 랭킹 업데이트를 비동기로 처리
@@ -42,14 +44,12 @@ public class ProductRankingEventListener {
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
         log.info("결제 완료 이벤트 수신 - orderId: {}", event.orderId());
 
-        event.orderItems().forEach(orderItemInfo -> {
-            redisRankingService.incrementSoldCount(
-                    orderItemInfo.productId(),
-                    orderItemInfo.quantity()
-            );
-            log.debug("Redis 랭킹 업데이트 완료 - productId: {}, quantity: {}",
-                    orderItemInfo.productId(), orderItemInfo.quantity());
-        });
+        // 주문 상품 전체를 Lua Script 1회로 반영 (같은 상품이 여러 줄이면 수량 합산)
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        event.orderItems().forEach(orderItemInfo ->
+                quantities.merge(orderItemInfo.productId(), orderItemInfo.quantity(), Integer::sum));
+
+        redisRankingService.incrementSoldCounts(quantities);
 
         log.info("결제 완료 이벤트 처리 완료 - orderId: {}, itemCount: {}",
                 event.orderId(), event.orderItems().size());
@@ -68,28 +68,4 @@ public class ProductRankingEventListener {
         // - 관리자 알림 발송
         // - 모니터링 시스템에 알림
     }
-
-    /**
-     * 상품 조회 이벤트 처리
-     * - 트랜잭션 커밋 후 Redis 조회수 증가
-     * - 비동기로 처리되어 상품 조회 응답 속도에 영향 없음
-     */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleProductViewed(ProductViewedEvent event) {
-        try {
-            log.debug("상품 조회 이벤트 수신 - productId: {}", event.productId());
-
-            redisRankingService.incrementViewCount(event.productId());
-
-            log.debug("Redis 조회수 증가 완료 - productId: {}", event.productId());
-        } catch (Exception e) {
-            // Redis 업데이트 실패는 로깅만 하고 트랜잭션에 영향 없음
-            log.error("Redis 조회수 증가 실패 - productId: {}", event.productId(), e);
-
-            // TODO: 실패 시 처리 로직
-            // - 재시도 큐에 추가
-            // - 모니터링 알림
-        }
-    }
 }
@@ -1,23 +1,21 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.listener;
 
-import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
-import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockDecreasedEvent;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockHoldService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockWriteBehindService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockHoldConfirmedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockIncreasedEvent;
-import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 재고 이벤트 리스너
- * - Redis 재고 변경 후 DB 동기화를 비동기로 처리
+ * - 보상 트랜잭션의 Redis 재고 복구 후 DB 동기화를 Write-Behind로 처리
+ * - 이벤트마다 락/트랜잭션을 잡지 않고 변화량만 누적 (StockWriteBehindScheduler가 주기적으로 반영)
+ * - 주문 시 DB 재고 차감은 StockDeductionRouter가 주문 이벤트에서 직접 처리
+ * - 결제 트랜잭션 롤백 시 트랜잭션 밖에서 확정한 Redis 재고 점유를 복원
  * - Eventual Consistency 패턴 적용
  */
 @Slf4j
@@ -25,72 +23,33 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class StockEventListener {
 
-    private final ProductRepository productRepository;
+    private final StockWriteBehindService stockWriteBehindService;
+    private final StockHoldService stockHoldService;
 
     /**
-     * 재고 차감 이벤트 처리
-     * - Redis에서 재고 차감 후 DB에 반영
-     * - 비동기로 처리되어 사용자 응답 속도에 영향 없음
+     * 재고 증가 이벤트 처리
+     * - 보상 트랜잭션으로 재고 복구 시 DB 재고 증가 및 판매량 감소분을 버퍼에 누적
      */
-    @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void handleStockDecreased(StockDecreasedEvent event) {
-        try {
-            log.debug("재고 차감 이벤트 처리 시작: productId={}, quantity={}",
-                    event.productId(), event.quantity());
-
-            // 비관적 락으로 상품 조회 (DB 동시성 제어)
-            Product product = productRepository.findByIdWithLock(event.productId())
-                    .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
-
-            // DB 재고 차감 및 판매량 증가
-            product.decreaseStock(event.quantity());
-            product.increaseSoldCount(event.quantity());
-
-            log.info("DB 재고 차감 완료: productId={}, quantity={}, remainingStock={}",
-                    event.productId(), event.quantity(), product.getStock());
-
-        } catch (Exception e) {
-            // 실패 시 로깅 및 알림 (재시도 로직은 필요에 따라 추가)
-            log.error("DB 재고 차감 실패: productId={}, quantity={}",
-                    event.productId(), event.quantity(), e);
+    public void handleStockIncreased(StockIncreasedEvent event) {
+        stockWriteBehindService.recordIncrease(event.productId(), event.quantity());
 
-            // TODO: 실패 시 보상 트랜잭션 또는 알림 발송
-            // - Redis 재고 복구
-            // - 관리자 알림
-            // - Dead Letter Queue 저장
-        }
+        log.debug("재고 증가 변화량 누적: productId={}, quantity={}",
+                event.productId(), event.quantity());
     }
 
     /**
-     * 재고 증가 이벤트 처리
-     * - 보상 트랜잭션으로 재고 복구 시 DB 반영
+     * 재고 점유 확정 이벤트 처리 (결제 트랜잭션 롤백 시에만)
+     * - Redis 점유 확정은 DB 롤백으로 되돌려지지 않으므로 점유를 다시 등록
+     * - 복원하지 않으면 점유 없이 PENDING으로 남은 주문의 재고가 반환되지 않음
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void handleStockIncreased(StockIncreasedEvent event) {
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleStockHoldConfirmedRollback(StockHoldConfirmedEvent event) {
         try {
-            log.debug("재고 증가 이벤트 처리 시작: productId={}, quantity={}",
-                    event.productId(), event.quantity());
-
-            // 비관적 락으로 상품 조회
-            Product product = productRepository.findByIdWithLock(event.productId())
-                    .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
-
-            // DB 재고 증가 및 판매량 감소
-            product.increaseStock(event.quantity());
-            product.decreaseSoldCount(event.quantity());
-
-            log.info("DB 재고 증가 완료: productId={}, quantity={}, remainingStock={}",
-                    event.productId(), event.quantity(), product.getStock());
-
+            stockHoldService.restoreHold(event.orderId(), event.productQuantities());
         } catch (Exception e) {
-            log.error("DB 재고 증가 실패: productId={}, quantity={}",
-                    event.productId(), event.quantity(), e);
-
-            // TODO: 실패 시 처리 로직
+            log.error("재고 점유 복원 실패 - orderId: {}, items: {}, reason: {}",
+                    event.orderId(), event.productQuantities(), e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
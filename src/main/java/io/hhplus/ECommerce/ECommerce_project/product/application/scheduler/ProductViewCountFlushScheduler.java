@@ -0,0 +1,32 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 조회수 반영 스케줄러
+ * - 3초마다 누적된 조회수를 랭킹과 DB에 일괄 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCountFlushScheduler {
+
+    private final ProductViewCountService productViewCountService;
+
+    @Scheduled(fixedDelay = 3000) // 이전 반영 완료 후 3초 대기
+    public void flushViewCounts() {
+        try {
+            int flushedCount = productViewCountService.flush();
+
+            if (flushedCount > 0) {
+                log.debug("조회수 반영: 상품수={}", flushedCount);
+            }
+        } catch (Exception e) {
+            log.error("조회수 반영 실패", e);
+        }
+    }
+}
@@ -1,19 +1,30 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
 
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
-import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockWriteBehindService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 재고 동기화 스케줄러
  * - 주기적으로 DB와 Redis 재고 정합성 검증
  * - Eventual Consistency 보장
+ *
+ * 대용량 카탈로그 대응:
+ * - 엔티티 전체 로드 대신 (id, stock) 스냅샷을 id 키셋 순서로 청크 단위 조회
+ * - 청크마다 MGET 1회로 Redis 재고 비교, 복구 대상은 MSET 1회로 일괄 반영
+ * - 패스별 소요 시간(stock.sync.duration)과 불일치/누락 건수(stock.sync.mismatches)를 메트릭으로 기록
  */
 @Slf4j
 @Component
@@ -22,55 +33,31 @@ public class StockSyncScheduler {
 
     private final ProductFinderService productFinderService;
     private final RedisStockService redisStockService;
+    private final StockWriteBehindService stockWriteBehindService;
+    private final MeterRegistry meterRegistry;
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final String PASS_VALIDATE = "validate";
+    private static final String PASS_INITIALIZE = "initialize";
 
     /**
      * DB-Redis 재고 정합성 검증
      * - 1분마다 실행
-     * - 불일치 발견 시 DB를 정답으로 Redis 복구
+     * - 불일치 또는 누락 발견 시 DB를 정답으로 Redis 복구
      */
     @Scheduled(fixedDelay = 60000) // 60초 = 1분
     public void validateStockConsistency() {
         log.debug("=== 재고 정합성 검증 시작 ===");
 
         try {
-            List<Product> products = productFinderService.getAllProduct();
-
-            int totalCount = 0;
-            int mismatchCount = 0;
-
-            for (Product product : products) {
-                totalCount++;
-
-                try {
-                    // Redis 재고 조회
-                    Long redisStock = redisStockService.getStock(product.getId());
-
-                    // DB 재고와 비교
-                    if (product.getStock() != redisStock.intValue()) {
-                        mismatchCount++;
-
-                        log.warn("재고 불일치 감지: productId={}, productName={}, DB={}, Redis={}",
-                                product.getId(), product.getName(), product.getStock(), redisStock);
-
-                        // DB를 정답으로 Redis 복구
-                        redisStockService.setStock(product.getId(), product.getStock());
-
-                        log.info("재고 복구 완료: productId={}, 복구된 재고={}",
-                                product.getId(), product.getStock());
-                    }
-
-                } catch (Exception e) {
-                    log.error("재고 검증 실패: productId={}, productName={}",
-                            product.getId(), product.getName(), e);
-                }
-            }
+            SyncResult result = reconcile(PASS_VALIDATE, false);
 
-            if (mismatchCount > 0) {
-                log.warn("=== 재고 정합성 검증 완료 === 전체: {}, 불일치: {}, 복구 완료",
-                        totalCount, mismatchCount);
+            if (result.mismatchCount() > 0 || result.missingCount() > 0) {
+                log.warn("=== 재고 정합성 검증 완료 === 전체: {}, 불일치: {}, 누락: {}, 복구 완료",
+                        result.totalCount(), result.mismatchCount(), result.missingCount());
             } else {
                 log.debug("=== 재고 정합성 검증 완료 === 전체: {}, 모두 일치",
-                        totalCount);
+                        result.totalCount());
             }
 
         } catch (Exception e) {
@@ -81,43 +68,114 @@ public class StockSyncScheduler {
     /**
      * Redis에 없는 상품 재고 초기화
      * - 5분마다 실행
-     * - 새로 추가된 상품이 Redis에 없는 경우 대비
+     * - 새로 추가된 상품이 Redis에 없는 경우 대비 (값 비교 없이 누락만 복구)
      */
     @Scheduled(fixedDelay = 300000) // 300초 = 5분
     public void initializeMissingStock() {
         log.debug("=== 누락된 재고 초기화 시작 ===");
 
         try {
-            List<Product> products = productFinderService.getAllProduct();
+            SyncResult result = reconcile(PASS_INITIALIZE, true);
+
+            if (result.missingCount() > 0) {
+                log.info("=== 누락된 재고 초기화 완료 === 초기화된 상품: {}", result.missingCount());
+            } else {
+                log.debug("=== 누락된 재고 초기화 완료 === 누락된 상품 없음");
+            }
+
+        } catch (Exception e) {
+            log.error("누락된 재고 초기화 실패", e);
+        }
+    }
 
-            int initializedCount = 0;
+    /**
+     * 청크 단위 재고 대조
+     *
+     * @param pass 메트릭 태그용 패스 이름
+     * @param missingOnly true면 Redis에 없는 상품만 복구 (값 비교 생략)
+     */
+    private SyncResult reconcile(String pass, boolean missingOnly) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        long lastId = 0L;
+        int totalCount = 0;
+        int mismatchCount = 0;
+        int missingCount = 0;
+
+        while (true) {
+            // 1. DB 재고 스냅샷 청크 조회 (키셋 페이징)
+            List<ProductStockSnapshot> chunk = productFinderService.getStockSnapshotChunk(lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            try {
+                // 2. Redis 재고 일괄 조회 (MGET)
+                List<Long> productIds = chunk.stream()
+                        .map(ProductStockSnapshot::productId)
+                        .toList();
+                Map<Long, Long> redisStocks = redisStockService.getStocks(productIds);
+
+                // 3. 비교 후 복구 대상 수집
+                Map<Long, Integer> fixes = new LinkedHashMap<>();
+                for (ProductStockSnapshot snapshot : chunk) {
+                    Long redisStock = redisStocks.get(snapshot.productId());
+
+                    // DB 미반영 변화량(Write-Behind 버퍼)을 보정한 기대 재고
+                    int expectedStock = (int) (snapshot.stock()
+                            - stockWriteBehindService.getPendingStockDecrease(snapshot.productId()));
 
-            for (Product product : products) {
-                try {
-                    // Redis에 재고 존재 여부 확인
-                    if (!redisStockService.existsStock(product.getId())) {
-                        // 없으면 DB 재고로 초기화
-                        redisStockService.setStock(product.getId(), product.getStock());
-                        initializedCount++;
+                    if (redisStock == null) {
+                        missingCount++;
+                        fixes.put(snapshot.productId(), expectedStock);
 
-                        log.info("누락된 재고 초기화: productId={}, productName={}, stock={}",
-                                product.getId(), product.getName(), product.getStock());
+                    } else if (!missingOnly && redisStock != expectedStock) {
+                        mismatchCount++;
+                        fixes.put(snapshot.productId(), expectedStock);
+
+                        log.warn("재고 불일치 감지: productId={}, DB={}, 기대값={}, Redis={}",
+                                snapshot.productId(), snapshot.stock(), expectedStock, redisStock);
                     }
+                }
 
-                } catch (Exception e) {
-                    log.error("재고 초기화 실패: productId={}, productName={}",
-                            product.getId(), product.getName(), e);
+                // 4. DB를 정답으로 Redis 일괄 복구 (MSET)
+                if (!fixes.isEmpty()) {
+                    redisStockService.setStocks(fixes);
+                    log.info("재고 복구 완료: 복구 상품수={}", fixes.size());
                 }
-            }
 
-            if (initializedCount > 0) {
-                log.info("=== 누락된 재고 초기화 완료 === 초기화된 상품: {}", initializedCount);
-            } else {
-                log.debug("=== 누락된 재고 초기화 완료 === 누락된 상품 없음");
+            } catch (Exception e) {
+                log.error("재고 청크 검증 실패: productId {} ~ {}",
+                        chunk.get(0).productId(), chunk.get(chunk.size() - 1).productId(), e);
             }
 
-        } catch (Exception e) {
-            log.error("누락된 재고 초기화 실패", e);
+            totalCount += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).productId();
+
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
         }
+
+        sample.stop(Timer.builder("stock.sync.duration")
+                .description("재고 정합성 검증 패스 소요 시간")
+                .tag("pass", pass)
+                .register(meterRegistry));
+        recordCount(pass, "mismatch", mismatchCount);
+        recordCount(pass, "missing", missingCount);
+
+        return new SyncResult(totalCount, mismatchCount, missingCount);
+    }
+
+    private void recordCount(String pass, String type, int count) {
+        DistributionSummary.builder("stock.sync.mismatches")
+                .description("재고 정합성 검증 패스별 불일치 건수")
+                .tag("pass", pass)
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    private record SyncResult(int totalCount, int mismatchCount, int missingCount) {
     }
 }
@@ -0,0 +1,32 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockWriteBehindService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 Write-Behind 반영 스케줄러
+ * - 200ms마다 누적된 재고/판매량 변화량을 DB에 일괄 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockWriteBehindScheduler {
+
+    private final StockWriteBehindService stockWriteBehindService;
+
+    @Scheduled(fixedDelay = 200) // 이전 반영 완료 후 200ms 대기
+    public void flushStockDeltas() {
+        try {
+            int flushedCount = stockWriteBehindService.flush();
+
+            if (flushedCount > 0) {
+                log.debug("재고 변화량 반영: 상품수={}", flushedCount);
+            }
+        } catch (Exception e) {
+            log.error("재고 변화량 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.scheduler;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.TrendingRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 트렌드 랭킹 갱신 스케줄러
+ * - 1분마다 시간 버킷을 합산해 최근 1시간/24시간 트렌드 집계 갱신
+ * - 지난 시간 버킷 합은 정시마다 1회만 계산하므로 매 갱신은 ZUNIONSTORE 소수 키 합산으로 끝남
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingRankingScheduler {
+
+    private final TrendingRankingService trendingRankingService;
+
+    @Scheduled(fixedDelay = 60000) // 60초 = 1분
+    public void refreshTrendingRankings() {
+        trendingRankingService.refreshAll();
+    }
+}
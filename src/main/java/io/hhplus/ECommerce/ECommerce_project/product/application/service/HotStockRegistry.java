@@ -0,0 +1,119 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핫 상품(재고 스트라이프 모드) 레지스트리
+ *
+ * - Redis Hash {stock}:hot:products (productId → 스트라이프 수)를 원본으로 사용
+ * - 재고 차감 경로에서 Redis 조회가 추가되지 않도록 노드 로컬에 복사본을 유지 (5초마다 갱신)
+ * - 다른 노드에서 승격/해제된 직후에는 로컬 복사본이 늦을 수 있으므로,
+ *   재고 부족 판정 시 reload()로 해당 상품만 다시 확인한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotStockRegistry {
+
+    static final String HOT_PRODUCTS_KEY = "{stock}:hot:products";
+    private static final int DEFAULT_STRIPE_COUNT = 1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Map<Long, Integer> stripeCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 상품의 스트라이프 수 (로컬 복사본 기준, 일반 상품은 1)
+     */
+    public int getStripeCount(Long productId) {
+        return stripeCounts.getOrDefault(productId, DEFAULT_STRIPE_COUNT);
+    }
+
+    public boolean isHot(Long productId) {
+        return getStripeCount(productId) > DEFAULT_STRIPE_COUNT;
+    }
+
+    /**
+     * 단일 상품의 스트라이프 수를 Redis에서 다시 읽어 로컬 복사본 갱신
+     *
+     * @return 최신 스트라이프 수
+     */
+    public int reload(Long productId) {
+        Object value = redisTemplate.opsForHash().get(HOT_PRODUCTS_KEY, productId.toString());
+        int stripeCount = value != null ? Integer.parseInt(value.toString()) : DEFAULT_STRIPE_COUNT;
+        apply(productId, stripeCount);
+        return stripeCount;
+    }
+
+    /**
+     * 여러 상품의 스트라이프 수를 다시 읽어 로컬 복사본 갱신
+     *
+     * @return 하나라도 스트라이프 수가 바뀌었으면 true
+     */
+    public boolean reloadAny(Collection<Long> productIds) {
+        boolean changed = false;
+        for (Long productId : productIds) {
+            int before = getStripeCount(productId);
+            if (reload(productId) != before) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 핫 상품 등록 (스트라이프 수 저장)
+     */
+    public void register(Long productId, int stripeCount) {
+        redisTemplate.opsForHash().put(HOT_PRODUCTS_KEY, productId.toString(), String.valueOf(stripeCount));
+        apply(productId, stripeCount);
+    }
+
+    /**
+     * 핫 상품 해제
+     */
+    public void unregister(Long productId) {
+        redisTemplate.opsForHash().delete(HOT_PRODUCTS_KEY, productId.toString());
+        stripeCounts.remove(productId);
+    }
+
+    /**
+     * 전체 핫 상품 목록 갱신 (기동 시, 5초마다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 5000)
+    public void refresh() {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(HOT_PRODUCTS_KEY);
+
+            Map<Long, Integer> latest = new HashMap<>();
+            entries.forEach((productId, stripeCount) ->
+                    latest.put(Long.valueOf(productId.toString()), Integer.valueOf(stripeCount.toString())));
+
+            stripeCounts.keySet().removeIf(productId -> !latest.containsKey(productId));
+            stripeCounts.putAll(latest);
+
+        } catch (Exception e) {
+            log.error("핫 상품 목록 갱신 실패", e);
+        }
+    }
+
+    private void apply(Long productId, int stripeCount) {
+        if (stripeCount > DEFAULT_STRIPE_COUNT) {
+            stripeCounts.put(productId, stripeCount);
+        } else {
+            stripeCounts.remove(productId);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 → 카테고리 ID 조회기 (카테고리별 랭킹 반영용)
+ *
+ * - 판매/조회 점수 반영마다 DB를 조회하지 않도록 노드 로컬(Caffeine)에 매핑을 보관
+ * - 캐시 미스 상품은 쿼리 1회로 일괄 조회
+ * - 상품의 카테고리가 변경되면 evict()로 즉시 무효화 (다른 노드는 만료 시간 내에 갱신)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCategoryResolver {
+
+    private final ProductFinderService productFinderService;
+
+    private final Cache<Long, Long> categoryIds = Caffeine.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)  // 10분 후 만료
+            .maximumSize(100_000)
+            .build();
+
+    /**
+     * 상품 ID 목록의 카테고리 ID 조회
+     *
+     * @return productId → categoryId (존재하지 않거나 카테고리가 없는 상품은 포함되지 않음)
+     */
+    public Map<Long, Long> resolve(Collection<Long> productIds) {
+        return categoryIds.getAll(productIds, missedIds -> productFinderService.getCategoryIds(Set.copyOf(missedIds)));
+    }
+
+    public void evict(Long productId) {
+        categoryIds.invalidate(productId);
+    }
+}
@@ -2,14 +2,22 @@ package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCategoryId;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursor;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -55,6 +63,37 @@ public class ProductFinderService {
         return productRepository.findProducts(categoryId, pageable);
     }
 
+    /**
+     * 키셋 페이징 상품 조회
+     *
+     * @param cursor 이전 페이지 마지막 상품 위치 (첫 페이지면 null)
+     * @param limit 최대 조회 건수
+     */
+    public List<Product> getProductsAfter(Long categoryId, ProductSortType sortType, ProductCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        Long cursorId = cursor != null ? cursor.id() : null;
+
+        return switch (sortType) {
+            case LATEST -> productRepository.findLatestAfter(
+                    categoryId, cursor != null ? cursor.createdAt() : null, cursorId, pageable);
+            case POPULAR -> productRepository.findPopularAfter(
+                    categoryId, cursor != null ? cursor.count() : null, cursorId, pageable);
+            case VIEWED -> productRepository.findViewedAfter(
+                    categoryId, cursor != null ? cursor.count() : null, cursorId, pageable);
+            case PRICE_LOW -> productRepository.findPriceLowAfter(
+                    categoryId, cursor != null ? cursor.price() : null, cursorId, pageable);
+            case PRICE_HIGH -> productRepository.findPriceHighAfter(
+                    categoryId, cursor != null ? cursor.price() : null, cursorId, pageable);
+        };
+    }
+
+    /**
+     * 활성 상품 수 (카테고리 필터)
+     */
+    public long countActiveProducts(Long categoryId) {
+        return productRepository.countActiveProducts(categoryId);
+    }
+
     /**
      * 인기상품 조회
      */
@@ -68,4 +107,22 @@ public class ProductFinderService {
     public List<Product> getAllProductsById(List<Long> productIds) {
         return productRepository.findAllById(productIds);
     }
+
+    /**
+     * 상품 ID 목록의 카테고리 ID 조회
+     *
+     * @return productId → categoryId
+     */
+    public Map<Long, Long> getCategoryIds(Collection<Long> productIds) {
+        return productRepository.findCategoryIds(productIds).stream()
+                .collect(Collectors.toMap(ProductCategoryId::productId, ProductCategoryId::categoryId));
+    }
+
+    /**
+     * 재고 스냅샷 청크 조회 (키셋 페이징)
+     * - lastId 이후 id 오름차순으로 최대 size건
+     */
+    public List<ProductStockSnapshot> getStockSnapshotChunk(Long lastId, int size) {
+        return productRepository.findStockSnapshotsAfter(lastId, PageRequest.of(0, size));
+    }
 }
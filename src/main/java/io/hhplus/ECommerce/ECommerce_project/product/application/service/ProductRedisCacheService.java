@@ -5,13 +5,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.WeekFields;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -38,42 +45,19 @@ public class ProductRedisCacheService {
     }
 
     /**
-     * 일별 상품 캐싱
+     * 일별 상품 일괄 조회 (MGET 1회)
+     *
+     * @return productId → 캐시 DTO (캐시 미스 상품은 포함되지 않음)
      */
-    public void cacheDailyProduct(Product product) {
-        try {
-            String dailyKey = getDailyCacheKey(product.getId());
-            ProductCacheDto dto = ProductCacheDto.from(product);
-            String json = objectMapper.writeValueAsString(dto);
-
-            redisTemplate.opsForValue().set(dailyKey, json, DAILY_TTL);
-
-            log.debug("일별 상품 캐시 저장 - key: {}", dailyKey);
-        } catch (JsonProcessingException e) {
-            log.error("일별 상품 캐시 저장 실패 - productId: {}", product.getId(), e);
-        }
+    public Map<Long, ProductCacheDto> getDailyProducts(List<Long> productIds) {
+        return getProducts(productIds, this::getDailyCacheKey);
     }
 
     /**
-     * 일별 상품 조회
+     * 일별 상품 일괄 캐싱 (파이프라인 1회)
      */
-    public Optional<ProductCacheDto> getDailyProduct(Long productId) {
-        try {
-            String dailyKey = getDailyCacheKey(productId);
-            String json = redisTemplate.opsForValue().get(dailyKey);
-
-            if (json == null) {
-                log.debug("일별 캐시 미스 - productId: {}", productId);
-                return Optional.empty();
-            }
-
-            ProductCacheDto dto = objectMapper.readValue(json, ProductCacheDto.class);
-            log.debug("일별 캐시 히트 - productId: {}", productId);
-            return Optional.of(dto);
-        } catch (JsonProcessingException e) {
-            log.error("일별 캐시 조회 실패 - productId: {}", productId, e);
-            return Optional.empty();
-        }
+    public void cacheDailyProducts(List<Product> products) {
+        cacheProducts(products, this::getDailyCacheKey, DAILY_TTL);
     }
 
     // ===== 주간 캐시 =====
@@ -89,42 +73,83 @@ public class ProductRedisCacheService {
     }
 
     /**
-     * 주간 상품 캐싱
+     * 주간 상품 일괄 조회 (MGET 1회)
+     *
+     * @return productId → 캐시 DTO (캐시 미스 상품은 포함되지 않음)
      */
-    public void cacheWeeklyProduct(Product product) {
-        try {
-            String key = getWeeklyCacheKey(product.getId());
-            ProductCacheDto dto = ProductCacheDto.from(product);
-            String json = objectMapper.writeValueAsString(dto);
-
-            redisTemplate.opsForValue().set(key, json, WEEKLY_TTL);
-
-            log.debug("주간 상품 캐시 저장 - key: {}", key);
-        } catch (JsonProcessingException e) {
-            log.error("주간 상품 캐시 저장 실패 - productId: {}", product.getId(), e);
-        }
+    public Map<Long, ProductCacheDto> getWeeklyProducts(List<Long> productIds) {
+        return getProducts(productIds, this::getWeeklyCacheKey);
     }
 
     /**
-     * 주간 상품 조회
+     * 주간 상품 일괄 캐싱 (파이프라인 1회)
      */
-    public Optional<ProductCacheDto> getWeeklyProduct(Long productId) {
-        try {
-            String key = getWeeklyCacheKey(productId);
-            String json = redisTemplate.opsForValue().get(key);
+    public void cacheWeeklyProducts(List<Product> products) {
+        cacheProducts(products, this::getWeeklyCacheKey, WEEKLY_TTL);
+    }
+
+    // ===== 일괄 처리 =====
+
+    private Map<Long, ProductCacheDto> getProducts(List<Long> productIds, Function<Long, String> keyMapper) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
 
+        List<String> keys = productIds.stream()
+                .map(keyMapper)
+                .toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, ProductCacheDto> result = new HashMap<>();
+        if (values == null) {
+            return result;
+        }
+
+        for (int i = 0; i < productIds.size(); i++) {
+            String json = values.get(i);
             if (json == null) {
-                log.debug("주간 캐시 미스 - productId: {}", productId);
-                return Optional.empty();
+                continue;
+            }
+
+            try {
+                result.put(productIds.get(i), objectMapper.readValue(json, ProductCacheDto.class));
+            } catch (JsonProcessingException e) {
+                // 손상된 캐시는 미스로 처리 (DB 조회 후 다시 캐싱됨)
+                log.error("상품 캐시 역직렬화 실패 - key: {}", keys.get(i), e);
+            }
+        }
+
+        log.debug("상품 캐시 일괄 조회 - 요청: {}, 히트: {}", productIds.size(), result.size());
+        return result;
+    }
+
+    private void cacheProducts(List<Product> products, Function<Long, String> keyMapper, Duration ttl) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (Product product : products) {
+            try {
+                entries.put(keyMapper.apply(product.getId()),
+                        objectMapper.writeValueAsString(ProductCacheDto.from(product)));
+            } catch (JsonProcessingException e) {
+                log.error("상품 캐시 저장 실패 - productId: {}", product.getId(), e);
             }
+        }
 
-            ProductCacheDto dto = objectMapper.readValue(json, ProductCacheDto.class);
-            log.debug("주간 캐시 히트 - productId: {}", productId);
-            return Optional.of(dto);
-        } catch (JsonProcessingException e) {
-            log.error("주간 캐시 조회 실패 - productId: {}", productId, e);
-            return Optional.empty();
+        if (entries.isEmpty()) {
+            return;
         }
+
+        // SET key value EX ttl 을 파이프라인으로 한 번에 전송
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                entries.forEach((key, json) -> ops.opsForValue().set(key, json, ttl));
+                return null;
+            }
+        });
+
+        log.debug("상품 캐시 일괄 저장 - 상품수: {}", entries.size());
     }
 
     // ===== 캐시 DTO =====
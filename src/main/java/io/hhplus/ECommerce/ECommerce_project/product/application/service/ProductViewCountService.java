@@ -0,0 +1,140 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductViewCountJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 조회수 버퍼링 서비스
+ *
+ * 상품 조회마다 products UPDATE + 랭킹 ZINCRBY를 보내는 대신:
+ * 1. 상품별 조회수를 노드 메모리의 LongAdder에 누적 (조회 경로에서는 I/O 없음)
+ * 2. 주기적으로 랭킹 키에 Lua Script 1회(상품 전체 ZINCRBY), DB에 JDBC batch 1회(view_count + ?)로 반영
+ * 3. 한쪽 반영이 실패하면 그쪽 누적분만 다음 주기에 재시도 (랭킹은 실패한 배치부터만 재시도)
+ * 4. 한 주기 동안 조회가 없던 상품의 카운터는 제거 (조회된 적 있는 상품 수만큼 맵이 커지지 않게)
+ * 5. 종료 시 마지막으로 반영 (비정상 종료 시 마지막 주기분은 유실될 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductViewCountService {
+
+    private static final int RANKING_BATCH_SIZE = 1000;
+
+    private final RedisRankingService redisRankingService;
+    private final ProductViewCountJdbcRepository productViewCountJdbcRepository;
+
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 반영 실패로 다음 주기에 재시도할 조회수 (flushLock 안에서만 접근)
+    private final Map<Long, Long> pendingRanking = new HashMap<>();
+    private final Map<Long, Long> pendingDatabase = new HashMap<>();
+
+    /**
+     * 조회 1건 누적
+     */
+    public void recordView(Long productId) {
+        counters.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적된 조회수를 랭킹(Redis)과 DB에 일괄 반영
+     *
+     * @return 반영한 상품 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> drained = drain();
+            drained.forEach((productId, count) -> {
+                pendingRanking.merge(productId, count, Long::sum);
+                pendingDatabase.merge(productId, count, Long::sum);
+            });
+
+            flushRanking();
+
+            int flushedCount = pendingDatabase.size();
+            if (!pendingDatabase.isEmpty()) {
+                try {
+                    productViewCountJdbcRepository.applyViewCounts(pendingDatabase);
+                    pendingDatabase.clear();
+                } catch (Exception e) {
+                    log.error("조회수 DB 반영 실패, 다음 주기에 재시도: 상품수={}", pendingDatabase.size(), e);
+                    flushedCount = 0;
+                }
+            }
+            return flushedCount;
+
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 랭킹 반영 (RANKING_BATCH_SIZE개씩)
+     * - 성공한 배치는 즉시 대기분에서 제거하여, 뒤 배치가 실패해도 앞 배치가 다시 반영(중복 집계)되지 않게 함
+     */
+    private void flushRanking() {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : pendingRanking.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == RANKING_BATCH_SIZE) {
+                batches.add(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+
+        for (Map<Long, Long> rankingBatch : batches) {
+            try {
+                redisRankingService.incrementViewCounts(rankingBatch);
+                pendingRanking.keySet().removeAll(rankingBatch.keySet());
+            } catch (Exception e) {
+                log.error("조회수 랭킹 반영 실패, 다음 주기에 재시도: 상품수={}", pendingRanking.size(), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 카운터별 누적분 회수
+     * - 이번 주기에 조회가 없던 카운터는 맵에서 제거
+     * - 제거 직전에 들어온 조회는 제거 후 한 번 더 회수해 유실을 막음
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        counters.forEach((productId, counter) -> {
+            long count = counter.sumThenReset();
+            if (count == 0 && counters.remove(productId, counter)) {
+                count = counter.sumThenReset();
+            }
+            if (count > 0) {
+                drained.put(productId, count);
+            }
+        });
+        return drained;
+    }
+}
@@ -0,0 +1,169 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.DailyProductSales;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.RankingRebuildResult;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductSalesJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.WeekFields;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 이력 기반 랭킹 재구성 서비스
+ *
+ * Redis 랭킹 ZSET이 유실된 경우(FLUSH, AOF 없는 페일오버, 만료)를 대비해
+ * order_items(결제 완료분)를 payments.completed_at 기준 일 단위로 스트리밍 집계한 뒤
+ * 보관 중인 일별 랭킹(최근 7일)과 이번 주 주간 랭킹을 전체/카테고리별로 교체한다.
+ * - 각 랭킹은 임시 키에 파이프라인 ZADD로 적재 후 RENAME (RedisRankingService.replaceRanking)
+ * - 판매 점수만 복원된다 (조회수 점수는 주문 이력에 없으므로 이후 조회부터 다시 쌓임)
+ * - 집계 이후 교체 전까지 들어온 실시간 조회수 증가분은 교체 시 유실될 수 있다
+ * - 기동 시에는 없는 랭킹만 채우고(rebuildIfMissing), 관리자 요청 시에는 모두 교체한다(rebuild)
+ * - 여러 노드가 동시에 재구성하지 않도록 Redis 점유 키를 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingRebuildService {
+
+    private final ProductSalesJdbcRepository productSalesJdbcRepository;
+    private final RedisRankingService redisRankingService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final int DAILY_RETENTION_DAYS = 7;
+    private static final String REBUILD_LEASE_KEY = "ranking:rebuild:lease";
+    private static final Duration REBUILD_LEASE_TTL = Duration.ofMinutes(10);
+
+    /**
+     * 현재 일별/주간 랭킹이 없으면 없는 랭킹만 재구성 (기동 시 RankingWarmer에서 호출)
+     * - 이미 있는 랭킹은 조회수 점수를 보존하기 위해 교체하지 않음
+     *
+     * @return 재구성 결과 (랭킹이 모두 있거나 다른 노드가 재구성 중이면 empty)
+     */
+    public Optional<RankingRebuildResult> rebuildIfMissing() {
+        if (redisRankingService.hasCurrentRankings()) {
+            return Optional.empty();
+        }
+        return rebuild(false);
+    }
+
+    /**
+     * 보관 중인 랭킹 전체 재구성 (관리자 요청)
+     *
+     * @return 재구성 결과 (다른 노드가 재구성 중이면 empty)
+     */
+    public Optional<RankingRebuildResult> rebuild() {
+        return rebuild(true);
+    }
+
+    private Optional<RankingRebuildResult> rebuild(boolean overwrite) {
+        String leaseOwner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(REBUILD_LEASE_KEY, leaseOwner, REBUILD_LEASE_TTL))) {
+            log.info("랭킹 재구성 건너뜀 - 다른 노드에서 재구성 중");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(rebuildRankings(overwrite));
+        } finally {
+            if (leaseOwner.equals(redisTemplate.opsForValue().get(REBUILD_LEASE_KEY))) {
+                redisTemplate.delete(REBUILD_LEASE_KEY);
+            }
+        }
+    }
+
+    private RankingRebuildResult rebuildRankings(boolean overwrite) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        LocalDate dailyFrom = today.minusDays(DAILY_RETENTION_DAYS - 1);
+        LocalDate weekStart = today.with(WeekFields.ISO.dayOfWeek(), 1);
+        LocalDate from = dailyFrom.isBefore(weekStart) ? dailyFrom : weekStart;
+
+        // 1. 판매 이력 집계
+        // - 전체: 날짜 → productId → 판매량, productId → 주간 판매량
+        // - 카테고리별: categoryId → 날짜 → productId → 판매량, categoryId → productId → 주간 판매량
+        Map<LocalDate, Map<Long, Long>> dailySales = new HashMap<>();
+        Map<Long, Long> weeklySales = new HashMap<>();
+        Map<Long, Map<LocalDate, Map<Long, Long>>> categoryDailySales = new HashMap<>();
+        Map<Long, Map<Long, Long>> categoryWeeklySales = new HashMap<>();
+        AtomicLong soldQuantity = new AtomicLong();
+
+        productSalesJdbcRepository.streamDailySales(from.atStartOfDay(), now, (DailyProductSales sales) -> {
+            soldQuantity.addAndGet(sales.quantity());
+            boolean daily = !sales.soldDate().isBefore(dailyFrom);
+            boolean weekly = !sales.soldDate().isBefore(weekStart);
+
+            if (daily) {
+                dailySales.computeIfAbsent(sales.soldDate(), day -> new HashMap<>())
+                        .merge(sales.productId(), sales.quantity(), Long::sum);
+            }
+            if (weekly) {
+                weeklySales.merge(sales.productId(), sales.quantity(), Long::sum);
+            }
+
+            if (sales.categoryId() == null) {
+                return;
+            }
+            if (daily) {
+                categoryDailySales.computeIfAbsent(sales.categoryId(), id -> new HashMap<>())
+                        .computeIfAbsent(sales.soldDate(), day -> new HashMap<>())
+                        .merge(sales.productId(), sales.quantity(), Long::sum);
+            }
+            if (weekly) {
+                categoryWeeklySales.computeIfAbsent(sales.categoryId(), id -> new HashMap<>())
+                        .merge(sales.productId(), sales.quantity(), Long::sum);
+            }
+        });
+
+        // 2. 전체 랭킹 교체
+        int dailyRankingCount = 0;
+        for (Map.Entry<LocalDate, Map<Long, Long>> day : dailySales.entrySet()) {
+            if (redisRankingService.replaceDailyRanking(day.getKey(), day.getValue(), overwrite)) {
+                dailyRankingCount++;
+            }
+        }
+
+        int weeklyRankingCount = redisRankingService.replaceWeeklyRanking(today, weeklySales, overwrite) ? 1 : 0;
+
+        // 3. 카테고리별 랭킹 교체
+        int categoryDailyRankingCount = 0;
+        for (Map.Entry<Long, Map<LocalDate, Map<Long, Long>>> category : categoryDailySales.entrySet()) {
+            for (Map.Entry<LocalDate, Map<Long, Long>> day : category.getValue().entrySet()) {
+                if (redisRankingService.replaceCategoryDailyRanking(
+                        category.getKey(), day.getKey(), day.getValue(), overwrite)) {
+                    categoryDailyRankingCount++;
+                }
+            }
+        }
+
+        int categoryWeeklyRankingCount = 0;
+        for (Map.Entry<Long, Map<Long, Long>> category : categoryWeeklySales.entrySet()) {
+            if (redisRankingService.replaceCategoryWeeklyRanking(
+                    category.getKey(), today, category.getValue(), overwrite)) {
+                categoryWeeklyRankingCount++;
+            }
+        }
+
+        RankingRebuildResult result = new RankingRebuildResult(
+                from,
+                dailyRankingCount,
+                weeklyRankingCount,
+                categoryDailyRankingCount,
+                categoryWeeklyRankingCount,
+                soldQuantity.get()
+        );
+
+        log.info("랭킹 재구성 완료 - {}", result);
+        return result;
+    }
+}
@@ -1,59 +1,69 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
+import io.hhplus.ECommerce.ECommerce_project.common.config.RedisScriptRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-
+import java.util.UUID;
+
+/**
+ * Redis 인기상품 랭킹 서비스
+ * - 일별: ranking:daily:{yyyyMMdd} (7일 보관), 주간: ranking:weekly:{year}-W{week} (4주 보관)
+ * - 시간 버킷: ranking:hourly:{yyyyMMddHH} (26시간 보관, 실시간 트렌드 집계용 - TrendingRankingService)
+ * - 카테고리별: ranking:category:{categoryId}:daily:{yyyyMMdd}, ranking:category:{categoryId}:weekly:{year}-W{week}
+ *
+ * 점수 증가는 rankingIncrementScript 1회 호출로 일별/주간/시간 버킷과 카테고리별 랭킹의 ZINCRBY, TTL 설정을 함께 처리하고,
+ * 한 결제의 여러 상품(조회수는 버퍼링된 상품 배치 단위)도 한 번에 반영한다 (상품 → 카테고리는 ProductCategoryResolver).
+ * 현재 시각의 키는 정시가 지날 때까지 재사용한다 (호출마다 날짜/키 문자열을 다시 만들지 않음).
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RedisRankingService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final RedisScript<Long> rankingIncrementScript;
+    private final ProductCategoryResolver productCategoryResolver;
 
     private static final String DAILY_RANKING_PREFIX = "ranking:daily:";
     private static final String WEEKLY_RANKING_PREFIX = "ranking:weekly:";
+    private static final String HOURLY_RANKING_PREFIX = "ranking:hourly:";
+    private static final String CATEGORY_RANKING_PREFIX = "ranking:category:";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final DateTimeFormatter HOURLY_KEY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
     private static final Double SOLD_COUNT_WEIGHT = 10000.0;
     private static final Double VIEW_COUNT_WEIGHT = 1.0;
+    private static final Duration DAILY_TTL = Duration.ofDays(7);
+    private static final Duration WEEKLY_TTL = Duration.ofDays(28);
+    private static final Duration HOURLY_TTL = Duration.ofHours(26);
+    private static final List<Duration> GLOBAL_TTLS = List.of(DAILY_TTL, WEEKLY_TTL, HOURLY_TTL);
+    private static final List<Duration> CATEGORY_TTLS = List.of(DAILY_TTL, WEEKLY_TTL);
+    private static final int SCORE_BATCH_SIZE = 1000;
 
-    /**
-     * 일별 인기상품 Sort Set 초기화
-     * @param productId
-     * @param soldCount
-     * @param viewCount
-     */
-    public void initializeDailyProductScore(Long productId, int soldCount, int viewCount) {
-        double score = calculateScore(soldCount, viewCount);
-        LocalDate today = LocalDate.now();  // YYYY-MM-DD
-
-        // 일별 랭킹 업데이트
-        String dailyKey = DAILY_RANKING_PREFIX + today.toString().replace("-", "");
-        redisTemplate.opsForZSet().add(dailyKey, productId.toString(), score);
-
-        // dailyKey TTL 설정 (7일 후 자동 삭제)
-        redisTemplate.expire(dailyKey, Duration.ofDays(7));
-    }
-
-    public void initializeWeeklyProductScore(Long productId, int soldCount, int viewCount) {
-        double score = calculateScore(soldCount, viewCount);
-        LocalDate today = LocalDate.now();  // YYYY-MM-DD
-        WeekFields weekFields = WeekFields.ISO;
-
-        // 해당 주의 랭킹 업데이트
-        String weeklyKey = WEEKLY_RANKING_PREFIX + today.getYear() + "-W" + today.get(weekFields.weekOfYear());
-        redisTemplate.opsForZSet().add(weeklyKey, productId.toString(), score);
-
-        // weeklyKey TTL 설정 (4주 후 자동 삭제)
-        redisTemplate.expire(weeklyKey, Duration.ofDays(28));
-    }
+    // 현재 시각의 랭킹 키 (정시가 지나면 다시 계산)
+    private volatile RankingKeys currentKeys = RankingKeys.of(LocalDateTime.now());
 
     /**
      * 점수 계산 (판매량 우선)
@@ -69,20 +79,7 @@ public class RedisRankingService {
      * 오늘의 인기상품 TOP N 조회
      */
     public List<Long> getTodayTopProducts(int limit) {
-        LocalDate today = LocalDate.now();
-        String dailyKey = DAILY_RANKING_PREFIX + today.toString().replace("-", "");
-
-        // ZREVRANGE: 점수 높은 순으로 조회
-        Set<String> result = redisTemplate.opsForZSet()
-                .reverseRange(dailyKey, 0, limit - 1);
-
-        if (result == null) {
-            return List.of();
-        }
-
-        return result.stream()
-                .map(Long::parseLong)
-                .toList();
+        return getTopProducts(currentKeys().dailyKey(), limit);
     }
 
     /**
@@ -90,13 +87,27 @@ public class RedisRankingService {
      * 현재 주의 주간 랭킹 조회
      */
     public List<Long> getWeeklyTopProducts(int limit) {
-        LocalDate today = LocalDate.now();
-        WeekFields weekFields = WeekFields.ISO;
-        String weeklyKey = WEEKLY_RANKING_PREFIX + today.getYear() + "-W" + today.get(weekFields.weekOfYear());
+        return getTopProducts(currentKeys().weeklyKey(), limit);
+    }
+
+    /**
+     * 카테고리별 오늘의 인기상품 TOP N 조회
+     */
+    public List<Long> getTodayTopProducts(Long categoryId, int limit) {
+        return getTopProducts(currentKeys().categoryDailyKey(categoryId), limit);
+    }
+
+    /**
+     * 카테고리별 주간 인기상품 TOP N 조회
+     */
+    public List<Long> getWeeklyTopProducts(Long categoryId, int limit) {
+        return getTopProducts(currentKeys().categoryWeeklyKey(categoryId), limit);
+    }
 
+    private List<Long> getTopProducts(String rankingKey, int limit) {
         // ZREVRANGE: 점수 높은 순으로 조회
         Set<String> result = redisTemplate.opsForZSet()
-                .reverseRange(weeklyKey, 0, limit - 1);
+                .reverseRange(rankingKey, 0, limit - 1);
 
         if (result == null) {
             return List.of();
@@ -111,94 +122,191 @@ public class RedisRankingService {
      * 판매 발생 시 score 증가 (ZINCBY 활용)
      */
     public void incrementSoldCount(Long productId, int quantity) {
-        LocalDate today = LocalDate.now();
-        WeekFields weekFields = WeekFields.ISO;
-        String dailyKey = DAILY_RANKING_PREFIX + today.toString().replace("-", "");
-        String weeklyKey = WEEKLY_RANKING_PREFIX + today.getYear() + "-W" + today.get(weekFields.weekOfYear());
+        incrementSoldCounts(Map.of(productId, quantity));
+    }
+
+    /**
+     * 여러 상품 판매 발생 시 score 일괄 증가 (Lua Script 1회)
+     *
+     * @param quantities productId → 판매 수량
+     */
+    public void incrementSoldCounts(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
 
         // 판매량 * 10000 만큼 점수 증가
-        double incrementScore = calculateScore(quantity, 0);
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> scores.put(productId, calculateScore(quantity, 0)));
 
-        // ZINCRBY는 멤버가 없으면 자동으로 추가하므로 체크 불필요
-        incrementDailyScore(dailyKey, productId, incrementScore);
-        incrementWeeklyScore(weeklyKey, productId, incrementScore);
+        incrementScores(currentKeys(), scores);
     }
 
     /**
-     * 조회 발생 시 score 증가
+     * 누적 조회수만큼 score 일괄 증가 (ProductViewCountService가 주기적으로 호출)
+     * - 상품 1,000개씩 Lua Script 1회
+     *
+     * @param viewCounts productId → 누적 조회수
      */
-    public void incrementViewCount(Long productId) {
-        LocalDate today = LocalDate.now();
-        WeekFields weekFields = WeekFields.ISO;
-        String dailyKey = DAILY_RANKING_PREFIX + today.toString().replace("-", "");
-        String weeklyKey = WEEKLY_RANKING_PREFIX + today.getYear() + "-W" + today.get(weekFields.weekOfYear());
+    public void incrementViewCounts(Map<Long, Long> viewCounts) {
+        RankingKeys keys = currentKeys();
+        Map<Long, Double> scores = new LinkedHashMap<>();
+
+        for (Map.Entry<Long, Long> entry : viewCounts.entrySet()) {
+            scores.put(entry.getKey(), entry.getValue() * VIEW_COUNT_WEIGHT);
 
-        // ZINCRBY는 멤버가 없으면 자동으로 추가하므로 체크 불필요
-        incrementDailyScore(dailyKey, productId, 1.0);
-        incrementWeeklyScore(weeklyKey, productId, 1.0);
+            if (scores.size() == SCORE_BATCH_SIZE) {
+                incrementScores(keys, scores);
+                scores.clear();
+            }
+        }
+
+        if (!scores.isEmpty()) {
+            incrementScores(keys, scores);
+        }
     }
 
     /**
      * 환불 발생 시 score 감소 (ZINCBY 활용 - 음수를 이용해 감소)
      */
     public void decrementSoldCount(Long productId, int quantity, LocalDateTime paidAt) {
-        LocalDate paidDay = paidAt.toLocalDate();
-        WeekFields weekFields = WeekFields.ISO;
-        String dailyKey = DAILY_RANKING_PREFIX + paidDay.toString().replace("-", "");
-        String weeklyKey = WEEKLY_RANKING_PREFIX + paidDay.getYear() + "-W" + paidDay.get(weekFields.weekOfYear());
-
-        // 판매량 * 10000 만큼 점수 감소
+        // 판매량 * 10000 만큼 점수 감소 (결제일 기준 일별/주간 랭킹)
         double decrementScore = calculateScore(quantity, 0) * (-1);
+        incrementScores(RankingKeys.of(paidAt), Map.of(productId, decrementScore));
+    }
 
-        // 일별 및 주간 점수 감소
-        incrementDailyScore(dailyKey, productId, decrementScore);
-        incrementWeeklyScore(weeklyKey, productId, decrementScore);
+    /**
+     * 랭킹 점수 증가 (전체 일별/주간/시간 버킷 + 카테고리별 일별/주간을 스크립트 1회로 반영)
+     *
+     * @param scores productId → 증가 점수
+     */
+    private void incrementScores(RankingKeys keys, Map<Long, Double> scores) {
+        List<String> rankingKeys = new ArrayList<>(List.of(keys.dailyKey(), keys.weeklyKey(), keys.hourlyKey()));
+        List<Duration> ttls = new ArrayList<>(GLOBAL_TTLS);
+
+        // 카테고리 ID → 카테고리 일별 키의 KEYS 인덱스 (1부터 시작)
+        Map<Long, Long> categoryIds = productCategoryResolver.resolve(scores.keySet());
+        Map<Long, Integer> categoryKeyIndexes = new HashMap<>();
+        categoryIds.values().forEach(categoryId -> categoryKeyIndexes.computeIfAbsent(categoryId, id -> {
+            rankingKeys.add(keys.categoryDailyKey(id));
+            rankingKeys.add(keys.categoryWeeklyKey(id));
+            ttls.addAll(CATEGORY_TTLS);
+            return rankingKeys.size() - 1;
+        }));
+
+        List<String> args = new ArrayList<>(1 + ttls.size() + scores.size() * 3);
+        args.add(String.valueOf(GLOBAL_TTLS.size()));
+        ttls.forEach(ttl -> args.add(String.valueOf(ttl.toSeconds())));
+        scores.forEach((productId, score) -> {
+            Long categoryId = categoryIds.get(productId);
+            args.add(productId.toString());
+            args.add(String.valueOf(score));
+            args.add(categoryId != null ? categoryKeyIndexes.get(categoryId).toString() : "0");
+        });
+
+        redisScriptRegistry.execute(rankingIncrementScript, rankingKeys, args.toArray());
     }
 
     /**
-     * redis Zset에 일별 점수 증가
+     * 현재 일별/주간 랭킹 키 존재 여부 (랭킹 유실 감지용)
      */
-    public void incrementDailyScore(String dailyKey, Long productId, Double score) {
-        redisTemplate.opsForZSet().incrementScore(
-                dailyKey,
-                productId.toString(),
-                score
-        );
+    public boolean hasCurrentRankings() {
+        RankingKeys keys = currentKeys();
+        return Boolean.TRUE.equals(redisTemplate.hasKey(keys.dailyKey()))
+                && Boolean.TRUE.equals(redisTemplate.hasKey(keys.weeklyKey()));
+    }
 
-        // TTL이 없으면 설정 (이미 있으면 유지)
-        Long ttl = redisTemplate.getExpire(dailyKey);
-        // ZINCRBY는 멤버가 없으면 자동으로 추가하지만 TTL을 따로 설정해줘야 한다.
-        // dailyKey TTL 설정 (7일 후 자동 삭제)
-        if (ttl == null || ttl == -1) { // -1은 TTL이 설정되지 않음을 의미
-            redisTemplate.expire(dailyKey, Duration.ofDays(7));
-        }
+    // ===== 주문 이력 기반 재구성 (RankingRebuildService) =====
+    // overwrite가 false면 랭킹 키가 이미 있을 때 교체하지 않음 (조회수 점수 보존)
+    // 반환값: 교체 여부
+
+    /**
+     * 일별 랭킹을 판매량 기준으로 교체
+     */
+    public boolean replaceDailyRanking(LocalDate day, Map<Long, Long> soldQuantities, boolean overwrite) {
+        return replaceRanking(RankingKeys.of(day.atStartOfDay()).dailyKey(), soldQuantities, DAILY_TTL, overwrite);
     }
 
     /**
-     * redis Zset에 주간 점수 증가
+     * 주간 랭킹을 판매량 기준으로 교체
+     *
+     * @param day 해당 주에 속한 날짜
      */
-    public void incrementWeeklyScore(String weeklyKey, Long productId, Double score) {
-        redisTemplate.opsForZSet().incrementScore(
-                weeklyKey,
-                productId.toString(),
-                score
-        );
+    public boolean replaceWeeklyRanking(LocalDate day, Map<Long, Long> soldQuantities, boolean overwrite) {
+        return replaceRanking(RankingKeys.of(day.atStartOfDay()).weeklyKey(), soldQuantities, WEEKLY_TTL, overwrite);
+    }
 
-        // TTL이 없으면 설정 (이미 있으면 유지)
-        Long ttl = redisTemplate.getExpire(weeklyKey);
-        // ZINCRBY는 멤버가 없으면 자동으로 추가하지만 TTL을 따로 설정해줘야 한다.
-        // weeklyKey TTL 설정 (4주 후 자동 삭제)
-        if (ttl == null || ttl == -1) { // -1은 TTL이 설정되지 않음을 의미
-            redisTemplate.expire(weeklyKey, Duration.ofDays(28));
+    /**
+     * 카테고리별 일별 랭킹을 판매량 기준으로 교체
+     */
+    public boolean replaceCategoryDailyRanking(Long categoryId, LocalDate day, Map<Long, Long> soldQuantities,
+                                               boolean overwrite) {
+        return replaceRanking(RankingKeys.of(day.atStartOfDay()).categoryDailyKey(categoryId),
+                soldQuantities, DAILY_TTL, overwrite);
+    }
+
+    /**
+     * 카테고리별 주간 랭킹을 판매량 기준으로 교체
+     *
+     * @param day 해당 주에 속한 날짜
+     */
+    public boolean replaceCategoryWeeklyRanking(Long categoryId, LocalDate day, Map<Long, Long> soldQuantities,
+                                                boolean overwrite) {
+        return replaceRanking(RankingKeys.of(day.atStartOfDay()).categoryWeeklyKey(categoryId),
+                soldQuantities, WEEKLY_TTL, overwrite);
+    }
+
+    /**
+     * 랭킹 ZSET 교체
+     * - 임시 키에 ZADD를 SCORE_BATCH_SIZE개씩 파이프라인으로 적재 후 RENAME (조회 중에도 빈 랭킹이 보이지 않음)
+     */
+    private boolean replaceRanking(String rankingKey, Map<Long, Long> soldQuantities, Duration ttl, boolean overwrite) {
+        if (soldQuantities.isEmpty()) {
+            return false;
+        }
+        if (!overwrite && Boolean.TRUE.equals(redisTemplate.hasKey(rankingKey))) {
+            return false;
         }
+
+        String rebuildKey = rankingKey + REBUILD_SUFFIX + UUID.randomUUID();
+
+        List<Set<ZSetOperations.TypedTuple<String>>> chunks = new ArrayList<>();
+        Set<ZSetOperations.TypedTuple<String>> chunk = new HashSet<>();
+        for (Map.Entry<Long, Long> entry : soldQuantities.entrySet()) {
+            chunk.add(ZSetOperations.TypedTuple.of(
+                    entry.getKey().toString(), calculateScore(entry.getValue().intValue(), 0)));
+
+            if (chunk.size() == SCORE_BATCH_SIZE) {
+                chunks.add(chunk);
+                chunk = new HashSet<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                chunks.forEach(tuples -> ops.opsForZSet().add(rebuildKey, tuples));
+                ops.expire(rebuildKey, ttl);
+                return null;
+            }
+        });
+
+        redisTemplate.rename(rebuildKey, rankingKey);
+
+        log.debug("랭킹 재구성 완료 - key: {}, 상품수: {}", rankingKey, soldQuantities.size());
+        return true;
     }
 
     /**
      * 특정 멤버(상품)이 ZSET 안에 존재하는
      */
     public boolean existsInDailyOfZSet(Long productId) {
-        LocalDate today = LocalDate.now();
-        String dailyKey = DAILY_RANKING_PREFIX + today.toString().replace("-", "");
+        String dailyKey = currentKeys().dailyKey();
 
         Double score = redisTemplate.opsForZSet().score(dailyKey, productId.toString());
 
@@ -206,9 +314,7 @@ public class RedisRankingService {
     }
 
     public boolean existsInWeeklyOfZSet(Long productId) {
-        LocalDate today = LocalDate.now();
-        WeekFields weekFields = WeekFields.ISO;
-        String weeklyKey = WEEKLY_RANKING_PREFIX + today.getYear() + "-W" + today.get(weekFields.weekOfYear());
+        String weeklyKey = currentKeys().weeklyKey();
 
         Double score = redisTemplate.opsForZSet().score(weeklyKey, productId.toString());
 
@@ -221,17 +327,90 @@ public class RedisRankingService {
      * - 과거 랭킹은 TTL로 자동 삭제
      */
     public void removeFromRanking(Long productId) {
-        LocalDate today = LocalDate.now();
-        WeekFields weekFields = WeekFields.ISO;
-
-        String dailyKey = DAILY_RANKING_PREFIX + today.toString().replace("-", "");
-        String weeklyKey = WEEKLY_RANKING_PREFIX + today.getYear() + "-W" + today.get(weekFields.weekOfYear());
+        RankingKeys keys = currentKeys();
+        String dailyKey = keys.dailyKey();
+        String weeklyKey = keys.weeklyKey();
 
         // 일별/주간 랭킹에서 제거
         Long dailyRemoved = redisTemplate.opsForZSet().remove(dailyKey, productId.toString());
         Long weeklyRemoved = redisTemplate.opsForZSet().remove(weeklyKey, productId.toString());
 
+        // 현재 시간 버킷에서도 제거 (트렌드 집계는 다음 갱신 때 반영)
+        redisTemplate.opsForZSet().remove(keys.hourlyKey(), productId.toString());
+
+        // 카테고리별 랭킹에서 제거
+        Long categoryId = productCategoryResolver.resolve(List.of(productId)).get(productId);
+        if (categoryId != null) {
+            removeFromCategoryRanking(productId, categoryId);
+        }
+
         log.info("상품을 랭킹에서 제거 - productId: {}, daily: {}, weekly: {}",
                 productId, dailyRemoved > 0 ? "제거됨" : "없음", weeklyRemoved > 0 ? "제거됨" : "없음");
     }
+
+    /**
+     * 상품을 카테고리별 랭킹에서 제거 (카테고리 변경 시 이전 카테고리 랭킹 정리)
+     * - 현재 날짜/주차의 랭킹에서만 제거
+     */
+    public void removeFromCategoryRanking(Long productId, Long categoryId) {
+        RankingKeys keys = currentKeys();
+        redisTemplate.opsForZSet().remove(keys.categoryDailyKey(categoryId), productId.toString());
+        redisTemplate.opsForZSet().remove(keys.categoryWeeklyKey(categoryId), productId.toString());
+    }
+
+    /**
+     * 특정 시간의 시간 버킷 키 (ranking:hourly:{yyyyMMddHH})
+     */
+    public static String hourlyKey(LocalDateTime time) {
+        return HOURLY_RANKING_PREFIX + time.format(HOURLY_KEY_FORMAT);
+    }
+
+    /**
+     * 현재 시각의 랭킹 키 (정시가 지나면 다시 계산)
+     */
+    private RankingKeys currentKeys() {
+        RankingKeys keys = currentKeys;
+        if (System.currentTimeMillis() >= keys.validUntilMillis()) {
+            keys = RankingKeys.of(LocalDateTime.now());
+            currentKeys = keys;
+        }
+        return keys;
+    }
+
+    /**
+     * 특정 시각의 일별/주간/시간 버킷 랭킹 키
+     *
+     * @param day yyyyMMdd
+     * @param week {year}-W{week}
+     * @param validUntilMillis 이 키가 "현재"인 마지막 시각 (다음 정시)
+     */
+    private record RankingKeys(String day, String week, String hourlyKey, long validUntilMillis) {
+
+        static RankingKeys of(LocalDateTime time) {
+            LocalDate day = time.toLocalDate();
+            return new RankingKeys(
+                    day.toString().replace("-", ""),
+                    day.getYear() + "-W" + day.get(WeekFields.ISO.weekOfYear()),
+                    hourlyKey(time),
+                    time.truncatedTo(ChronoUnit.HOURS).plusHours(1)
+                            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            );
+        }
+
+        String dailyKey() {
+            return DAILY_RANKING_PREFIX + day;
+        }
+
+        String weeklyKey() {
+            return WEEKLY_RANKING_PREFIX + week;
+        }
+
+        String categoryDailyKey(Long categoryId) {
+            return CATEGORY_RANKING_PREFIX + categoryId + ":daily:" + day;
+        }
+
+        String categoryWeeklyKey(Long categoryId) {
+            return CATEGORY_RANKING_PREFIX + categoryId + ":weekly:" + week;
+        }
+    }
 }
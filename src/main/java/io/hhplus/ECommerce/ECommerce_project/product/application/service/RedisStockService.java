@@ -1,19 +1,37 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
+import io.hhplus.ECommerce.ECommerce_project.common.config.RedisScriptRegistry;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.HotStockStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Redis 기반 재고 관리 서비스
  * - Lua Script를 사용하여 원자적 재고 차감 보장
  * - 초당 1000건 이상 고트래픽 처리 가능
+ *
+ * 핫 상품(스트라이프) 모드:
+ * - 선착순 특가 상품처럼 한 키에 트래픽이 몰리는 상품은 재고를 N개 하위 키로 나눠 보관
+ * - 0번 스트라이프는 기존 키({stock}:product:{id}), 나머지는 {stock}:product:{id}:s{n}
+ *   (점유 반환 등 기존 키를 직접 증가시키는 경로도 그대로 합계에 포함됨)
+ * - 차감은 임의의 스트라이프부터 시도하고, 부족하면 나머지 스트라이프를 순서대로 시도
+ * - 재고 조회는 모든 스트라이프의 합계
+ *
+ * 품절 표시:
+ * - 차감 실패 후 남은 재고가 0이면 SoldOutRegistry에 표시 (이후 주문은 Redis 왕복 없이 거절)
+ * - 재고 증가/설정 시 모든 노드의 표시를 해제
  */
 @Slf4j
 @Service
@@ -21,49 +39,37 @@ import java.util.List;
 public class RedisStockService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final HotStockRegistry hotStockRegistry;
+    private final SoldOutRegistry soldOutRegistry;
+    private final RedisScript<Long> stockDecreaseScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> stockBatchDecreaseScript;
+    private final RedisScript<Long> stockStripeRedistributeScript;
+    private final RedisScript<Long> stockStripeDecreaseScript;
+    private final RedisScript<Long> stockStripeDemoteScript;
+    private final RedisScript<Long> stockStripeIncrementScript;
 
-    private static final String STOCK_KEY_PREFIX = "stock:product:";
-
-    /**
-     * Lua Script: 원자적 재고 차감
-     * - Redis의 단일 명령으로 실행되어 원자성 보장
-     * - 락 없이도 동시성 안전
-     */
-    private static final String DECREASE_STOCK_SCRIPT =
-            """
-            local key = KEYS[1]
-            local quantity = tonumber(ARGV[1])
-            local current = tonumber(redis.call('GET', key) or '0')
-
-            if current >= quantity then
-                redis.call('DECRBY', key, quantity)
-                return current - quantity
-            else
-                return -1
-            end
-            """;
+    private static final String STOCK_KEY_PREFIX = "{stock}:product:";
+    private static final String STRIPE_KEY_INFIX = ":s";
+    private static final long OUT_OF_STOCK = -1L;
 
     /**
      * 재고 차감 (원자적)
      *
      * @param productId 상품 ID
      * @param quantity 차감할 수량
-     * @return 차감 후 남은 재고
-     * @throws ProductException 재고 부족 시
+     * @return 차감 후 남은 재고 (핫 상품은 차감한 스트라이프의 남은 재고, 여러 스트라이프에 나눠 차감하면 전체 남은 재고)
+     * @throws ProductException 재고 부족 시 (핫 상품은 스트라이프 합계 기준)
      */
     public Long decreaseStock(Long productId, Integer quantity) {
-        String key = STOCK_KEY_PREFIX + productId;
-
         try {
             // Lua Script 실행 (원자적 보장, 락 불필요!)
-            Long remaining = redisTemplate.execute(
-                    RedisScript.of(DECREASE_STOCK_SCRIPT, Long.class),
-                    List.of(key),
-                    quantity.toString()
-            );
+            long remaining = decreaseWithReload(productId, quantity);
 
-            if (remaining == null || remaining == -1) {
+            if (remaining == OUT_OF_STOCK) {
                 log.warn("재고 부족: productId={}, 요청수량={}", productId, quantity);
+                markIfSoldOut(productId);
                 throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK);
             }
 
@@ -80,18 +86,86 @@ public class RedisStockService {
         }
     }
 
+    /**
+     * 여러 상품 재고 일괄 차감 (원자적, All or Nothing)
+     * - 단일 Lua Script 호출로 모든 상품의 재고를 확인 후 차감 (N RTT → 1 RTT)
+     * - 하나라도 부족하면 어떤 상품도 차감되지 않으므로 보상(increaseStock) 루프가 필요 없음
+     * - 핫 상품은 상품마다 스트라이프 합계 기준으로 따로 차감하며, 실패 시 이미 차감한 재고를 되돌림
+     *
+     * @param productQuantityMap 상품 ID별 차감 수량
+     * @return 재고가 부족한 상품 ID 목록 (비어 있으면 전체 차감 성공)
+     */
+    public List<Long> decreaseStocks(Map<Long, Integer> productQuantityMap) {
+        if (productQuantityMap.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<Long> shortageProductIds = decreaseStocksOnce(productQuantityMap);
+
+            // 다른 노드에서 핫 상품 전환/해제가 일어났을 수 있으므로 최신 상태로 한 번 더 시도
+            if (!shortageProductIds.isEmpty() && hotStockRegistry.reloadAny(shortageProductIds)) {
+                shortageProductIds = decreaseStocksOnce(productQuantityMap);
+            }
+
+            if (!shortageProductIds.isEmpty()) {
+                log.warn("재고 부족으로 일괄 차감 취소: 부족 상품={}, 요청={}",
+                        shortageProductIds, productQuantityMap);
+                shortageProductIds.forEach(this::markIfSoldOut);
+                return shortageProductIds;
+            }
+
+            log.debug("재고 일괄 차감 성공: 요청={}", productQuantityMap);
+
+            return List.of();
+
+        } catch (ProductException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Redis 재고 일괄 차감 실패: productIds={}", productQuantityMap.keySet(), e);
+            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * 재고 증가 (보상 트랜잭션용)
      *
      * @param productId 상품 ID
      * @param quantity 증가할 수량
-     * @return 증가 후 재고
+     * @return 증가 후 재고 (핫 상품은 증가시킨 스트라이프의 재고)
      */
     public Long increaseStock(Long productId, Integer quantity) {
-        String key = STOCK_KEY_PREFIX + productId;
+        Long newStock = incrementStock(productId, quantity);
+        soldOutRegistry.clear(List.of(productId));
+        return newStock;
+    }
+
+    /**
+     * 재고 복구 알림 (Redis 재고를 직접 증가시키는 경로용, 예: 재고 점유 반환 Lua Script)
+     * - 모든 노드의 품절 표시 해제
+     */
+    public void notifyStockRestored(Collection<Long> productIds) {
+        soldOutRegistry.clear(productIds);
+    }
+
+    /**
+     * 랜덤 스트라이프 재고 증가 (품절 표시 해제 없음)
+     */
+    private Long incrementStock(Long productId, Integer quantity) {
+        int stripeCount = hotStockRegistry.getStripeCount(productId);
+        int stripeIndex = ThreadLocalRandom.current().nextInt(stripeCount);
 
         try {
-            Long newStock = redisTemplate.opsForValue().increment(key, quantity);
+            // 스트라이프 키는 해제 여부를 확인하며 증가 (해제 직후 늦은 로컬 복사본으로 인한 고아 키 방지)
+            Long newStock = stripeIndex == 0
+                    ? redisTemplate.opsForValue().increment(stripeKey(productId, 0), quantity)
+                    : redisScriptRegistry.execute(
+                            stockStripeIncrementScript,
+                            List.of(stripeKey(productId, stripeIndex), stripeKey(productId, 0),
+                                    HotStockRegistry.HOT_PRODUCTS_KEY),
+                            productId.toString(),
+                            String.valueOf(quantity)
+                    );
 
             log.debug("재고 증가 성공: productId={}, 증가수량={}, 현재재고={}",
                     productId, quantity, newStock);
@@ -108,13 +182,16 @@ public class RedisStockService {
      * 현재 재고 조회
      *
      * @param productId 상품 ID
-     * @return 현재 재고 (없으면 0)
+     * @return 현재 재고 (없으면 0, 핫 상품은 스트라이프 합계)
      */
     public Long getStock(Long productId) {
-        String key = STOCK_KEY_PREFIX + productId;
-
         try {
-            String value = redisTemplate.opsForValue().get(key);
+            int stripeCount = hotStockRegistry.getStripeCount(productId);
+            if (stripeCount > 1) {
+                return sum(redisTemplate.opsForValue().multiGet(stripeKeys(productId, stripeCount)));
+            }
+
+            String value = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
             return value != null ? Long.parseLong(value) : 0L;
 
         } catch (Exception e) {
@@ -123,17 +200,92 @@ public class RedisStockService {
         }
     }
 
+    /**
+     * 여러 상품 재고 일괄 조회 (MGET, 1 RTT)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID별 재고 (Redis에 키가 없으면 null, 핫 상품은 스트라이프 합계)
+     */
+    public Map<Long, Long> getStocks(List<Long> productIds) {
+        Map<Long, Long> stocks = new LinkedHashMap<>();
+        if (productIds.isEmpty()) {
+            return stocks;
+        }
+
+        // 핫 상품은 모든 스트라이프 키를 함께 조회
+        List<String> keys = new ArrayList<>();
+        List<Integer> stripeCounts = new ArrayList<>();
+        for (Long productId : productIds) {
+            int stripeCount = hotStockRegistry.getStripeCount(productId);
+            keys.addAll(stripeKeys(productId, stripeCount));
+            stripeCounts.add(stripeCount);
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        int offset = 0;
+        for (int i = 0; i < productIds.size(); i++) {
+            int stripeCount = stripeCounts.get(i);
+            List<String> productValues = values != null
+                    ? values.subList(offset, offset + stripeCount)
+                    : List.of();
+
+            // 기본 키가 없으면 누락으로 판단
+            boolean missing = productValues.isEmpty() || productValues.get(0) == null;
+            stocks.put(productIds.get(i), missing ? null : sum(productValues));
+            offset += stripeCount;
+        }
+
+        return stocks;
+    }
+
+    /**
+     * 여러 상품 재고 일괄 설정 (MSET, 1 RTT)
+     *
+     * @param productStocks 상품 ID별 설정할 재고
+     */
+    public void setStocks(Map<Long, Integer> productStocks) {
+        if (productStocks.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        productStocks.forEach((productId, stock) -> {
+            if (hotStockRegistry.isHot(productId)) {
+                setStock(productId, stock);
+            } else {
+                values.put(STOCK_KEY_PREFIX + productId, stock.toString());
+            }
+        });
+
+        try {
+            if (!values.isEmpty()) {
+                redisTemplate.opsForValue().multiSet(values);
+            }
+            soldOutRegistry.clear(productStocks.keySet());
+            log.debug("재고 일괄 설정 완료: 상품수={}", productStocks.size());
+
+        } catch (Exception e) {
+            log.error("Redis 재고 일괄 설정 실패: productIds={}", productStocks.keySet(), e);
+            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * 재고 설정 (초기화용)
      *
      * @param productId 상품 ID
-     * @param stock 설정할 재고
+     * @param stock 설정할 재고 (핫 상품은 스트라이프에 균등 분배)
      */
     public void setStock(Long productId, Integer stock) {
-        String key = STOCK_KEY_PREFIX + productId;
-
         try {
-            redisTemplate.opsForValue().set(key, stock.toString());
+            int stripeCount = hotStockRegistry.getStripeCount(productId);
+            if (stripeCount > 1) {
+                redistribute(productId, stripeCount, stripeCount, stock.toString());
+            } else {
+                redisTemplate.opsForValue().set(STOCK_KEY_PREFIX + productId, stock.toString());
+            }
+            soldOutRegistry.clear(List.of(productId));
             log.debug("재고 설정 완료: productId={}, stock={}", productId, stock);
 
         } catch (Exception e) {
@@ -148,10 +300,12 @@ public class RedisStockService {
      * @param productId 상품 ID
      */
     public void deleteStock(Long productId) {
-        String key = STOCK_KEY_PREFIX + productId;
-
         try {
-            redisTemplate.delete(key);
+            int stripeCount = hotStockRegistry.getStripeCount(productId);
+            if (stripeCount > 1) {
+                hotStockRegistry.unregister(productId);
+            }
+            redisTemplate.delete(stripeKeys(productId, stripeCount));
             log.debug("재고 삭제 완료: productId={}", productId);
 
         } catch (Exception e) {
@@ -176,4 +330,256 @@ public class RedisStockService {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 핫 상품 승격 (스트라이프 수 변경 포함)
+     * - 현재 재고 합계를 새 스트라이프 수로 균등 분배한 뒤 레지스트리에 등록
+     *
+     * @param productId 상품 ID
+     * @param stripeCount 스트라이프 수 (2 이상)
+     * @return 승격 후 스트라이프 현황
+     */
+    public HotStockStatus promoteHotProduct(Long productId, int stripeCount) {
+        int currentStripeCount = hotStockRegistry.reload(productId);
+
+        long total = redistribute(productId, Math.max(currentStripeCount, stripeCount), stripeCount, "");
+        hotStockRegistry.register(productId, stripeCount);
+
+        log.info("핫 상품 승격: productId={}, 스트라이프 {} → {}, 총재고={}",
+                productId, currentStripeCount, stripeCount, total);
+
+        return getHotStockStatus(productId);
+    }
+
+    /**
+     * 핫 상품 해제
+     * - 레지스트리 제거와 스트라이프 병합/삭제를 하나의 Lua Script로 처리해 사이에 스트라이프 키가 다시 생기지 않게 함
+     * - 해제 후 로컬 복사본이 늦은 노드의 스트라이프 증가는 기본 키로 향함 (stockStripeIncrementScript)
+     *
+     * @param productId 상품 ID
+     * @return 해제 후 재고 현황
+     */
+    public HotStockStatus demoteHotProduct(Long productId) {
+        int currentStripeCount = hotStockRegistry.reload(productId);
+
+        Long demoted = redisScriptRegistry.execute(
+                stockStripeDemoteScript,
+                demoteKeys(productId, currentStripeCount),
+                productId.toString()
+        );
+        long total = demoted != null ? demoted : 0L;
+        hotStockRegistry.reload(productId);
+
+        log.info("핫 상품 해제: productId={}, 스트라이프 {} → 1, 총재고={}",
+                productId, currentStripeCount, total);
+
+        return getHotStockStatus(productId);
+    }
+
+    /**
+     * 핫 상품 스트라이프 재분배
+     * - 차감이 특정 스트라이프에 몰려 재고가 치우친 경우 균등하게 다시 나눔
+     *
+     * @param productId 상품 ID
+     * @return 재분배 후 스트라이프 현황
+     */
+    public HotStockStatus rebalanceHotProduct(Long productId) {
+        int stripeCount = hotStockRegistry.reload(productId);
+
+        long total = redistribute(productId, stripeCount, stripeCount, "");
+
+        log.info("핫 상품 재분배: productId={}, 스트라이프={}, 총재고={}", productId, stripeCount, total);
+
+        return getHotStockStatus(productId);
+    }
+
+    /**
+     * 스트라이프 현황 조회
+     */
+    public HotStockStatus getHotStockStatus(Long productId) {
+        int stripeCount = hotStockRegistry.getStripeCount(productId);
+        List<String> values = redisTemplate.opsForValue().multiGet(stripeKeys(productId, stripeCount));
+
+        List<Long> stripeStocks = new ArrayList<>();
+        for (int i = 0; i < stripeCount; i++) {
+            String value = values != null ? values.get(i) : null;
+            stripeStocks.add(value != null ? Long.parseLong(value) : 0L);
+        }
+
+        return new HotStockStatus(productId, stripeCount, stripeStocks, sum(values));
+    }
+
+    /**
+     * 여러 상품 차감 1회 시도
+     * - 일반 상품: 단일 Lua Script로 일괄 차감
+     * - 핫 상품: 스트라이프 합계 기준 차감, 실패 시 이번 시도에서 차감한 재고를 모두 되돌림
+     */
+    private List<Long> decreaseStocksOnce(Map<Long, Integer> productQuantityMap) {
+        Map<Long, Integer> normalProducts = new LinkedHashMap<>();
+        Map<Long, Integer> hotProducts = new LinkedHashMap<>();
+        productQuantityMap.forEach((productId, quantity) -> {
+            if (hotStockRegistry.isHot(productId)) {
+                hotProducts.put(productId, quantity);
+            } else {
+                normalProducts.put(productId, quantity);
+            }
+        });
+
+        // 1. 일반 상품 일괄 차감 (All or Nothing)
+        List<Long> shortageProductIds = decreaseNormalStocks(normalProducts);
+        if (!shortageProductIds.isEmpty()) {
+            return shortageProductIds;
+        }
+
+        // 2. 핫 상품 스트라이프 차감
+        Map<Long, Integer> decreasedHotProducts = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : hotProducts.entrySet()) {
+            long remaining = tryDecrease(entry.getKey(), entry.getValue(),
+                    hotStockRegistry.getStripeCount(entry.getKey()));
+
+            if (remaining == OUT_OF_STOCK) {
+                // 이번 시도에서 차감한 재고 복구
+                normalProducts.forEach(this::incrementStock);
+                decreasedHotProducts.forEach(this::incrementStock);
+                return List.of(entry.getKey());
+            }
+
+            decreasedHotProducts.put(entry.getKey(), entry.getValue());
+        }
+
+        return List.of();
+    }
+
+    private List<Long> decreaseNormalStocks(Map<Long, Integer> productQuantityMap) {
+        if (productQuantityMap.isEmpty()) {
+            return List.of();
+        }
+
+        // KEY → productId 매핑 (스크립트가 반환한 KEY를 상품 ID로 역변환)
+        Map<String, Long> keyToProductId = new LinkedHashMap<>();
+        List<String> quantities = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : productQuantityMap.entrySet()) {
+            keyToProductId.put(STOCK_KEY_PREFIX + entry.getKey(), entry.getKey());
+            quantities.add(entry.getValue().toString());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<String> shortageKeys = redisScriptRegistry.execute(
+                stockBatchDecreaseScript,
+                new ArrayList<>(keyToProductId.keySet()),
+                quantities.toArray()
+        );
+
+        if (shortageKeys == null) {
+            log.error("Redis 재고 일괄 차감 결과 없음: productIds={}", keyToProductId.values());
+            throw new ProductException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        return shortageKeys.stream()
+                .map(keyToProductId::get)
+                .toList();
+    }
+
+    /**
+     * 단일 상품 차감 (재고 부족 시 최신 스트라이프 수로 한 번 더 시도)
+     */
+    private long decreaseWithReload(Long productId, int quantity) {
+        int stripeCount = hotStockRegistry.getStripeCount(productId);
+        long remaining = tryDecrease(productId, quantity, stripeCount);
+
+        if (remaining == OUT_OF_STOCK) {
+            // 다른 노드에서 핫 상품 전환/해제가 일어났을 수 있음
+            int latestStripeCount = hotStockRegistry.reload(productId);
+            if (latestStripeCount != stripeCount) {
+                remaining = tryDecrease(productId, quantity, latestStripeCount);
+            }
+        }
+
+        return remaining;
+    }
+
+    /**
+     * 스트라이프 차감 시도
+     * - 일반 상품: 기본 키 하나에서 차감
+     * - 핫 상품: 임의의 스트라이프부터 순서를 돌려 Lua Script 1회로 차감
+     *   (한 스트라이프로 부족해도 합계가 충분하면 여러 스트라이프에 나눠 차감)
+     */
+    private long tryDecrease(Long productId, int quantity, int stripeCount) {
+        if (stripeCount <= 1) {
+            Long remaining = redisScriptRegistry.execute(
+                    stockDecreaseScript,
+                    List.of(stripeKey(productId, 0)),
+                    String.valueOf(quantity)
+            );
+            return remaining != null ? remaining : OUT_OF_STOCK;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(stripeCount);
+        List<String> keys = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            keys.add(stripeKey(productId, (start + i) % stripeCount));
+        }
+
+        Long remaining = redisScriptRegistry.execute(
+                stockStripeDecreaseScript,
+                keys,
+                String.valueOf(quantity)
+        );
+        return remaining != null ? remaining : OUT_OF_STOCK;
+    }
+
+    /**
+     * 남은 재고(스트라이프 합계)가 0 이하일 때만 품절 표시
+     * - 요청 수량보다 적게 남은 경우는 더 작은 수량의 주문이 가능하므로 표시하지 않음
+     */
+    private void markIfSoldOut(Long productId) {
+        if (getStock(productId) <= 0) {
+            soldOutRegistry.markSoldOut(productId);
+        }
+    }
+
+    private long redistribute(Long productId, int keyCount, int stripeCount, String total) {
+        Long distributed = redisScriptRegistry.execute(
+                stockStripeRedistributeScript,
+                stripeKeys(productId, keyCount),
+                String.valueOf(stripeCount),
+                total
+        );
+        return distributed != null ? distributed : 0L;
+    }
+
+    private List<String> demoteKeys(Long productId, int stripeCount) {
+        List<String> keys = new ArrayList<>(stripeCount + 1);
+        keys.add(HotStockRegistry.HOT_PRODUCTS_KEY);
+        keys.addAll(stripeKeys(productId, stripeCount));
+        return keys;
+    }
+
+    private String stripeKey(Long productId, int stripeIndex) {
+        return stripeIndex == 0
+                ? STOCK_KEY_PREFIX + productId
+                : STOCK_KEY_PREFIX + productId + STRIPE_KEY_INFIX + stripeIndex;
+    }
+
+    private List<String> stripeKeys(Long productId, int stripeCount) {
+        List<String> keys = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            keys.add(stripeKey(productId, i));
+        }
+        return keys;
+    }
+
+    private long sum(List<String> values) {
+        if (values == null) {
+            return 0L;
+        }
+
+        long total = 0L;
+        for (String value : values) {
+            if (value != null) {
+                total += Long.parseLong(value);
+            }
+        }
+        return total;
+    }
+}
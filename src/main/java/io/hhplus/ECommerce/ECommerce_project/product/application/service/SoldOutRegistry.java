@@ -0,0 +1,120 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 노드 로컬 품절 표시
+ *
+ * 품절된 선착순 상품에 대한 주문이 매번 Redis Lua Script 왕복과 예외 처리를 거치지 않도록,
+ * Redis 재고가 0으로 확인된 상품을 노드 메모리에 표시해 두고 주문 진입 시 즉시 거절한다.
+ *
+ * - 표시: 재고 차감이 부족으로 실패하고 남은 재고가 0일 때 (RedisStockService)
+ * - 해제: 재고 증가/설정/정합성 복구 시 Redis Pub/Sub(stock:soldout:clear)로 모든 노드에 전파
+ * - Pub/Sub 메시지 유실에 대비해 표시는 5초 후 자동 만료 (만료 후 첫 주문이 Redis로 다시 확인)
+ * - 상품 ID는 BIGINT로 범위가 넓어 고정 크기 비트셋 대신 상품 ID → 만료 시각 맵을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutRegistry implements MessageListener {
+
+    private static final String CLEAR_CHANNEL = "stock:soldout:clear";
+    private static final String ID_SEPARATOR = ",";
+    private static final long MARK_TTL_MILLIS = 5000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 상품 ID → 품절 표시 만료 시각 (ms)
+    private final Map<Long, Long> soldOutUntil = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CLEAR_CHANNEL));
+    }
+
+    /**
+     * 품절 여부 (Redis 조회 없음)
+     */
+    public boolean isSoldOut(Long productId) {
+        Long until = soldOutUntil.get(productId);
+        if (until == null) {
+            return false;
+        }
+
+        if (until < System.currentTimeMillis()) {
+            soldOutUntil.remove(productId, until);
+            return false;
+        }
+        return true;
+    }
+
+    public boolean isAnySoldOut(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            if (isSoldOut(productId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 품절 표시 (현재 노드에만 적용)
+     */
+    public void markSoldOut(Long productId) {
+        soldOutUntil.put(productId, System.currentTimeMillis() + MARK_TTL_MILLIS);
+        log.debug("품절 표시: productId={}", productId);
+    }
+
+    /**
+     * 품절 표시 해제 (현재 노드 즉시 해제 + 다른 노드에 전파)
+     */
+    public void clear(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        productIds.forEach(soldOutUntil::remove);
+
+        try {
+            String payload = productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(ID_SEPARATOR));
+            redisTemplate.convertAndSend(CLEAR_CHANNEL, payload);
+
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 표시는 만료 시각에 자동 해제됨
+            log.warn("품절 해제 전파 실패: productIds={}", productIds, e);
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자신)의 품절 해제 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        for (String productId : payload.split(ID_SEPARATOR)) {
+            try {
+                soldOutUntil.remove(Long.valueOf(productId.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 품절 해제 메시지: {}", payload);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.StockDeductionMode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * DB 재고 차감/복구 방식 선택
+ *
+ * stock.deduction.mode 설정으로 배포 단위 선택:
+ * - DISTRIBUTED_LOCK (기본값): Redisson 락 + REQUIRES_NEW 트랜잭션 + 엔티티 변경
+ * - CONDITIONAL_UPDATE: UPDATE ... WHERE id = ? AND stock >= ? 단일 문장 (락/엔티티 조회 없음)
+ *
+ * StockDeductionService의 분산락 AOP가 동작하도록 별도 빈에서 호출한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockDeductionRouter {
+
+    private final StockDeductionService stockDeductionService;
+
+    @Getter
+    @Value("${stock.deduction.mode:DISTRIBUTED_LOCK}")
+    private StockDeductionMode mode;
+
+    /**
+     * 상품 재고 차감 + 판매량 증가
+     */
+    public void deductStock(Long productId, Integer quantity) {
+        if (mode == StockDeductionMode.CONDITIONAL_UPDATE) {
+            stockDeductionService.deductStockWithConditionalUpdate(productId, quantity);
+        } else {
+            stockDeductionService.deductStockWithDistributedLock(productId, quantity);
+        }
+    }
+
+    /**
+     * 상품 재고 복구 + 판매량 감소
+     */
+    public void recoverStock(Long productId, Integer quantity) {
+        if (mode == StockDeductionMode.CONDITIONAL_UPDATE) {
+            stockDeductionService.recoverStockWithConditionalUpdate(productId, quantity);
+        } else {
+            stockDeductionService.recoverStockWithDistributedLock(productId, quantity);
+        }
+    }
+}
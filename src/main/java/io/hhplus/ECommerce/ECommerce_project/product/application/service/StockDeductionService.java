@@ -1,7 +1,10 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
 import io.hhplus.ECommerce.ECommerce_project.common.annotation.DistributedLock;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductStockJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -9,7 +12,9 @@ import org.springframework.stereotype.Service;
 /**
  * 재고 차감/복구 서비스
  * - 분산락을 사용한 재고 처리
+ * - 락 없는 조건부 UPDATE 재고 처리
  * - AOP 프록시가 정상 작동하도록 별도 서비스로 분리
+ * - 어떤 방식을 사용할지는 StockDeductionRouter가 배포 설정(stock.deduction.mode)으로 결정
  */
 @Slf4j
 @Service
@@ -17,6 +22,7 @@ import org.springframework.stereotype.Service;
 public class StockDeductionService {
 
     private final ProductFinderService productFinderService;
+    private final ProductStockJdbcRepository productStockJdbcRepository;
 
     /**
      * 분산락을 사용한 상품 재고 차감
@@ -51,4 +57,37 @@ public class StockDeductionService {
         log.debug("상품 재고 복구 완료 - productId: {}, 현재재고: {}, 판매량: {}",
             productId, product.getStock(), product.getSoldCount());
     }
+
+    /**
+     * 조건부 UPDATE를 사용한 상품 재고 차감
+     * - 락 획득/엔티티 조회 없이 DB 왕복 1회, 영향받은 행 수로 성공 판정
+     */
+    public void deductStockWithConditionalUpdate(Long productId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new ProductException(ErrorCode.PRODUCT_DECREASE_QUANTITY_INVALID);
+        }
+
+        if (!productStockJdbcRepository.deductStockIfAvailable(productId, quantity)) {
+            throw new ProductException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                "재고가 부족합니다. 상품 ID: " + productId + ", 요청 수량: " + quantity);
+        }
+
+        log.debug("상품 재고 차감 완료(조건부 UPDATE) - productId: {}, 수량: {}", productId, quantity);
+    }
+
+    /**
+     * 조건부 UPDATE를 사용한 재고 복구
+     */
+    public void recoverStockWithConditionalUpdate(Long productId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new ProductException(ErrorCode.PRODUCT_INCREASE_QUANTITY_INVALID);
+        }
+
+        if (!productStockJdbcRepository.recoverStockIfSold(productId, quantity)) {
+            throw new ProductException(ErrorCode.PRODUCT_SOLD_COUNT_LESS_THAN_CANCEL,
+                "판매량이 취소량보다 작습니다. 상품 ID: " + productId + ", 취소량: " + quantity);
+        }
+
+        log.debug("상품 재고 복구 완료(조건부 UPDATE) - productId: {}, 수량: {}", productId, quantity);
+    }
 }
\ No newline at end of file
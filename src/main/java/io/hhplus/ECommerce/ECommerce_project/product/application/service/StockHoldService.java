@@ -0,0 +1,208 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.common.config.RedisScriptRegistry;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.StockHoldConfirmResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 기반 재고 점유(hold) 장부
+ *
+ * 자료구조:
+ * - {stock}:hold:{orderId} (Hash): productId → 점유 수량
+ * - {stock}:hold:expiry (Sorted Set): member = orderId, score = 점유 만료 시각(ms)
+ * - {stock}:hold:released:{orderId} (String): 점유 재고가 이미 반환되었다는 표식
+ *
+ * 흐름:
+ * 1. 주문 생성 시 Redis에서 차감한 수량을 주문 ID로 점유 등록 (15분)
+ * 2. 결제 완료 시 점유를 확정 → 차감이 영구 반영됨 (1회 호출)
+ *    - 결제 트랜잭션이 롤백되면 StockHoldConfirmedEvent로 점유를 복원 (restoreHold)
+ * 3. 만료된 점유는 리퍼가 {stock}:hold:expiry를 score로 조회해 재고를 일괄 반환
+ *    - 테이블 스캔 없이 만료 직후 수 초 내에 재고 복구
+ *
+ * {stock}:hold:{orderId} 키의 TTL은 리퍼 장애 시 키가 남지 않도록 하는 안전망이며,
+ * 만료 판단은 항상 {stock}:hold:expiry의 score 기준으로 한다. (키 만료 시점에는 수량을 읽을 수 없기 때문)
+ *
+ * 점유/재고 키는 모두 {stock} 해시 태그를 공유하고, 스크립트에는 접근하는 키를 전부 KEYS로 넘긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockHoldService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final RedisScript<Long> stockHoldCreateScript;
+    private final RedisScript<Long> stockHoldConfirmScript;
+    private final RedisScript<Long> stockHoldReleaseScript;
+
+    private static final String HOLD_KEY_PREFIX = "{stock}:hold:";
+    private static final String HOLD_EXPIRY_KEY = "{stock}:hold:expiry";
+    private static final String HOLD_RELEASED_KEY_PREFIX = "{stock}:hold:released:";
+    private static final String STOCK_KEY_PREFIX = "{stock}:product:";
+
+    public static final Duration HOLD_TTL = Duration.ofMinutes(15);
+    private static final Duration HOLD_KEY_TTL = HOLD_TTL.plusDays(1);
+    private static final Duration RELEASED_MARKER_TTL = Duration.ofDays(1);
+
+    /**
+     * 재고 점유 등록
+     *
+     * @param orderId 주문 ID
+     * @param productQuantities 상품 ID별 점유 수량 (Redis에서 이미 차감된 수량)
+     */
+    public void createHold(Long orderId, Map<Long, Integer> productQuantities) {
+        long expireAt = System.currentTimeMillis() + HOLD_TTL.toMillis();
+
+        List<Object> args = new ArrayList<>();
+        args.add(orderId.toString());
+        args.add(String.valueOf(expireAt));
+        args.add(String.valueOf(HOLD_KEY_TTL.toSeconds()));
+        productQuantities.forEach((productId, quantity) -> {
+            args.add(productId.toString());
+            args.add(quantity.toString());
+        });
+
+        redisScriptRegistry.execute(
+                stockHoldCreateScript,
+                List.of(HOLD_KEY_PREFIX + orderId, HOLD_EXPIRY_KEY),
+                args.toArray()
+        );
+
+        log.debug("재고 점유 등록: orderId={}, items={}, expireAt={}", orderId, productQuantities, expireAt);
+    }
+
+    /**
+     * 재고 점유 확정 (결제 완료)
+     *
+     * @param orderId 주문 ID
+     * @return 확정 결과 (EXPIRED: 점유가 이미 만료되어 재고가 반환됨)
+     */
+    public StockHoldConfirmResult confirmHold(Long orderId) {
+        Long result = redisScriptRegistry.execute(
+                stockHoldConfirmScript,
+                holdKeys(orderId),
+                orderId.toString()
+        );
+
+        if (result != null && result == -1) {
+            log.warn("재고 점유 만료로 확정 불가: orderId={}", orderId);
+            return StockHoldConfirmResult.EXPIRED;
+        }
+
+        // 점유가 없는 주문(점유 등록 이전 주문 등)은 기존 흐름대로 결제 허용
+        log.debug("재고 점유 확정: orderId={}, result={}", orderId, result);
+        return result != null && result == 1
+                ? StockHoldConfirmResult.CONFIRMED
+                : StockHoldConfirmResult.NOT_HELD;
+    }
+
+    /**
+     * 확정된 재고 점유 복원 (결제 트랜잭션 롤백 보상)
+     * - 확정 시 삭제한 점유를 새 만료 시각으로 다시 등록
+     * - 주문은 PENDING으로 남으므로 재결제하거나, 만료 시 리퍼/주문 만료 처리가 재고를 반환
+     *
+     * @param orderId 주문 ID
+     * @param productQuantities 상품 ID별 점유 수량 (확정 시 영구 차감된 수량)
+     */
+    public void restoreHold(Long orderId, Map<Long, Integer> productQuantities) {
+        createHold(orderId, productQuantities);
+        log.info("재고 점유 복원: orderId={}, items={}", orderId, productQuantities);
+    }
+
+    /**
+     * 재고 점유 해제 (주문 취소, 결제 실패, 만료 주문 정리)
+     * - 점유가 남아 있으면 점유 수량만큼 Redis 재고를 반환
+     *
+     * @param orderId 주문 ID
+     * @return Redis 재고가 점유를 통해 반환되었는지 여부 (true면 호출자는 Redis 재고를 다시 증가시키면 안 됨)
+     */
+    public boolean releaseHold(Long orderId) {
+        Long result = release(orderId, "");
+
+        boolean returned = result != null && result > 0;
+        if (returned) {
+            log.info("재고 점유 해제: orderId={}, 이미 해제됨={}", orderId, result == 2);
+        }
+        return returned;
+    }
+
+    /**
+     * 만료된 재고 점유 일괄 반환
+     * - 만료 시각이 지난 주문을 조회한 뒤 주문마다 해제 (해제 직전에 만료 여부를 다시 확인)
+     *
+     * @param batchSize 한 번에 처리할 최대 주문 수
+     * @return 재고를 반환한 주문 ID 목록
+     */
+    public List<Long> releaseExpiredHolds(int batchSize) {
+        long now = System.currentTimeMillis();
+        Set<String> expiredOrderIds = redisTemplate.opsForZSet()
+                .rangeByScore(HOLD_EXPIRY_KEY, Double.NEGATIVE_INFINITY, now, 0, batchSize);
+
+        if (expiredOrderIds == null || expiredOrderIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> releasedOrderIds = new ArrayList<>();
+        for (String value : expiredOrderIds) {
+            Long orderId = Long.valueOf(value);
+            Long result = release(orderId, String.valueOf(now));
+
+            if (result != null && result == 1) {
+                releasedOrderIds.add(orderId);
+            }
+        }
+        return releasedOrderIds;
+    }
+
+    /**
+     * 점유 Hash를 읽어 상품별 재고 키를 KEYS로 넘기고 해제 스크립트 실행
+     * - 읽은 뒤 점유 상품이 바뀌었으면(-1) 한 번 더 읽어 재시도
+     *
+     * @param expireBefore 만료 시각 기준 (빈 문자열이면 만료 여부와 무관하게 해제)
+     */
+    private Long release(Long orderId, String expireBefore) {
+        Long result = executeRelease(orderId, expireBefore);
+        if (result != null && result == -1) {
+            result = executeRelease(orderId, expireBefore);
+        }
+        if (result != null && result == -1) {
+            log.warn("재고 점유 해제 중 점유 상품 변경으로 재시도 초과: orderId={}", orderId);
+            return 0L;
+        }
+        return result;
+    }
+
+    private Long executeRelease(Long orderId, String expireBefore) {
+        Set<Object> productIds = redisTemplate.opsForHash().keys(HOLD_KEY_PREFIX + orderId);
+
+        List<String> keys = new ArrayList<>(holdKeys(orderId));
+        List<Object> args = new ArrayList<>();
+        args.add(orderId.toString());
+        args.add(String.valueOf(RELEASED_MARKER_TTL.toSeconds()));
+        args.add(expireBefore);
+        for (Object productId : productIds) {
+            keys.add(STOCK_KEY_PREFIX + productId);
+            args.add(productId.toString());
+        }
+
+        return redisScriptRegistry.execute(stockHoldReleaseScript, keys, args.toArray());
+    }
+
+    private List<String> holdKeys(Long orderId) {
+        return List.of(
+                HOLD_KEY_PREFIX + orderId,
+                HOLD_EXPIRY_KEY,
+                HOLD_RELEASED_KEY_PREFIX + orderId
+        );
+    }
+}
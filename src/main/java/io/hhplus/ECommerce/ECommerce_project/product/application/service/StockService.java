@@ -1,6 +1,5 @@
 package io.hhplus.ECommerce.ECommerce_project.product.application.service;
 
-import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockDecreasedEvent;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.event.StockIncreasedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -14,22 +13,9 @@ import java.util.Map;
 public class StockService {
 
     private final RedisStockService redisStockService;
+    private final StockHoldService stockHoldService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
-    /**
-     * 재고 차감 (Redis) - 초고속 처리
-     * CreateOrderFromProductUseCase.java 에서 사용
-     */
-    public void reserveStock(Long productId, Integer quantity) {
-        // 1. Redis에서 즉시 재고 차감 (5-10ms)
-        Long remaining = redisStockService.decreaseStock(productId, quantity);
-
-        // 2. DB 동기화 이벤트 발행 (비동기)
-        applicationEventPublisher.publishEvent(
-                new StockDecreasedEvent(productId, quantity)
-        );
-    }
-
     /**
      * 재고 복구 (Redis)
      * CreateOrderFromProductUseCase.java 에서 사용
@@ -45,39 +31,44 @@ public class StockService {
     }
 
     /**
-     * 여러 상품 재고 차감 (Redis) - 초고속 처리
+     * 여러 상품 재고 복구 (Redis)
      * CreateOrderFromCartUseCase.java 에서 사용
      */
-    public void reserveStocks(List<Map.Entry<Long, Integer>> sortedEntries) {
+    public void compensateStocks(List<Map.Entry<Long, Integer>> sortedEntries) {
         for (Map.Entry<Long, Integer> entry : sortedEntries) {
             Long productId = entry.getKey();
             Integer totalQuantity = entry.getValue();
 
-            // Redis에서 즉시 재고 차감 (5-10ms)
-            Long remaining = redisStockService.decreaseStock(productId, totalQuantity);
+            // Redis 재고 복구
+            redisStockService.increaseStock(productId, totalQuantity);
 
-            // DB 동기화 이벤트 발행 (비동기)
+            // DB 동기화 이벤트 발행
             applicationEventPublisher.publishEvent(
-                    new StockDecreasedEvent(productId, totalQuantity)
+                    new StockIncreasedEvent(productId, totalQuantity)
             );
         }
     }
 
     /**
-     * 여러 상품 재고 복구 (Redis)
-     * CreateOrderFromCartUseCase.java 에서 사용
+     * 주문 단위 재고 복구 (주문 취소, 결제 실패, 주문 만료)
+     * - 재고 점유가 남아 있으면 점유 해제로 Redis 재고를 반환 (리퍼와 중복 반환 방지)
+     * - 점유가 없는 주문(결제 완료 후 취소 등)만 Redis 재고를 직접 증가
+     * - DB 재고는 항상 동기화 이벤트로 복구
      */
-    public void compensateStocks(List<Map.Entry<Long, Integer>> sortedEntries) {
-        for (Map.Entry<Long, Integer> entry : sortedEntries) {
-            Long productId = entry.getKey();
-            Integer totalQuantity = entry.getValue();
+    public void compensateOrderStocks(Long orderId, Map<Long, Integer> productQuantities) {
+        boolean redisStockReturned = stockHoldService.releaseHold(orderId);
+        if (redisStockReturned) {
+            // 점유 반환 스크립트가 Redis 재고를 직접 증가시켰으므로 품절 표시만 해제
+            redisStockService.notifyStockRestored(productQuantities.keySet());
+        }
 
-            // Redis 재고 복구
-            redisStockService.increaseStock(productId, totalQuantity);
+        for (Map.Entry<Long, Integer> entry : productQuantities.entrySet()) {
+            if (!redisStockReturned) {
+                redisStockService.increaseStock(entry.getKey(), entry.getValue());
+            }
 
-            // DB 동기화 이벤트 발행
             applicationEventPublisher.publishEvent(
-                    new StockIncreasedEvent(productId, totalQuantity)
+                    new StockIncreasedEvent(entry.getKey(), entry.getValue())
             );
         }
     }
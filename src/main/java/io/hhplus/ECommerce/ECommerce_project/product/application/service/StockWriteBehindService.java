@@ -0,0 +1,224 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.StockDelta;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductStockJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 재고 Write-Behind 서비스
+ *
+ * 재고 복구 이벤트마다 비관적 락 트랜잭션을 여는 대신:
+ * 1. 상품별 재고/판매량 변화량을 메모리에 누적 (상품 ID 기준 스트라이프 락으로 경합 분산)
+ * 2. 주기적으로 상품당 UPDATE 1건씩 JDBC batch로 반영 (stock = stock - ?, sold_count = sold_count + ?)
+ *    - 반영 후 재고/판매량이 음수가 되는 상품은 갱신하지 않음 (Product.decreaseSoldCount와 같은 검증)
+ * 3. 반영 실패 시 변화량을 버퍼에 되돌려 다음 주기에 재시도
+ * 4. 종료 시 마지막으로 반영하고, 그래도 실패한 변화량은 Redis Hash에 보관 후 다음 기동 시 복원
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockWriteBehindService {
+
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final int STRIPE_COUNT = 32;
+    private static final String PENDING_KEY = "stock:writebehind:pending";
+    private static final String STOCK_FIELD_SUFFIX = ":stock";
+    private static final String SOLD_FIELD_SUFFIX = ":sold";
+
+    private final Stripe[] stripes = createStripes();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 반영 중인 변화량 (정합성 검증 시 DB 미반영분으로 간주)
+    private volatile Map<Long, StockDelta> inFlight = Map.of();
+
+    /**
+     * 재고 증가 누적 (판매량 감소)
+     */
+    public void recordIncrease(Long productId, int quantity) {
+        stripeOf(productId).add(productId, new StockDelta(-quantity, -quantity));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 재고 차감량 (버퍼 + 반영 중)
+     * - StockSyncScheduler가 DB 재고와 Redis 재고를 비교할 때 보정값으로 사용
+     */
+    public long getPendingStockDecrease(Long productId) {
+        long pending = stripeOf(productId).pendingStockDecrease(productId);
+        StockDelta flushing = inFlight.get(productId);
+        return flushing != null ? pending + flushing.stockDecrease() : pending;
+    }
+
+    /**
+     * 누적된 변화량을 DB에 일괄 반영
+     *
+     * @return 반영한 상품 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            Map<Long, StockDelta> drained = drainAll();
+            if (drained.isEmpty()) {
+                return 0;
+            }
+
+            inFlight = drained;
+            try {
+                List<Long> rejectedProductIds = productStockJdbcRepository.applyStockDeltas(drained);
+                if (!rejectedProductIds.isEmpty()) {
+                    // 재시도해도 같은 검증에 걸리므로 버퍼에 되돌리지 않음
+                    rejectedProductIds.forEach(productId -> log.error(
+                            "재고 Write-Behind 반영 거부(음수 재고/판매량 또는 상품 없음), 수동 확인 필요: productId={}, delta={}",
+                            productId, drained.get(productId)));
+                }
+
+                log.debug("재고 Write-Behind 반영 완료: 상품수={}", drained.size() - rejectedProductIds.size());
+                return drained.size() - rejectedProductIds.size();
+
+            } catch (Exception e) {
+                // 전체 롤백되었으므로 변화량을 버퍼에 되돌려 다음 주기에 재시도
+                log.error("재고 Write-Behind 반영 실패, 다음 주기에 재시도: 상품수={}", drained.size(), e);
+                restore(drained);
+                return 0;
+
+            } finally {
+                inFlight = Map.of();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 변화량 반영
+     * - DB 반영에 실패하면 Redis Hash에 보관 (다음 기동 시 복원)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+
+        flushLock.lock();
+        try {
+            Map<Long, StockDelta> remaining = drainAll();
+            if (remaining.isEmpty()) {
+                return;
+            }
+
+            try {
+                remaining.forEach((productId, delta) -> {
+                    redisTemplate.opsForHash().increment(PENDING_KEY, productId + STOCK_FIELD_SUFFIX, delta.stockDecrease());
+                    redisTemplate.opsForHash().increment(PENDING_KEY, productId + SOLD_FIELD_SUFFIX, delta.soldIncrease());
+                });
+                log.warn("종료 시 DB 미반영 재고 변화량 Redis 보관: 상품수={}", remaining.size());
+
+            } catch (Exception e) {
+                // 최후 수단: 수동 복구를 위해 변화량을 로그로 남김
+                log.error("종료 시 재고 변화량 보관 실패, 수동 복구 필요: {}", remaining, e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 기동 시 이전 종료에서 보관한 변화량 복원
+     * - RENAME으로 보관 키를 선점하여 여러 인스턴스가 동시에 복원하지 않도록 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingDeltas() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+                return;
+            }
+
+            String recoveringKey = PENDING_KEY + ":recovering:" + UUID.randomUUID();
+            redisTemplate.rename(PENDING_KEY, recoveringKey);
+
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(recoveringKey);
+            Map<Long, StockDelta> recovered = new HashMap<>();
+            entries.forEach((field, value) -> {
+                String fieldName = field.toString();
+                long amount = Long.parseLong(value.toString());
+                int separator = fieldName.lastIndexOf(':');
+                Long productId = Long.valueOf(fieldName.substring(0, separator));
+
+                StockDelta delta = fieldName.endsWith(STOCK_FIELD_SUFFIX)
+                        ? new StockDelta(amount, 0)
+                        : new StockDelta(0, amount);
+                recovered.merge(productId, delta, StockDelta::plus);
+            });
+
+            restore(recovered);
+            redisTemplate.delete(recoveringKey);
+
+            log.info("이전 종료 시 보관된 재고 변화량 복원: 상품수={}", recovered.size());
+
+        } catch (Exception e) {
+            log.error("보관된 재고 변화량 복원 실패", e);
+        }
+    }
+
+    private Map<Long, StockDelta> drainAll() {
+        Map<Long, StockDelta> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.drain().forEach((productId, delta) -> {
+                if (!delta.isZero()) {
+                    drained.put(productId, delta);
+                }
+            });
+        }
+        return drained;
+    }
+
+    private void restore(Map<Long, StockDelta> deltas) {
+        deltas.forEach((productId, delta) -> stripeOf(productId).add(productId, delta));
+    }
+
+    private Stripe stripeOf(Long productId) {
+        return stripes[(int) Math.floorMod(productId, (long) STRIPE_COUNT)];
+    }
+
+    private static Stripe[] createStripes() {
+        Stripe[] created = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            created[i] = new Stripe();
+        }
+        return created;
+    }
+
+    /**
+     * 상품 ID 일부 구간의 변화량 버퍼 (스트라이프 단위 락)
+     */
+    private static final class Stripe {
+
+        private Map<Long, StockDelta> deltas = new HashMap<>();
+
+        synchronized void add(Long productId, StockDelta delta) {
+            deltas.merge(productId, delta, StockDelta::plus);
+        }
+
+        synchronized Map<Long, StockDelta> drain() {
+            Map<Long, StockDelta> drained = deltas;
+            deltas = new HashMap<>();
+            return drained;
+        }
+
+        synchronized long pendingStockDecrease(Long productId) {
+            StockDelta delta = deltas.get(productId);
+            return delta != null ? delta.stockDecrease() : 0L;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.service;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.TrendingWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 실시간 트렌드 랭킹 서비스 (시간 버킷 슬라이딩 윈도우)
+ *
+ * 판매/조회 점수는 RedisRankingService가 시간 버킷 ranking:hourly:{yyyyMMddHH}에 함께 누적하고,
+ * 이 서비스는 버킷들을 ZUNIONSTORE로 합산한 집계 ZSET ranking:trending:{type}을 주기적으로 갱신한다.
+ *
+ * 윈도우 N시간 집계 = 현재 버킷(가중치 1)
+ *                  + 지난 1~N-1시간 버킷 합 (정시마다 1회만 계산해 base 키로 재사용)
+ *                  + N시간 전 버킷 × (이번 시간에 남은 비율) - 윈도우 경계에서 점수가 계단식으로 빠지지 않도록 보간
+ * 감쇠 계수(ranking.trending.decay-per-hour)가 1보다 작으면 오래된 버킷일수록 decay^경과시간 가중치를 적용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingRankingService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String TRENDING_PREFIX = "ranking:trending:";
+    private static final String BASE_SEGMENT = ":base:";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    // 집계 키는 갱신이 멈추면 오래된 트렌드가 남지 않도록 짧게 보관
+    private static final Duration TRENDING_TTL = Duration.ofMinutes(10);
+    // base 키는 해당 시간 동안만 재사용
+    private static final Duration BASE_TTL = Duration.ofHours(2);
+
+    @Value("${ranking.trending.decay-per-hour:1.0}")
+    private double decayPerHour;
+
+    /**
+     * 트렌드 인기상품 TOP N 조회
+     * - 집계 키가 없으면 (기동 직후, 갱신 지연) 한 번 갱신 후 조회
+     */
+    public List<Long> getTopProducts(TrendingWindow window, int limit) {
+        String trendingKey = trendingKey(window);
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(trendingKey))) {
+            refresh(window, LocalDateTime.now());
+        }
+
+        Set<String> result = redisTemplate.opsForZSet()
+                .reverseRange(trendingKey, 0, limit - 1);
+
+        if (result == null) {
+            return List.of();
+        }
+
+        return result.stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    /**
+     * 모든 트렌드 윈도우 집계 갱신 (TrendingRankingScheduler에서 1분마다 호출)
+     */
+    public void refreshAll() {
+        LocalDateTime now = LocalDateTime.now();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            try {
+                refresh(window, now);
+            } catch (Exception e) {
+                log.error("트렌드 랭킹 갱신 실패 - window: {}", window, e);
+            }
+        }
+    }
+
+    /**
+     * 윈도우 집계 갱신 (ZUNIONSTORE 1회, base 키가 없으면 1회 추가)
+     */
+    private void refresh(TrendingWindow window, LocalDateTime now) {
+        LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
+        int hours = window.getHours();
+
+        // 이번 시간 중 경과 비율 (0.0 ~ 1.0)
+        double elapsed = Duration.between(currentHour, now).toSeconds() / 3600.0;
+
+        List<String> sourceKeys = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+
+        // 1. 현재 버킷
+        sourceKeys.add(RedisRankingService.hourlyKey(currentHour));
+        weights.add(1.0);
+
+        // 2. 지난 1 ~ N-1시간 버킷 합
+        if (hours > 1) {
+            sourceKeys.add(ensureBase(window, currentHour));
+            weights.add(1.0);
+        }
+
+        // 3. 윈도우 경계 버킷 (경과 비율만큼 빠져나감)
+        sourceKeys.add(RedisRankingService.hourlyKey(currentHour.minusHours(hours)));
+        weights.add((1.0 - elapsed) * decayWeight(hours));
+
+        unionAndStore(sourceKeys, weights, trendingKey(window), TRENDING_TTL);
+    }
+
+    /**
+     * 지난 1 ~ N-1시간 버킷 합 (정시마다 1회 계산, 이후 같은 시간 동안 재사용)
+     *
+     * @return base 키
+     */
+    private String ensureBase(TrendingWindow window, LocalDateTime currentHour) {
+        String baseKey = trendingKey(window) + BASE_SEGMENT + currentHour.format(HOUR_FORMAT);
+
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(baseKey))) {
+            return baseKey;
+        }
+
+        List<String> sourceKeys = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (int age = 1; age < window.getHours(); age++) {
+            sourceKeys.add(RedisRankingService.hourlyKey(currentHour.minusHours(age)));
+            weights.add(decayWeight(age));
+        }
+
+        unionAndStore(sourceKeys, weights, baseKey, BASE_TTL);
+        log.debug("트렌드 base 집계 생성 - key: {}, 버킷수: {}", baseKey, sourceKeys.size());
+
+        return baseKey;
+    }
+
+    /**
+     * ZUNIONSTORE (가중치 합산) 후 TTL 설정
+     * - 소스 버킷이 모두 없으면 결과 키도 생성되지 않음
+     */
+    private void unionAndStore(List<String> sourceKeys, List<Double> weights, String destKey, Duration ttl) {
+        double[] weightArray = weights.stream().mapToDouble(Double::doubleValue).toArray();
+
+        redisTemplate.opsForZSet().unionAndStore(
+                sourceKeys.get(0),
+                sourceKeys.subList(1, sourceKeys.size()),
+                destKey,
+                Aggregate.SUM,
+                Weights.of(weightArray)
+        );
+        redisTemplate.expire(destKey, ttl);
+    }
+
+    private double decayWeight(int age) {
+        return Math.pow(decayPerHour, age);
+    }
+
+    private String trendingKey(TrendingWindow window) {
+        return TRENDING_PREFIX + window.getType();
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application.warmer;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RankingRebuildService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 워머
+ * - 애플리케이션 시작 시 현재 일별/주간 랭킹 키가 없으면 주문 이력으로 재구성
+ * - Redis 유실(FLUSH, AOF 없는 페일오버) 후 재기동된 경우 빈 인기상품 목록을 노출하지 않기 위함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingWarmer implements ApplicationRunner {
+
+    private final RankingRebuildService rankingRebuildService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            rankingRebuildService.rebuildIfMissing()
+                    .ifPresent(result -> log.info("=== 랭킹 워밍 완료 === {}", result));
+
+        } catch (Exception e) {
+            log.error("랭킹 워밍 실패", e);
+            // 실패해도 애플리케이션은 계속 실행 (관리자 API로 재구성 가능)
+        }
+    }
+}
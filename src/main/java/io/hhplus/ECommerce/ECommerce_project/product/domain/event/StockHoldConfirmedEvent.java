@@ -0,0 +1,17 @@
+package io.hhplus.ECommerce.ECommerce_project.product.domain.event;
+
+import java.util.Map;
+
+/**
+ * 재고 점유 확정 이벤트
+ * - 결제 트랜잭션 안에서 점유를 확정한 직후 발행
+ * - 결제 트랜잭션이 롤백되면 확정된 점유를 되돌리기 위한 보상 트리거
+ */
+public record StockHoldConfirmedEvent(
+        Long orderId,
+        Map<Long, Integer> productQuantities
+) {
+    public static StockHoldConfirmedEvent of(Long orderId, Map<Long, Integer> productQuantities) {
+        return new StockHoldConfirmedEvent(orderId, productQuantities);
+    }
+}
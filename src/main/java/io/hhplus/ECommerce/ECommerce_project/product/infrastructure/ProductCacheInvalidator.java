@@ -1,42 +1,34 @@
 package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
 
-import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.temporal.WeekFields;
-import java.util.Set;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProductCacheInvalidator {
 
-    private static final int FIRST_PAGE = 0;
-    private static final int DEFAULT_PAGE_SIZE = 20;
     private static final String DAILY_CACHE_PREFIX = "ranking:product:cache:daily:";
     private static final String WEEKLY_CACHE_PREFIX = "ranking:product:cache:weekly:";
 
-    private final CacheManager redisCacheManager;
+    private final ProductListCacheGeneration productListCacheGeneration;
     private final RedisTemplate<String, String> redisTemplate;
 
     /**
      * 상품 목록 캐시 무효화 (특정 카테고리)
+     * - 카테고리 세대를 증가시켜 모든 정렬/페이지/크기 캐시를 한 번에 무효화
      */
     public void evictProductListCache(Long categoryId) {
-        Cache cache = redisCacheManager.getCache("productList");
-        if (cache != null) {
-            // 5가지 정렬 × 첫페이지 캐시 삭제
-            for (ProductSortType sortType : ProductSortType.values()) {
-                String key = categoryId + "_" + sortType + "_" + FIRST_PAGE + "_" + DEFAULT_PAGE_SIZE;
-                cache.evict(key);
-            }
-            log.debug("상품 목록 캐시 무효화 완료 - categoryId: {}", categoryId);
+        try {
+            long generation = productListCacheGeneration.advance(categoryId);
+            log.debug("상품 목록 캐시 무효화 완료 - categoryId: {}, generation: {}", categoryId, generation);
+        } catch (Exception e) {
+            log.error("상품 목록 캐시 무효화 실패 - categoryId: {}", categoryId, e);
         }
     }
 
@@ -76,12 +68,14 @@ public class ProductCacheInvalidator {
 
     /**
      * 상품 목록 캐시 전체 무효화 (모든 카테고리)
+     * - cache.clear()의 키 스캔 대신 전체 세대 증가
      */
     public void evictAllProductListCache() {
-        Cache cache = redisCacheManager.getCache("productList");
-        if (cache != null) {
-            cache.clear();
-            log.info("상품 목록 캐시 전체 무효화 완료");
+        try {
+            long generation = productListCacheGeneration.advanceAll();
+            log.info("상품 목록 캐시 전체 무효화 완료 - generation: {}", generation);
+        } catch (Exception e) {
+            log.error("상품 목록 캐시 전체 무효화 실패", e);
         }
     }
 }
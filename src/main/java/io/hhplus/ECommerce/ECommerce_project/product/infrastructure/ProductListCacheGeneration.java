@@ -0,0 +1,81 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 목록 캐시 세대(generation) 관리
+ *
+ * - 카테고리별 세대 카운터와 전체 세대 카운터를 Redis에 두고, productList 캐시 키에 함께 포함
+ * - 카테고리 필터 없는 목록(categoryId = null)은 별도 세대를 사용하며, 어느 카테고리의 세대가 증가해도 함께 증가
+ * - 무효화는 카운터 INCR 한 번 (키 열거/SCAN 없음), 이전 세대 캐시는 조회되지 않다가 TTL로 만료
+ * - 세대 카운터는 카테고리 수만큼만 존재하므로 TTL 없이 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductListCacheGeneration {
+
+    private static final String CATEGORY_GENERATION_PREFIX = "product:list:generation:";
+    private static final String ALL_GENERATION_KEY = "product:list:generation:all";
+    private static final String UNFILTERED_GENERATION_KEY = "product:list:generation:unfiltered";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 현재 세대가 포함된 productList 캐시 키
+     * - GetProductListUseCase의 @Cacheable key에서 호출 (전체/카테고리 세대를 MGET 1회로 조회)
+     */
+    public String cacheKey(Long categoryId, ProductSortType sortType, int page, int size) {
+        List<String> generations = redisTemplate.opsForValue()
+                .multiGet(List.of(ALL_GENERATION_KEY, categoryGenerationKey(categoryId)));
+
+        return categoryId + "_g" + generationOf(generations, 0) + "." + generationOf(generations, 1)
+                + "_" + sortType + "_" + page + "_" + size;
+    }
+
+    /**
+     * 카테고리 상품 목록 캐시 세대 증가 (해당 카테고리와 필터 없는 목록의 모든 페이지/크기 캐시 무효화)
+     * - 필터 없는 목록에는 모든 카테고리의 상품이 포함되므로 함께 증가
+     */
+    public long advance(Long categoryId) {
+        Long unfilteredGeneration = redisTemplate.opsForValue().increment(UNFILTERED_GENERATION_KEY);
+        if (categoryId == null) {
+            log.debug("상품 목록 캐시 세대 증가 - categoryId: null, generation: {}", unfilteredGeneration);
+            return unfilteredGeneration != null ? unfilteredGeneration : 0L;
+        }
+
+        Long generation = redisTemplate.opsForValue().increment(categoryGenerationKey(categoryId));
+        log.debug("상품 목록 캐시 세대 증가 - categoryId: {}, generation: {}, unfilteredGeneration: {}",
+                categoryId, generation, unfilteredGeneration);
+        return generation != null ? generation : 0L;
+    }
+
+    /**
+     * 전체 상품 목록 캐시 세대 증가 (모든 카테고리 캐시 무효화)
+     */
+    public long advanceAll() {
+        Long generation = redisTemplate.opsForValue().increment(ALL_GENERATION_KEY);
+        log.debug("상품 목록 캐시 전체 세대 증가 - generation: {}", generation);
+        return generation != null ? generation : 0L;
+    }
+
+    private static String categoryGenerationKey(Long categoryId) {
+        if (categoryId == null) {
+            return UNFILTERED_GENERATION_KEY;
+        }
+        return CATEGORY_GENERATION_PREFIX + categoryId;
+    }
+
+    private static String generationOf(List<String> generations, int index) {
+        if (generations == null || generations.get(index) == null) {
+            return "0";
+        }
+        return generations.get(index);
+    }
+}
@@ -1,5 +1,7 @@
 package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
 
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCategoryId;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
@@ -9,6 +11,9 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +39,80 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE (:categoryId IS NULL OR p.category.id = :categoryId) AND p.isActive = true AND p.deletedAt IS NULL")
     Page<Product> findProducts(@Param("categoryId") Long categoryId, Pageable pageable);
 
+    // ===== 키셋(커서) 페이징 상품 목록 조회 =====
+    // - (정렬 컬럼, id) 튜플 비교로 마지막 조회 위치 이후부터 탐색 (OFFSET 스캔, COUNT 쿼리 없음)
+    // - cursorId가 null이면 첫 페이지, 조회 건수는 Pageable(0, size)로 제한
+
+    // 키셋 페이징 - 최신순 (정렬 동률은 id DESC로 구분)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId)
+              AND p.isActive = true AND p.deletedAt IS NULL
+              AND (:cursorId IS NULL OR (p.createdAt, p.id) < (:cursorCreatedAt, :cursorId))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Product> findLatestAfter(@Param("categoryId") Long categoryId,
+                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+
+    // 키셋 페이징 - 판매량 높은순 (정렬 동률은 id DESC로 구분)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId)
+              AND p.isActive = true AND p.deletedAt IS NULL
+              AND (:cursorId IS NULL OR (p.soldCount, p.id) < (:cursorCount, :cursorId))
+            ORDER BY p.soldCount DESC, p.id DESC
+            """)
+    List<Product> findPopularAfter(@Param("categoryId") Long categoryId,
+                                   @Param("cursorCount") Integer cursorCount,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    // 키셋 페이징 - 조회수 높은순 (정렬 동률은 id DESC로 구분)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId)
+              AND p.isActive = true AND p.deletedAt IS NULL
+              AND (:cursorId IS NULL OR (p.viewCount, p.id) < (:cursorCount, :cursorId))
+            ORDER BY p.viewCount DESC, p.id DESC
+            """)
+    List<Product> findViewedAfter(@Param("categoryId") Long categoryId,
+                                  @Param("cursorCount") Integer cursorCount,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+
+    // 키셋 페이징 - 가격 낮은순 (정렬 동률은 id ASC로 구분)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId)
+              AND p.isActive = true AND p.deletedAt IS NULL
+              AND (:cursorId IS NULL OR (p.price, p.id) > (:cursorPrice, :cursorId))
+            ORDER BY p.price ASC, p.id ASC
+            """)
+    List<Product> findPriceLowAfter(@Param("categoryId") Long categoryId,
+                                    @Param("cursorPrice") BigDecimal cursorPrice,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
+
+    // 키셋 페이징 - 가격 높은순 (정렬 동률은 id DESC로 구분)
+    @Query("""
+            SELECT p
+            FROM Product p
+            WHERE (:categoryId IS NULL OR p.category.id = :categoryId)
+              AND p.isActive = true AND p.deletedAt IS NULL
+              AND (:cursorId IS NULL OR (p.price, p.id) < (:cursorPrice, :cursorId))
+            ORDER BY p.price DESC, p.id DESC
+            """)
+    List<Product> findPriceHighAfter(@Param("categoryId") Long categoryId,
+                                     @Param("cursorPrice") BigDecimal cursorPrice,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+
     // 인기상품 TOP 20 조회 (판매량 > 조회수 > 생성일 순)
     @Query("""
             SELECT p
@@ -42,4 +121,21 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             ORDER BY p.soldCount DESC, p.viewCount DESC, p.createdAt ASC, p.id ASC
             """)
     List<Product> findTop20Products(Pageable pageable);
+
+    // 재고 스냅샷 키셋 조회 (id 오름차순, lastId 이후 청크 단위)
+    @Query("""
+            SELECT new io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductStockSnapshot(p.id, p.stock)
+            FROM Product p
+            WHERE p.id > :lastId
+            ORDER BY p.id ASC
+            """)
+    List<ProductStockSnapshot> findStockSnapshotsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 상품 ID 목록의 카테고리 ID 조회 (카테고리별 랭킹 반영용)
+    @Query("""
+            SELECT new io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCategoryId(p.id, p.category.id)
+            FROM Product p
+            WHERE p.id IN :ids
+            """)
+    List<ProductCategoryId> findCategoryIds(@Param("ids") Collection<Long> ids);
 }
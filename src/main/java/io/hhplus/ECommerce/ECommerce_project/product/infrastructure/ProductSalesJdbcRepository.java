@@ -0,0 +1,57 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.DailyProductSales;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 주문 이력 기반 판매량 집계용 JDBC 리포지토리
+ * - 결제 완료된 주문(PAID/COMPLETED)의 상품만 결제 완료일 기준으로 집계 (취소/반품/환불 항목 제외)
+ * - 결제 시 주문 항목은 ORDER_PENDING으로 남으므로 항목 상태가 아닌 주문 상태로 판단
+ * - 결과를 리스트로 모으지 않고 한 행씩 전달 (기간이 길어도 메모리 사용량 일정)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductSalesJdbcRepository {
+
+    private static final String DAILY_SALES_SQL = """
+            SELECT oi.product_id, p.category_id, DATE(pay.completed_at) AS sold_date, SUM(oi.quantity) AS quantity
+            FROM order_items oi
+            JOIN orders o ON o.id = oi.order_id
+            JOIN payments pay ON pay.order_id = oi.order_id
+            JOIN products p ON p.id = oi.product_id
+            WHERE pay.payment_type = 'PAYMENT'
+              AND pay.payment_status = 'COMPLETED'
+              AND pay.completed_at >= ?
+              AND pay.completed_at < ?
+              AND o.status IN ('PAID', 'COMPLETED')
+              AND oi.status NOT IN ('ORDER_CANCELED', 'ORDER_RETURNED', 'ORDER_REFUNDED')
+            GROUP BY oi.product_id, p.category_id, DATE(pay.completed_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 내 상품별 일 판매량 조회
+     *
+     * @param from 결제 완료 시각 하한 (포함)
+     * @param to 결제 완료 시각 상한 (미포함)
+     * @param consumer 행마다 호출
+     */
+    public void streamDailySales(LocalDateTime from, LocalDateTime to, Consumer<DailyProductSales> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(new DailyProductSales(
+                rs.getLong("product_id"),
+                rs.getObject("category_id", Long.class),
+                rs.getDate("sold_date").toLocalDate(),
+                rs.getLong("quantity")
+        ));
+
+        jdbcTemplate.query(DAILY_SALES_SQL, handler, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.StockDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 재고 일괄 반영용 JDBC 리포지토리
+ * - 엔티티 조회/락 없이 누적 변화량을 상대값 UPDATE로 반영
+ * - 락 없는 조건부 재고 차감/복구 (StockDeductionMode.CONDITIONAL_UPDATE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private static final String APPLY_STOCK_DELTA_SQL = """
+            UPDATE products
+            SET stock = stock - ?, sold_count = sold_count + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND stock - ? >= 0 AND sold_count + ? >= 0
+            """;
+
+    private static final String DEDUCT_STOCK_IF_AVAILABLE_SQL = """
+            UPDATE products
+            SET stock = stock - ?, sold_count = sold_count + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND stock >= ?
+            """;
+
+    private static final String RECOVER_STOCK_IF_SOLD_SQL = """
+            UPDATE products
+            SET stock = stock + ?, sold_count = sold_count - ?, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND sold_count >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 상품별 재고/판매량 변화량 일괄 반영 (JDBC batch, 단일 트랜잭션)
+     * - 하나라도 실패하면 전체 롤백되어 호출자가 변화량을 그대로 재시도할 수 있음
+     * - 반영 후 재고 또는 판매량이 음수가 되는 상품은 갱신하지 않음
+     *
+     * @param deltas 상품 ID별 누적 변화량
+     * @return 갱신되지 않은 상품 ID 목록 (음수 재고/판매량 또는 상품 없음)
+     */
+    @Transactional
+    public List<Long> applyStockDeltas(Map<Long, StockDelta> deltas) {
+        List<Long> productIds = new ArrayList<>(deltas.keySet());
+        List<Object[]> batchArgs = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            StockDelta delta = deltas.get(productId);
+            batchArgs.add(new Object[]{delta.stockDecrease(), delta.soldIncrease(), productId,
+                    delta.stockDecrease(), delta.soldIncrease()});
+        }
+
+        int[] updatedCounts = jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA_SQL, batchArgs);
+
+        List<Long> rejectedProductIds = new ArrayList<>();
+        for (int i = 0; i < updatedCounts.length; i++) {
+            if (updatedCounts[i] == 0) {
+                rejectedProductIds.add(productIds.get(i));
+            }
+        }
+        return rejectedProductIds;
+    }
+
+    /**
+     * 재고가 충분할 때만 차감 + 판매량 증가 (단일 조건부 UPDATE)
+     * - 재고 검사와 차감이 한 문장에서 원자적으로 처리되므로 별도 락이 필요 없음
+     *
+     * @return 차감되었으면 true (재고 부족 또는 상품 없음이면 false)
+     */
+    @Transactional
+    public boolean deductStockIfAvailable(Long productId, int quantity) {
+        return jdbcTemplate.update(DEDUCT_STOCK_IF_AVAILABLE_SQL, quantity, quantity, productId, quantity) > 0;
+    }
+
+    /**
+     * 판매량이 복구 수량 이상일 때만 재고 복구 + 판매량 감소 (단일 조건부 UPDATE)
+     *
+     * @return 복구되었으면 true (판매량 부족 또는 상품 없음이면 false)
+     */
+    @Transactional
+    public boolean recoverStockIfSold(Long productId, int quantity) {
+        return jdbcTemplate.update(RECOVER_STOCK_IF_SOLD_SQL, quantity, quantity, productId, quantity) > 0;
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.ECommerce.ECommerce_project.product.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 조회수 일괄 반영용 JDBC 리포지토리
+ * - 엔티티 조회 없이 누적 조회수를 상대값 UPDATE로 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductViewCountJdbcRepository {
+
+    private static final String INCREASE_VIEW_COUNT_SQL = """
+            UPDATE products
+            SET view_count = view_count + ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 상품별 조회수 증가분 일괄 반영 (JDBC batch, 단일 트랜잭션)
+     *
+     * @param viewCounts 상품 ID별 누적 조회수
+     */
+    @Transactional
+    public void applyViewCounts(Map<Long, Long> viewCounts) {
+        List<Object[]> batchArgs = new ArrayList<>(viewCounts.size());
+        viewCounts.forEach((productId, count) -> batchArgs.add(new Object[]{count, productId}));
+
+        jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, batchArgs);
+    }
+}
@@ -4,11 +4,15 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.ErrorCode;
 import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
 import io.hhplus.ECommerce.ECommerce_project.product.application.*;
 import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.TrendingWindow;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.request.*;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.CursorPageResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.HotStockResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.PageResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.ProductResponse;
 import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.RankedProductResponse;
+import io.hhplus.ECommerce.ECommerce_project.product.presentation.response.RankingRebuildResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -26,6 +30,7 @@ public class ProductController {
 
     private final CreateProductUseCase createProductUseCase;
     private final GetProductListUseCase getProductListUseCase;
+    private final GetProductListByCursorUseCase getProductListByCursorUseCase;
     private final GetProductUseCase getProductUseCase;
     private final UpdateProductUseCase updateProductUseCase;
     private final UpdatePriceUseCase updatePriceUseCase;
@@ -35,6 +40,10 @@ public class ProductController {
     private final DeactivateProductUseCase deactivateProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
     private final GetTopRankedProductsUseCase getTopRankedProductsUseCase;
+    private final RebuildRankingUseCase rebuildRankingUseCase;
+    private final PromoteHotProductUseCase promoteHotProductUseCase;
+    private final DemoteHotProductUseCase demoteHotProductUseCase;
+    private final RebalanceHotProductUseCase rebalanceHotProductUseCase;
 
     /**
      * 상품 등록
@@ -52,8 +61,8 @@ public class ProductController {
     public ResponseEntity<PageResponse<ProductResponse>> getProductList(
             @RequestParam(required = false) Long categoryId,
             @RequestParam(defaultValue = "LATEST") ProductSortType sortType,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
     ) {
         var result = getProductListUseCase.execute(categoryId, sortType, page, size);
 
@@ -74,6 +83,29 @@ public class ProductController {
         return ResponseEntity.ok(pageResponse);
     }
 
+    /**
+     * 상품 목록 조회 (키셋 페이징)
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - includeTotal: 전체 상품 수 포함 여부 (COUNT 쿼리 추가)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getProductListByCursor(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "LATEST") ProductSortType sortType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        var result = getProductListByCursorUseCase.execute(categoryId, sortType, cursor, size, includeTotal);
+
+        return ResponseEntity.ok(new CursorPageResponse<>(
+                ProductResponse.from(result.products()),
+                result.nextCursor(),
+                result.hasNext(),
+                result.totalElements()
+        ));
+    }
+
     /**
      * 상품 단건 조회
      */
@@ -88,15 +120,20 @@ public class ProductController {
      */
     @GetMapping("/top-rank")
     public ResponseEntity<List<RankedProductResponse>> getTopRankedProducts(
-            @RequestParam(defaultValue = "daily") String type,  // daily or weekly
+            @RequestParam(defaultValue = "daily") String type,  // daily, weekly, trending-1h, trending-24h
+            @RequestParam(required = false) @Min(1) Long categoryId,  // 카테고리별 인기상품 (daily, weekly만)
             @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit
     ) {
 
-        if (!"daily".equals(type) && !"weekly".equals(type)) {
+        boolean trending = TrendingWindow.fromType(type).isPresent();
+        if (!"daily".equals(type) && !"weekly".equals(type) && !trending) {
             throw new ProductException(ErrorCode.PRODUCT_RANKED_PRODUCT_TYPE_INVALID);
         }
+        if (categoryId != null && trending) {
+            throw new ProductException(ErrorCode.PRODUCT_RANKED_CATEGORY_TYPE_INVALID);
+        }
 
-        List<Product> products = getTopRankedProductsUseCase.execute(type, limit);
+        List<Product> products = getTopRankedProductsUseCase.execute(type, categoryId, limit);
 
         // 랭킹 추가 (1~20)
         List<RankedProductResponse> rankedProducts = IntStream.range(0, products.size())
@@ -109,6 +146,15 @@ public class ProductController {
         return ResponseEntity.ok(rankedProducts);
     }
 
+    /**
+     * 인기상품 랭킹 재구성 (주문 이력 기반, 전체 + 카테고리별, 관리자용)
+     */
+    @PostMapping("/top-rank/rebuild")
+    public ResponseEntity<RankingRebuildResponse> rebuildRanking() {
+        var result = rebuildRankingUseCase.execute();
+        return ResponseEntity.ok(RankingRebuildResponse.from(result));
+    }
+
     /**
      * 상품 수정(전체)
      */
@@ -157,6 +203,36 @@ public class ProductController {
         return ResponseEntity.ok(ProductResponse.from(product));
     }
 
+    /**
+     * 핫 상품 승격 (재고 스트라이프 분산, 관리자용)
+     */
+    @PostMapping("/{id}/hot")
+    public ResponseEntity<HotStockResponse> promoteHotProduct(
+            @PathVariable Long id,
+            @Valid @RequestBody PromoteHotProductRequest request
+    ) {
+        var status = promoteHotProductUseCase.execute(request.toCommand(id));
+        return ResponseEntity.ok(HotStockResponse.from(status));
+    }
+
+    /**
+     * 핫 상품 해제 (관리자용)
+     */
+    @DeleteMapping("/{id}/hot")
+    public ResponseEntity<HotStockResponse> demoteHotProduct(@PathVariable Long id) {
+        var status = demoteHotProductUseCase.execute(id);
+        return ResponseEntity.ok(HotStockResponse.from(status));
+    }
+
+    /**
+     * 핫 상품 스트라이프 재분배 (관리자용)
+     */
+    @PostMapping("/{id}/hot/rebalance")
+    public ResponseEntity<HotStockResponse> rebalanceHotProduct(@PathVariable Long id) {
+        var status = rebalanceHotProductUseCase.execute(id);
+        return ResponseEntity.ok(HotStockResponse.from(status));
+    }
+
     /**
      * 상품 활성화
      */
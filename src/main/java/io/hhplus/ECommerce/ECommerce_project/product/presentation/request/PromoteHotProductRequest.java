@@ -0,0 +1,20 @@
+package io.hhplus.ECommerce.ECommerce_project.product.presentation.request;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.command.PromoteHotProductCommand;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record PromoteHotProductRequest(
+        @NotNull(message = "스트라이프 수는 필수입니다")
+        @Min(value = 2, message = "스트라이프 수는 2 이상이어야 합니다")
+        @Max(value = 64, message = "스트라이프 수는 64 이하여야 합니다")
+        Integer stripeCount
+) {
+    public PromoteHotProductCommand toCommand(Long productId) {
+        return new PromoteHotProductCommand(
+                productId,
+                stripeCount
+        );
+    }
+}
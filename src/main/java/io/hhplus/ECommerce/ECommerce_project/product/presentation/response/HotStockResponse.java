@@ -0,0 +1,23 @@
+package io.hhplus.ECommerce.ECommerce_project.product.presentation.response;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.HotStockStatus;
+
+import java.util.List;
+
+public record HotStockResponse(
+        Long productId,
+        boolean hot,
+        int stripeCount,
+        List<Long> stripeStocks,
+        long totalStock
+) {
+    public static HotStockResponse from(HotStockStatus status) {
+        return new HotStockResponse(
+                status.productId(),
+                status.stripeCount() > 1,
+                status.stripeCount(),
+                status.stripeStocks(),
+                status.totalStock()
+        );
+    }
+}
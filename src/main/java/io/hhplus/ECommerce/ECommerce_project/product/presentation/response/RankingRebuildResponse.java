@@ -0,0 +1,25 @@
+package io.hhplus.ECommerce.ECommerce_project.product.presentation.response;
+
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.RankingRebuildResult;
+
+import java.time.LocalDate;
+
+public record RankingRebuildResponse(
+        LocalDate from,
+        int dailyRankingCount,
+        int weeklyRankingCount,
+        int categoryDailyRankingCount,
+        int categoryWeeklyRankingCount,
+        long soldQuantity
+) {
+    public static RankingRebuildResponse from(RankingRebuildResult result) {
+        return new RankingRebuildResponse(
+                result.from(),
+                result.dailyRankingCount(),
+                result.weeklyRankingCount(),
+                result.categoryDailyRankingCount(),
+                result.categoryWeeklyRankingCount(),
+                result.soldQuantity()
+        );
+    }
+}
@@ -5,8 +5,11 @@ import io.hhplus.ECommerce.ECommerce_project.common.exception.UserException;
 import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
 import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UserFinderService {
@@ -28,4 +31,18 @@ public class UserFinderService {
         return userRepository.findByIdWithLock(userId)
                 .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
     }
+
+    /**
+     * 유저 ID 청크 조회 (ID 키셋 페이징)
+     */
+    public List<Long> getUserIdsAfter(Long lastId, int size) {
+        return userRepository.findIdsAfter(lastId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 전체 유저 수
+     */
+    public long countUsers() {
+        return userRepository.count();
+    }
 }
@@ -0,0 +1,43 @@
+-- 리포지토리 쿼리 접근 경로별 복합 인덱스
+-- - 등치 조건 컬럼 → 정렬/범위 컬럼 순서로 구성하여 풀 스캔과 filesort를 피함
+-- - InnoDB 보조 인덱스는 끝에 PK(id)를 포함하므로 (정렬 컬럼, id) 키셋 정렬도 인덱스 순서로 처리됨
+-- - RepositoryQueryPlanTest가 모든 @Query의 실행 계획을 EXPLAIN으로 검증
+
+-- 상품 목록 (카테고리 필터, 정렬별) : findProducts, countActiveProducts, find*After
+CREATE INDEX idx_products_category_created ON products (category_id, is_active, deleted_at, created_at);
+CREATE INDEX idx_products_category_sold ON products (category_id, is_active, deleted_at, sold_count);
+CREATE INDEX idx_products_category_viewed ON products (category_id, is_active, deleted_at, view_count);
+CREATE INDEX idx_products_category_price ON products (category_id, is_active, deleted_at, price);
+
+-- 상품 목록 (전체 카테고리, 정렬별)
+CREATE INDEX idx_products_active_created ON products (is_active, deleted_at, created_at);
+CREATE INDEX idx_products_active_sold ON products (is_active, deleted_at, sold_count);
+CREATE INDEX idx_products_active_viewed ON products (is_active, deleted_at, view_count);
+CREATE INDEX idx_products_active_price ON products (is_active, deleted_at, price);
+
+-- 인기상품 TOP 20 (판매량 DESC > 조회수 DESC > 생성일 ASC > id ASC) : findTop20Products
+CREATE INDEX idx_products_top ON products (is_active, deleted_at, sold_count DESC, view_count DESC, created_at, id);
+
+-- 유저 주문 목록 (상태 필터 없음 / 있음) : findByUserIdWithPaging, countByUserId
+CREATE INDEX idx_orders_user_created ON orders (user_id, created_at);
+CREATE INDEX idx_orders_user_status_created ON orders (user_id, status, created_at);
+
+-- 만료 대상 주문 조회 : findByStatusAndCreatedAtBefore
+CREATE INDEX idx_orders_status_created ON orders (status, created_at);
+
+-- 사용 가능 포인트 (생성일 오름차순 차감) : findAvailablePointsByUserId
+CREATE INDEX idx_points_user_available ON points (user_id, is_used, is_expired, deleted_at, created_at);
+
+-- 포인트 목록 : findByUserIdWithPaging, countByUserIdAndDeletedAtIsNull
+CREATE INDEX idx_points_user_created ON points (user_id, deleted_at, created_at);
+
+-- 사용 가능한 쿠폰 목록 : findAllAvailableCoupons
+CREATE INDEX idx_coupons_active_period ON coupons (is_active, start_date, end_date);
+
+-- 유저 쿠폰 조회 : findByUser_IdAndCoupon_IdWithLock, findByUser_IdAndStatus
+CREATE INDEX idx_user_coupons_user_coupon ON user_coupons (user_id, coupon_id);
+CREATE INDEX idx_user_coupons_user_status ON user_coupons (user_id, status);
+
+-- 판매 이력 집계 (랭킹 재구성) : ProductSalesJdbcRepository
+CREATE INDEX idx_payments_status_completed ON payments (payment_status, payment_type, completed_at, order_id);
+CREATE INDEX idx_order_items_order_status ON order_items (order_id, status, product_id, quantity);
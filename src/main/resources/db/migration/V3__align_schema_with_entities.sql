@@ -0,0 +1,10 @@
+-- 엔티티 매핑과 V1 스키마 불일치 보정
+-- - @Version(낙관적 락) 엔티티의 version 컬럼 추가 (users, points, user_coupons)
+--   기존 행은 0부터 시작 (UserCouponJdbcRepository도 version = 0으로 INSERT)
+-- - order_items.subtotal → sub_total (OrderItem.subTotal 매핑 컬럼명)
+
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE points ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE user_coupons ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE order_items RENAME COLUMN subtotal TO sub_total;
@@ -0,0 +1,285 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2단계 캐시(L1 Caffeine / L2 Redis) 통합 테스트
+ *
+ * 같은 Redis를 쓰는 TwoLevelCacheManager 두 개를 만들어 두 노드를 흉내낸다.
+ *
+ * 시나리오:
+ * - L2 적중 시 L1에 적재되고 이후 조회는 L1에서 응답
+ * - 한 노드의 저장/삭제/전체 삭제가 Pub/Sub로 다른 노드의 L1에 전파
+ * - 단계별 조회/적중률 메트릭 노출
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class TwoLevelCacheManagerIntegrationTest {
+
+    private static final long PROPAGATION_TIMEOUT_MILLIS = 3000;
+
+    @Autowired
+    private RedisCacheManager redisCacheManager;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private CacheRecomputeLease cacheRecomputeLease;
+
+    @Autowired
+    private TwoLevelCacheProperties twoLevelCacheProperties;
+
+    private final List<TwoLevelCacheManager> nodes = new ArrayList<>();
+    private String cacheName;
+
+    @BeforeEach
+    void setUp() {
+        cacheName = "twoLevelCacheTest-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(redisMessageListenerContainer::removeMessageListener);
+        nodes.clear();
+        redisCacheManager.getCache(cacheName).clear();
+    }
+
+    @Test
+    @DisplayName("L2에만 있는 값은 조회 시 L1에 적재되고 이후 L1에서 응답한다")
+    void lookup_promotesL2HitToL1() {
+        // Given - 다른 노드가 저장 (L2에만 존재)
+        TwoLevelCache reader = cacheOf(newNode(new SimpleMeterRegistry()));
+        putL2("key", "value");
+
+        // When
+        Cache.ValueWrapper first = reader.get("key");
+        Cache.ValueWrapper second = reader.get("key");
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(first.get()).isEqualTo("value");
+        assertThat(second).isNotNull();
+        assertThat(second.get()).isEqualTo("value");
+
+        assertThat(reader.stats().misses(TwoLevelCache.Level.L1)).isEqualTo(1);
+        assertThat(reader.stats().hits(TwoLevelCache.Level.L2)).isEqualTo(1);
+        assertThat(reader.stats().hits(TwoLevelCache.Level.L1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1/L2 모두 없으면 null을 반환하고 단계별 미적중으로 기록한다")
+    void lookup_returnsNullWhenAbsent() {
+        // Given
+        TwoLevelCache cache = cacheOf(newNode(new SimpleMeterRegistry()));
+
+        // When
+        Cache.ValueWrapper wrapper = cache.get("absent");
+
+        // Then
+        assertThat(wrapper).isNull();
+        assertThat(cache.stats().misses(TwoLevelCache.Level.L1)).isEqualTo(1);
+        assertThat(cache.stats().misses(TwoLevelCache.Level.L2)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 값을 바꾸면 다른 노드의 L1이 무효화되어 새 값을 읽는다")
+    void put_evictsOtherNodeL1() throws InterruptedException {
+        // Given - 두 노드 모두 L1에 기존 값 보유
+        TwoLevelCache nodeA = cacheOf(newNode(new SimpleMeterRegistry()));
+        TwoLevelCache nodeB = cacheOf(newNode(new SimpleMeterRegistry()));
+        awaitSubscription(nodeA, nodeB);
+
+        putL2("key", "old");
+        nodeA.get("key");
+        nodeB.get("key");
+        assertThat(localEntry(nodeB, "key")).isNotNull();
+
+        // When
+        nodeA.put("key", "new");
+
+        // Then
+        awaitLocalEviction(nodeB, "key");
+        assertThat(nodeB.get("key").get()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("한 노드에서 삭제하면 L2와 다른 노드의 L1에서 모두 사라진다")
+    void evict_removesFromL2AndOtherNodeL1() throws InterruptedException {
+        // Given
+        TwoLevelCache nodeA = cacheOf(newNode(new SimpleMeterRegistry()));
+        TwoLevelCache nodeB = cacheOf(newNode(new SimpleMeterRegistry()));
+        awaitSubscription(nodeA, nodeB);
+
+        putL2("key", "value");
+        nodeB.get("key");
+
+        // When
+        nodeA.evict("key");
+
+        // Then
+        awaitLocalEviction(nodeB, "key");
+        assertThat(nodeB.get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 전체 삭제하면 다른 노드의 L1도 모두 비워진다")
+    void clear_clearsOtherNodeL1() throws InterruptedException {
+        // Given
+        TwoLevelCache nodeA = cacheOf(newNode(new SimpleMeterRegistry()));
+        TwoLevelCache nodeB = cacheOf(newNode(new SimpleMeterRegistry()));
+        awaitSubscription(nodeA, nodeB);
+
+        putL2("key1", "value1");
+        putL2("key2", "value2");
+        nodeB.get("key1");
+        nodeB.get("key2");
+
+        // When
+        nodeA.clear();
+
+        // Then
+        awaitLocalEviction(nodeB, "key1");
+        awaitLocalEviction(nodeB, "key2");
+        assertThat(nodeB.get("key1")).isNull();
+        assertThat(nodeB.get("key2")).isNull();
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 무효화 메시지로는 자신의 L1을 지우지 않는다")
+    void put_keepsOwnL1() throws InterruptedException {
+        // Given
+        TwoLevelCache nodeA = cacheOf(newNode(new SimpleMeterRegistry()));
+        TwoLevelCache nodeB = cacheOf(newNode(new SimpleMeterRegistry()));
+        awaitSubscription(nodeA, nodeB);
+
+        // When - 저장 후 다른 노드에 전파될 때까지 대기
+        putL2("marker", "value");
+        nodeA.get("marker");
+        nodeA.put("key", "value");
+        nodeB.put("marker", "changed");
+        awaitLocalEviction(nodeA, "marker");
+
+        // Then
+        assertThat(localEntry(nodeA, "key")).isNotNull();
+        assertThat(nodeA.get("key").get()).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("단계별 조회 횟수와 적중률을 메트릭으로 노출한다")
+    void metrics_exposePerLevelCounts() {
+        // Given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TwoLevelCache cache = cacheOf(newNode(meterRegistry));
+        putL2("key", "value");
+
+        // When - L1 미스/L2 적중 1회, L1 적중 3회
+        cache.get("key");
+        cache.get("key");
+        cache.get("key");
+        cache.get("key");
+
+        // Then
+        assertThat(gets(meterRegistry, "l1", "hit")).isEqualTo(3);
+        assertThat(gets(meterRegistry, "l1", "miss")).isEqualTo(1);
+        assertThat(gets(meterRegistry, "l2", "hit")).isEqualTo(1);
+        assertThat(gets(meterRegistry, "l2", "miss")).isEqualTo(0);
+
+        assertThat(meterRegistry.get("cache.two-level.hit.ratio")
+                .tags("cache", cacheName, "level", "l1")
+                .gauge().value()).isEqualTo(0.75);
+        assertThat(meterRegistry.get("cache.two-level.hit.ratio")
+                .tags("cache", cacheName, "level", "l2")
+                .gauge().value()).isEqualTo(1.0);
+    }
+
+    private TwoLevelCacheManager newNode(MeterRegistry meterRegistry) {
+        TwoLevelCacheProperties properties = new TwoLevelCacheProperties(twoLevelCacheProperties.defaults(), Map.of());
+        TwoLevelCacheManager node = new TwoLevelCacheManager(
+                redisCacheManager, redisTemplate, cacheRecomputeLease, properties, meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(node, new ChannelTopic(TwoLevelCacheManager.INVALIDATE_CHANNEL));
+        nodes.add(node);
+        return node;
+    }
+
+    private TwoLevelCache cacheOf(TwoLevelCacheManager node) {
+        return (TwoLevelCache) node.getCache(cacheName);
+    }
+
+    /**
+     * 다른 노드가 저장한 상태 (무효화 메시지 없이 L2에만 기록)
+     */
+    private void putL2(String key, Object value) {
+        redisCacheManager.getCache(cacheName).put(key, new TwoLevelCacheEntry(value, 0L, 0L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private TwoLevelCacheEntry localEntry(TwoLevelCache cache, String key) {
+        return ((com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCacheEntry>) cache.getNativeCache())
+                .getIfPresent(key);
+    }
+
+    private double gets(MeterRegistry meterRegistry, String level, String result) {
+        return meterRegistry.get("cache.two-level.gets")
+                .tags("cache", cacheName, "level", level, "result", result)
+                .functionCounter().count();
+    }
+
+    /**
+     * 구독 등록이 끝날 때까지 대기 (등록 전에 발행된 메시지는 전달되지 않음)
+     * - 두 노드가 서로의 무효화 메시지를 받을 때까지 probe 키를 반복 저장
+     */
+    private void awaitSubscription(TwoLevelCache nodeA, TwoLevelCache nodeB) throws InterruptedException {
+        awaitReceives(nodeA, nodeB);
+        awaitReceives(nodeB, nodeA);
+    }
+
+    private void awaitReceives(TwoLevelCache publisher, TwoLevelCache subscriber) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROPAGATION_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            publisher.put("probe", "probe");
+            subscriber.get("probe");
+            publisher.put("probe", "probe");
+
+            Thread.sleep(50);
+            if (localEntry(subscriber, "probe") == null) {
+                return;
+            }
+        }
+        throw new AssertionError("캐시 무효화 채널 구독이 완료되지 않았습니다");
+    }
+
+    private void awaitLocalEviction(TwoLevelCache cache, String key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROPAGATION_TIMEOUT_MILLIS;
+        while (localEntry(cache, key) != null) {
+            assertThat(System.currentTimeMillis())
+                    .as("L1 무효화 전파 대기 시간 초과 - key: %s", key)
+                    .isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
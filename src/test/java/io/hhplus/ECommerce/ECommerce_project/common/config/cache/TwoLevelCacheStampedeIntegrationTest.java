@@ -0,0 +1,336 @@
+package io.hhplus.ECommerce.ECommerce_project.common.config.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2단계 캐시 스탬피드 방지 통합 테스트
+ *
+ * 시나리오:
+ * - 노드 내: 같은 키 동시 요청은 한 번만 적재, 느린 적재가 다른 키 조회를 막지 않음
+ * - 노드 간: 재계산 리스를 얻지 못한 노드는 리스 보유 노드의 적재 결과를 사용
+ * - 조기 갱신(XFetch): 만료가 가까운 값은 리스 보유 요청 하나만 미리 재계산
+ * - 리스 해제는 자신의 토큰일 때만 삭제
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class TwoLevelCacheStampedeIntegrationTest {
+
+    private static final String LEASE_PREFIX = "cache:lease:";
+    private static final long SLOW_LOAD_MILLIS = 300;
+
+    // 계산 시간이 매우 길어 만료 1분 전이라도 조기 갱신 대상이 되는 값
+    private static final long SLOW_COMPUTE_MILLIS = 1_000_000_000_000_000L;
+
+    @Autowired
+    private RedisCacheManager redisCacheManager;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private CacheRecomputeLease cacheRecomputeLease;
+
+    @Autowired
+    private TwoLevelCacheProperties twoLevelCacheProperties;
+
+    private final List<TwoLevelCacheManager> nodes = new ArrayList<>();
+    private String cacheName;
+
+    @BeforeEach
+    void setUp() {
+        cacheName = "twoLevelCacheStampedeTest-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(redisMessageListenerContainer::removeMessageListener);
+        nodes.clear();
+        redisCacheManager.getCache(cacheName).clear();
+    }
+
+    @Test
+    @DisplayName("같은 노드에서 같은 키를 동시에 요청하면 한 번만 적재한다")
+    void get_loadsOncePerNode() throws Exception {
+        // Given
+        TwoLevelCache cache = cacheOf(newNode(0.0));
+        AtomicInteger loadCount = new AtomicInteger();
+        int threadCount = 10;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                startLatch.await();
+                return cache.get("key", () -> {
+                    loadCount.incrementAndGet();
+                    Thread.sleep(SLOW_LOAD_MILLIS);
+                    return "value";
+                });
+            }));
+        }
+        startLatch.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        executorService.shutdown();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 중 예외는 같은 키를 기다리던 요청에도 전달되고 다음 요청은 다시 적재한다")
+    void get_propagatesLoadFailureToWaiters() throws Exception {
+        // Given
+        TwoLevelCache cache = cacheOf(newNode(0.0));
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch failLoad = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.<String>get("key", () -> {
+            loaderStarted.countDown();
+            failLoad.await();
+            throw new IllegalStateException("적재 실패");
+        }));
+        loaderStarted.await();
+        CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> cache.get("key", () -> "unused"));
+
+        // When
+        Thread.sleep(100);
+        failLoad.countDown();
+
+        // Then
+        assertThat(first).failsWithin(Duration.ofSeconds(5));
+        assertThat(waiter).failsWithin(Duration.ofSeconds(5));
+        assertThat(cache.get("key", () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    @DisplayName("느린 적재가 진행 중이어도 다른 키 조회는 기다리지 않는다")
+    void get_slowLoadDoesNotBlockOtherKeys() throws Exception {
+        // Given - 적재가 끝나지 않은 키
+        TwoLevelCache cache = cacheOf(newNode(0.0));
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch finishLoad = new CountDownLatch(1);
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> cache.get("slow", () -> {
+            loaderStarted.countDown();
+            finishLoad.await();
+            return "slow";
+        }));
+        loaderStarted.await();
+
+        // When
+        CompletableFuture<String> fast = CompletableFuture.supplyAsync(() -> cache.get("fast", () -> "fast"));
+
+        // Then
+        assertThat(fast.get(1, TimeUnit.SECONDS)).isEqualTo("fast");
+        assertThat(slow).isNotDone();
+
+        finishLoad.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 재계산 리스를 보유 중이면 적재 완료를 기다린 뒤 그 값을 사용한다")
+    void get_waitsForOtherNodeLease() throws Exception {
+        // Given - 노드 A가 느리게 적재 중
+        TwoLevelCache nodeA = cacheOf(newNode(0.0));
+        TwoLevelCache nodeB = cacheOf(newNode(0.0));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+
+        CompletableFuture<String> loadedByA = CompletableFuture.supplyAsync(() -> nodeA.get("key", () -> {
+            loaderStarted.countDown();
+            Thread.sleep(SLOW_LOAD_MILLIS);
+            loadCount.incrementAndGet();
+            return "fromA";
+        }));
+        loaderStarted.await();
+
+        // When
+        String loadedByB = nodeB.get("key", () -> {
+            loadCount.incrementAndGet();
+            return "fromB";
+        });
+
+        // Then
+        assertThat(loadedByA.get(5, TimeUnit.SECONDS)).isEqualTo("fromA");
+        assertThat(loadedByB).isEqualTo("fromA");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(nodeB.stats().leaseWaits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 값은 조기 갱신하여 L2에 새 값을 저장한다")
+    void get_refreshesEarlyNearExpiry() {
+        // Given
+        TwoLevelCache cache = cacheOf(newNode(1.0));
+        putL2("key", new TwoLevelCacheEntry("old", SLOW_COMPUTE_MILLIS, System.currentTimeMillis() + 60_000));
+
+        // When
+        String value = cache.get("key", () -> "new");
+
+        // Then
+        assertThat(value).isEqualTo("new");
+        assertThat(cache.stats().earlyRefreshes()).isEqualTo(1);
+
+        Cache.ValueWrapper stored = redisCacheManager.getCache(cacheName).get("key");
+        assertThat(stored).isNotNull();
+        assertThat(((TwoLevelCacheEntry) stored.get()).getValue()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("조기 갱신을 끄면(beta = 0) 만료가 가까워도 기존 값을 사용한다")
+    void get_skipsEarlyRefreshWhenDisabled() {
+        // Given
+        TwoLevelCache cache = cacheOf(newNode(0.0));
+        putL2("key", new TwoLevelCacheEntry("old", SLOW_COMPUTE_MILLIS, System.currentTimeMillis() + 60_000));
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When
+        String value = cache.get("key", () -> {
+            loadCount.incrementAndGet();
+            return "new";
+        });
+
+        // Then
+        assertThat(value).isEqualTo("old");
+        assertThat(loadCount.get()).isZero();
+        assertThat(cache.stats().earlyRefreshes()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 요청이 재계산 리스를 보유 중이면 조기 갱신하지 않고 기존 값을 사용한다")
+    void get_skipsEarlyRefreshWithoutLease() {
+        // Given - 다른 노드가 같은 키를 재계산 중
+        TwoLevelCache cache = cacheOf(newNode(1.0));
+        putL2("key", new TwoLevelCacheEntry("old", SLOW_COMPUTE_MILLIS, System.currentTimeMillis() + 60_000));
+        String leaseName = cacheName + ":key";
+        Optional<String> lease = cacheRecomputeLease.tryAcquire(leaseName, Duration.ofSeconds(10));
+        assertThat(lease).isPresent();
+
+        try {
+            // When
+            String value = cache.get("key", () -> "new");
+
+            // Then
+            assertThat(value).isEqualTo("old");
+            assertThat(cache.stats().earlyRefreshes()).isZero();
+        } finally {
+            cacheRecomputeLease.release(leaseName, lease.get());
+        }
+    }
+
+    @Test
+    @DisplayName("조기 갱신이 실패하면 기존 값을 그대로 사용한다")
+    void get_keepsCurrentValueWhenEarlyRefreshFails() {
+        // Given
+        TwoLevelCache cache = cacheOf(newNode(1.0));
+        putL2("key", new TwoLevelCacheEntry("old", SLOW_COMPUTE_MILLIS, System.currentTimeMillis() + 60_000));
+
+        // When
+        String value = cache.get("key", () -> {
+            throw new IllegalStateException("재계산 실패");
+        });
+
+        // Then
+        assertThat(value).isEqualTo("old");
+        assertThat(cache.stats().earlyRefreshes()).isZero();
+    }
+
+    @Test
+    @DisplayName("조기 갱신 확률은 계산 시간과 만료까지 남은 시간에 따라 달라진다")
+    void shouldRefreshEarly_dependsOnComputeTimeAndExpiry() {
+        long now = System.currentTimeMillis();
+
+        // 계산이 오래 걸리고 만료가 가까운 값
+        assertThat(new TwoLevelCacheEntry("v", SLOW_COMPUTE_MILLIS, now + 1000).shouldRefreshEarly(1.0)).isTrue();
+
+        // 계산이 빠르고 만료가 먼 값
+        assertThat(new TwoLevelCacheEntry("v", 1L, now + Duration.ofDays(1).toMillis()).shouldRefreshEarly(1.0)).isFalse();
+
+        // 조기 갱신 비활성화, 메타데이터 없는 이전 형식
+        assertThat(new TwoLevelCacheEntry("v", SLOW_COMPUTE_MILLIS, now + 1000).shouldRefreshEarly(0.0)).isFalse();
+        assertThat(new TwoLevelCacheEntry("v", 0L, 0L).shouldRefreshEarly(1.0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 후 다른 요청이 다시 얻은 리스는 이전 보유자가 해제할 수 없다")
+    void release_keepsLeaseReacquiredByOthers() {
+        // Given - 첫 리스가 만료된 뒤 다른 요청이 리스 획득
+        String leaseName = "test:" + UUID.randomUUID();
+        Optional<String> expired = cacheRecomputeLease.tryAcquire(leaseName, Duration.ofSeconds(10));
+        redisTemplate.delete(LEASE_PREFIX + leaseName);
+        Optional<String> current = cacheRecomputeLease.tryAcquire(leaseName, Duration.ofSeconds(10));
+        assertThat(expired).isPresent();
+        assertThat(current).isPresent();
+
+        try {
+            // When
+            cacheRecomputeLease.release(leaseName, expired.get());
+
+            // Then
+            assertThat(redisTemplate.opsForValue().get(LEASE_PREFIX + leaseName)).isEqualTo(current.get());
+            assertThat(cacheRecomputeLease.tryAcquire(leaseName, Duration.ofSeconds(10))).isEmpty();
+
+            cacheRecomputeLease.release(leaseName, current.get());
+            assertThat(redisTemplate.hasKey(LEASE_PREFIX + leaseName)).isFalse();
+        } finally {
+            redisTemplate.delete(LEASE_PREFIX + leaseName);
+        }
+    }
+
+    private TwoLevelCacheManager newNode(double earlyRefreshBeta) {
+        TwoLevelCacheProperties.CacheSpec spec = twoLevelCacheProperties.defaults()
+                .overriddenBy(new TwoLevelCacheProperties.CacheSpec(null, null, null, null, earlyRefreshBeta));
+        TwoLevelCacheManager node = new TwoLevelCacheManager(redisCacheManager, redisTemplate, cacheRecomputeLease,
+                new TwoLevelCacheProperties(spec, Map.of()), new SimpleMeterRegistry());
+
+        redisMessageListenerContainer.addMessageListener(node, new ChannelTopic(TwoLevelCacheManager.INVALIDATE_CHANNEL));
+        nodes.add(node);
+        return node;
+    }
+
+    private TwoLevelCache cacheOf(TwoLevelCacheManager node) {
+        return (TwoLevelCache) node.getCache(cacheName);
+    }
+
+    private void putL2(String key, TwoLevelCacheEntry entry) {
+        redisCacheManager.getCache(cacheName).put(key, entry);
+    }
+}
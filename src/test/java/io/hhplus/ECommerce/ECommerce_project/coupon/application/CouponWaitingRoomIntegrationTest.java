@@ -0,0 +1,313 @@
+package io.hhplus.ECommerce.ECommerce_project.coupon.application;
+
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponWaitingTicket;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponWaitingStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.scheduler.CouponAdmissionScheduler;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.scheduler.CouponIssueStreamScheduler;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponWaitingRoomService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.RedisCouponMetadataService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.RedisCouponService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 발급 대기열 통합 테스트
+ *
+ * 대기열은 기본 비활성(coupon.waiting-room.enabled=false)이라 스케줄러 주기 작업은 동작하지 않고,
+ * 테스트에서 입장 처리(CouponAdmissionScheduler.admit)를 직접 호출한다.
+ *
+ * 시나리오:
+ * - 입장 순서대로 순번 부여, 같은 사용자의 재입장은 기존 토큰 반환
+ * - 허가는 입장 순서대로 진행
+ * - 입장 처리 시 선착순으로 발급되고 수량 소진 후 남은 토큰은 SOLD_OUT
+ * - 최종 상태가 기록된 뒤에 상태 변경 알림 발행
+ * - 대기열이 빈 것을 확인한 뒤 입장한 토큰이 있으면 활성 목록에서 제거하지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class CouponWaitingRoomIntegrationTest {
+
+    private static final String STATUS_CHANNEL = "coupon:waiting:status";
+    private static final long SUBSCRIBE_TIMEOUT_MILLIS = 3000;
+
+    @Autowired
+    private CouponWaitingRoomService couponWaitingRoomService;
+
+    @Autowired
+    private CouponAdmissionScheduler couponAdmissionScheduler;
+
+    @Autowired
+    private CouponIssueStreamScheduler couponIssueStreamScheduler;
+
+    @Autowired
+    private RedisCouponService redisCouponService;
+
+    @Autowired
+    private RedisCouponMetadataService redisCouponMetadataService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 알림 수신 시점의 토큰 상태
+    private final Map<String, CouponWaitingStatus> notifiedStatuses = new ConcurrentHashMap<>();
+    private final Set<String> receivedMessages = ConcurrentHashMap.newKeySet();
+    private MessageListener statusListener;
+
+    private Coupon testCoupon;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testCoupon = couponRepository.save(Coupon.createCoupon(
+                "대기열 쿠폰",
+                "WAITING3",
+                DiscountType.FIXED,
+                BigDecimal.valueOf(5000),
+                null,
+                BigDecimal.valueOf(30000),
+                3,
+                1,
+                LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(30)
+        ));
+        clearRedis(testCoupon.getId());
+
+        users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = new User();
+            user.setUsername("waiting_user_" + i);
+            user.setPassword("password");
+            user.setPointBalance(BigDecimal.ZERO);
+            users.add(userRepository.save(user));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (statusListener != null) {
+            redisMessageListenerContainer.removeMessageListener(statusListener);
+        }
+
+        // 발급 스트림에 남은 기록을 DB에 반영한 뒤 정리
+        couponIssueStreamScheduler.drainIssuedCoupons();
+        clearRedis(testCoupon.getId());
+
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대기열 입장 순서대로 순번이 부여되고 같은 사용자의 재입장은 기존 토큰을 반환한다")
+    void enqueue_assignsPositionsInArrivalOrder() {
+        // Given
+        Long couponId = testCoupon.getId();
+
+        // When
+        List<CouponWaitingTicket> tickets = enqueueAll();
+        CouponWaitingTicket again = couponWaitingRoomService.enqueue(users.get(0).getId(), couponId);
+
+        // Then
+        for (int i = 0; i < tickets.size(); i++) {
+            assertThat(tickets.get(i).status()).isEqualTo(CouponWaitingStatus.WAITING);
+            assertThat(tickets.get(i).position()).isEqualTo(i + 1L);
+        }
+        assertThat(again.token()).isEqualTo(tickets.get(0).token());
+        assertThat(again.position()).isEqualTo(1L);
+        assertThat(couponWaitingRoomService.getActiveCouponIds()).contains(couponId);
+    }
+
+    @Test
+    @DisplayName("허가는 대기열 입장 순서대로 진행되고 남은 토큰의 순번이 앞당겨진다")
+    void admit_popsInArrivalOrder() {
+        // Given
+        Long couponId = testCoupon.getId();
+        List<CouponWaitingTicket> tickets = enqueueAll();
+
+        // When
+        List<String> admitted = couponWaitingRoomService.admit(couponId, 2);
+
+        // Then
+        assertThat(admitted).containsExactly(tickets.get(0).token(), tickets.get(1).token());
+        assertThat(couponWaitingRoomService.getTicket(tickets.get(0).token()).status())
+                .isEqualTo(CouponWaitingStatus.ADMITTED);
+
+        CouponWaitingTicket next = couponWaitingRoomService.getTicket(tickets.get(2).token());
+        assertThat(next.status()).isEqualTo(CouponWaitingStatus.WAITING);
+        assertThat(next.position()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("입장 처리 시 입장 순서대로 발급되고 수량 소진 후 남은 토큰은 SOLD_OUT 처리된다")
+    void admission_issuesInArrivalOrderAndSoldOutRest() throws InterruptedException {
+        // Given - 수량 3개, 사용자 5명
+        Long couponId = testCoupon.getId();
+        subscribeStatusChannel();
+        List<CouponWaitingTicket> tickets = enqueueAll();
+
+        // When
+        couponAdmissionScheduler.admit(couponId);
+
+        // Then
+        List<CouponWaitingStatus> statuses = tickets.stream()
+                .map(ticket -> couponWaitingRoomService.getTicket(ticket.token()).status())
+                .toList();
+        assertThat(statuses).containsExactly(
+                CouponWaitingStatus.ISSUED,
+                CouponWaitingStatus.ISSUED,
+                CouponWaitingStatus.ISSUED,
+                CouponWaitingStatus.SOLD_OUT,
+                CouponWaitingStatus.SOLD_OUT
+        );
+        assertThat(redisCouponService.getIssuedCount(couponId)).isEqualTo(3);
+        assertThat(couponWaitingRoomService.getActiveCouponIds()).doesNotContain(couponId);
+
+        // 알림은 최종 상태 기록 후 발행
+        awaitNotified(tickets);
+        for (int i = 0; i < tickets.size(); i++) {
+            assertThat(notifiedStatuses.get(tickets.get(i).token())).isEqualTo(statuses.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("수량이 소진된 쿠폰은 대기열에 넣지 않고 SOLD_OUT 토큰을 반환한다")
+    void enqueue_returnsSoldOutAfterExhausted() {
+        // Given
+        Long couponId = testCoupon.getId();
+        enqueueAll();
+        couponAdmissionScheduler.admit(couponId);
+
+        // When
+        User lateUser = new User();
+        lateUser.setUsername("waiting_user_late");
+        lateUser.setPassword("password");
+        lateUser.setPointBalance(BigDecimal.ZERO);
+        CouponWaitingTicket ticket = couponWaitingRoomService.enqueue(userRepository.save(lateUser).getId(), couponId);
+
+        // Then
+        assertThat(ticket.status()).isEqualTo(CouponWaitingStatus.SOLD_OUT);
+        assertThat(ticket.token()).isNull();
+        assertThat(couponWaitingRoomService.getActiveCouponIds()).doesNotContain(couponId);
+    }
+
+    @Test
+    @DisplayName("대기열이 비면 활성 목록에서 제거되고, 비운 뒤 입장한 토큰이 있으면 활성 목록에 남아 허가된다")
+    void deactivateIfEmpty_keepsCouponWhenEnqueuedAfterDrain() {
+        // Given - 대기 토큰을 모두 허가해 대기열이 빈 상태
+        Long couponId = testCoupon.getId();
+        enqueueAll();
+        couponWaitingRoomService.admit(couponId, users.size());
+
+        // When - 비었는지 확인과 제거 사이에 새 입장이 끼어든 경우
+        User lateUser = new User();
+        lateUser.setUsername("waiting_user_late");
+        lateUser.setPassword("password");
+        lateUser.setPointBalance(BigDecimal.ZERO);
+        CouponWaitingTicket late = couponWaitingRoomService.enqueue(userRepository.save(lateUser).getId(), couponId);
+        boolean deactivated = couponWaitingRoomService.deactivateIfEmpty(couponId);
+
+        // Then - 활성 목록에 남아 다음 입장 처리에서 허가됨
+        assertThat(deactivated).isFalse();
+        assertThat(couponWaitingRoomService.getActiveCouponIds()).contains(couponId);
+        assertThat(couponWaitingRoomService.admit(couponId, 1)).containsExactly(late.token());
+
+        // 대기열이 비면 제거
+        assertThat(couponWaitingRoomService.deactivateIfEmpty(couponId)).isTrue();
+        assertThat(couponWaitingRoomService.getActiveCouponIds()).doesNotContain(couponId);
+    }
+
+    private List<CouponWaitingTicket> enqueueAll() {
+        return users.stream()
+                .map(user -> couponWaitingRoomService.enqueue(user.getId(), testCoupon.getId()))
+                .toList();
+    }
+
+    /**
+     * 상태 변경 채널 구독 (구독 완료 전 발행된 메시지는 전달되지 않으므로 probe 메시지로 확인)
+     */
+    private void subscribeStatusChannel() throws InterruptedException {
+        statusListener = (message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            receivedMessages.add(body);
+            for (String token : body.split(",")) {
+                if (redisTemplate.hasKey("coupon:waiting:token:" + token)) {
+                    notifiedStatuses.put(token, couponWaitingRoomService.getTicket(token).status());
+                }
+            }
+        };
+        redisMessageListenerContainer.addMessageListener(statusListener, new ChannelTopic(STATUS_CHANNEL));
+
+        long deadline = System.currentTimeMillis() + SUBSCRIBE_TIMEOUT_MILLIS;
+        while (!receivedMessages.contains("probe")) {
+            assertThat(System.currentTimeMillis()).as("상태 변경 채널 구독 대기 시간 초과").isLessThan(deadline);
+            redisTemplate.convertAndSend(STATUS_CHANNEL, "probe");
+            Thread.sleep(50);
+        }
+    }
+
+    private void awaitNotified(List<CouponWaitingTicket> tickets) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + SUBSCRIBE_TIMEOUT_MILLIS;
+        while (!tickets.stream().allMatch(ticket -> notifiedStatuses.containsKey(ticket.token()))) {
+            assertThat(System.currentTimeMillis()).as("상태 변경 알림 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * 이전 실행에서 같은 쿠폰 ID로 남은 Redis 발급/대기열 데이터 정리
+     */
+    private void clearRedis(Long couponId) {
+        redisCouponService.clearCouponIssueData(couponId);
+        redisCouponMetadataService.deleteCouponMetadata(couponId);
+
+        String queueKey = "coupon:waiting:" + couponId;
+        redisTemplate.delete(queueKey);
+        Set<String> waitingKeys = redisTemplate.keys(queueKey + ":*");
+        if (waitingKeys != null && !waitingKeys.isEmpty()) {
+            redisTemplate.delete(waitingKeys);
+        }
+        redisTemplate.opsForSet().remove("coupon:waiting:active", couponId.toString());
+    }
+}
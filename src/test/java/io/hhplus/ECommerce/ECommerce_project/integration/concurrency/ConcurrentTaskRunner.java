@@ -0,0 +1,67 @@
+package io.hhplus.ECommerce.ECommerce_project.integration.concurrency;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시성 테스트 실행기
+ *
+ * - 모든 작업을 시작 신호에 맞춰 동시에 실행하고 완료까지 대기
+ * - 예외 없이 끝난 작업은 성공, 예외가 발생한 작업은 실패로 집계
+ */
+final class ConcurrentTaskRunner {
+
+    private ConcurrentTaskRunner() {
+    }
+
+    /**
+     * 작업 수만큼 스레드를 만들어 동시에 실행
+     *
+     * @param taskCount 전체 작업 수
+     * @param task 작업 (인자는 0부터 시작하는 작업 번호)
+     */
+    static Result run(int taskCount, Task task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(taskCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch completionLatch = new CountDownLatch(taskCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        for (int i = 0; i < taskCount; i++) {
+            final int index = i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    task.run(index);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    completionLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        completionLatch.await();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        executorService.shutdown();
+
+        return new Result(successCount.get(), failCount.get(), elapsedMillis);
+    }
+
+    @FunctionalInterface
+    interface Task {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * @param elapsedMillis 시작 신호부터 모든 작업 완료까지 걸린 시간
+     */
+    record Result(int successCount, int failCount, long elapsedMillis) {
+    }
+}
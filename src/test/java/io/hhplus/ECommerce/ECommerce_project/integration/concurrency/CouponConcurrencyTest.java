@@ -2,6 +2,15 @@ package io.hhplus.ECommerce.ECommerce_project.integration.concurrency;
 
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.IssueCouponUseCase;
 import io.hhplus.ECommerce.ECommerce_project.coupon.application.command.IssueCouponCommand;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.dto.CouponBulkIssueJob;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueSource;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponBulkIssueStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.enums.CouponIssueStrategy;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.scheduler.CouponIssueStreamScheduler;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.scheduler.CouponIssuedQuantityReconcileScheduler;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueJobService;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.CouponBulkIssueRunner;
+import io.hhplus.ECommerce.ECommerce_project.coupon.application.service.RedisCouponService;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.Coupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.entity.UserCoupon;
 import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.DiscountType;
@@ -14,10 +23,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -32,6 +44,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * 시나리오:
  * - 제한된 쿠폰을 여러 사용자가 동시에 발급받는 경우
  * - 같은 사용자가 쿠폰을 동시에 여러 번 발급 시도하는 경우
+ * - 발급 방식별(Sorted Set / 카운터) 정확성 비교
  */
 @SpringBootTest
 @ActiveProfiles("integration")
@@ -49,6 +62,27 @@ public class CouponConcurrencyTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RedisCouponService redisCouponService;
+
+    @Autowired
+    private CouponIssueStreamScheduler couponIssueStreamScheduler;
+
+    @Autowired
+    private CouponIssuedQuantityReconcileScheduler couponIssuedQuantityReconcileScheduler;
+
+    @Autowired
+    private CouponBulkIssueJobService couponBulkIssueJobService;
+
+    @Autowired
+    private CouponBulkIssueRunner couponBulkIssueRunner;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         // 기존 데이터 정리
@@ -124,6 +158,9 @@ public class CouponConcurrencyTest {
         assertThat(successCount.get()).isEqualTo(couponLimit);
         assertThat(failCount.get()).isEqualTo(userCount - couponLimit);
 
+        // 발급 스트림 적재분 DB 반영
+        couponIssueStreamScheduler.drainIssuedCoupons();
+
         // 실제 발급된 UserCoupon 개수 확인
         List<UserCoupon> issuedCoupons = userCouponRepository.findAll();
         assertThat(issuedCoupons).hasSize(couponLimit);
@@ -193,6 +230,9 @@ public class CouponConcurrencyTest {
         assertThat(successCount.get()).isEqualTo(1);
         assertThat(failCount.get()).isEqualTo(attemptCount - 1);
 
+        // 발급 스트림 적재분 DB 반영
+        couponIssueStreamScheduler.drainIssuedCoupons();
+
         // UserCoupon도 1개만 생성되어야 함
         List<UserCoupon> userCoupons = userCouponRepository.findByUser_Id(userId);
         assertThat(userCoupons).hasSize(1);
@@ -265,8 +305,208 @@ public class CouponConcurrencyTest {
         assertThat(successCount.get()).isEqualTo(userCount);
         assertThat(failCount.get()).isEqualTo(0);
 
+        // 발급 스트림 적재분 DB 반영
+        couponIssueStreamScheduler.drainIssuedCoupons();
+
         // 모든 UserCoupon 생성 확인
         List<UserCoupon> allCoupons = userCouponRepository.findAll();
         assertThat(allCoupons).hasSize(userCount);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("issued_quantity가 실제 발급 건수와 어긋나면 정합성 검증 시 user_coupons 기준으로 보정되어야 한다")
+    void testIssuedQuantityReconciliation() {
+        // Given
+        Coupon coupon = couponRepository.save(Coupon.createCoupon(
+                "정합성 검증 쿠폰",
+                "RECONCILE_COUPON",
+                DiscountType.FIXED,
+                BigDecimal.valueOf(1000),
+                null,
+                BigDecimal.valueOf(10000),
+                10,
+                1,
+                LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(30)
+        ));
+        redisCouponService.clearCouponIssueData(coupon.getId());
+
+        int issueCount = 3;
+        for (int i = 0; i < issueCount; i++) {
+            User user = new User();
+            user.setUsername("reconcile_user_" + i);
+            user.setPassword("password");
+            user.setPointBalance(BigDecimal.ZERO);
+            user = userRepository.save(user);
+            issueCouponUseCase.execute(new IssueCouponCommand(user.getId(), coupon.getId()));
+        }
+        couponIssueStreamScheduler.drainIssuedCoupons();
+
+        // 집계값 유실 상황 재현
+        jdbcTemplate.update("UPDATE coupons SET issued_quantity = 0 WHERE id = ?", coupon.getId());
+
+        // When
+        couponIssuedQuantityReconcileScheduler.reconcileIssuedQuantity();
+
+        // Then
+        Coupon reconciled = couponRepository.findById(coupon.getId()).orElseThrow();
+        assertThat(reconciled.getIssuedQuantity()).isEqualTo(issueCount);
+        assertThat(redisCouponService.getIssuedCount(coupon.getId())).isEqualTo(issueCount);
+
+        redisCouponService.clearCouponIssueData(coupon.getId());
+    }
+
+    @Test
+    @DisplayName("일괄 발급 작업은 중단된 청크부터 이어서 처리하고, 수량이 소진되면 정확히 한도만큼만 발급하고 종료해야 한다")
+    void testBulkIssueResumesAndStopsWhenSoldOut() throws InterruptedException {
+        // Given
+        int userCount = 2500;
+        int couponLimit = 1200;
+
+        Coupon coupon = couponRepository.save(Coupon.createCoupon(
+                "일괄 발급 쿠폰",
+                "BULK_COUPON",
+                DiscountType.FIXED,
+                BigDecimal.valueOf(1000),
+                null,
+                BigDecimal.valueOf(10000),
+                couponLimit,
+                1,
+                LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(30)
+        ));
+        redisCouponService.clearCouponIssueData(coupon.getId());
+
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User();
+            user.setUsername("bulk_user_" + i);
+            user.setPassword("password");
+            user.setPointBalance(BigDecimal.ZERO);
+            users.add(user);
+        }
+        List<Long> userIds = userRepository.saveAll(users).stream()
+                .map(User::getId)
+                .sorted()
+                .toList();
+
+        // 첫 청크를 Redis에 예약만 하고 DB 저장 전에 중단된 상황 재현
+        String jobId = couponBulkIssueJobService.create(coupon.getId(), CouponBulkIssueSource.ALL_USERS, userCount);
+        redisCouponService.tryIssueCoupons(coupon.getId(), userIds.subList(0, 1000), couponLimit,
+                couponBulkIssueJobService.inflightKey(jobId));
+
+        // When
+        couponBulkIssueRunner.run(jobId);
+        CouponBulkIssueJob job = awaitJobFinished(jobId);
+
+        // Then
+        assertThat(job.status()).isEqualTo(CouponBulkIssueStatus.SOLD_OUT);
+        assertThat(job.issuedCount()).isEqualTo(couponLimit);
+        assertThat(redisCouponService.getIssuedCount(coupon.getId())).isEqualTo(couponLimit);
+        assertThat(userCouponRepository.findAll()).hasSize(couponLimit);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(couponLimit);
+
+        redisCouponService.clearCouponIssueData(coupon.getId());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 방식 비교 - Sorted Set과 카운터 방식 모두 정확히 제한 수량만큼만 발급해야 한다")
+    void testIssueStrategyComparison() throws InterruptedException {
+        // Given
+        int attemptCount = 2000;
+        int couponLimit = 500;
+        long sortedSetCouponId = 900_000_000L + System.currentTimeMillis() % 100_000;
+        long counterCouponId = sortedSetCouponId + 1;
+
+        redisCouponService.clearCouponIssueData(sortedSetCouponId);
+        redisCouponService.clearCouponIssueData(counterCouponId);
+
+        // When
+        int sortedSetIssued = runIssueAttempts(CouponIssueStrategy.SORTED_SET, sortedSetCouponId, attemptCount, couponLimit);
+        int counterIssued = runIssueAttempts(CouponIssueStrategy.COUNTER_SET, counterCouponId, attemptCount, couponLimit);
+
+        // Then
+        assertThat(sortedSetIssued).isEqualTo(couponLimit);
+        assertThat(counterIssued).isEqualTo(couponLimit);
+
+        assertThat(redisTemplate.opsForZSet().zCard("coupon:issue:" + sortedSetCouponId)).isEqualTo(couponLimit);
+        assertThat(redisTemplate.opsForValue().get("coupon:issued:" + counterCouponId + ":count"))
+                .isEqualTo(String.valueOf(couponLimit));
+        assertThat(redisTemplate.opsForSet().size("coupon:issued:" + counterCouponId + ":users")).isEqualTo(couponLimit);
+
+        redisCouponService.clearCouponIssueData(sortedSetCouponId);
+        redisCouponService.clearCouponIssueData(counterCouponId);
+    }
+
+    @Test
+    @DisplayName("레거시 Sorted Set 발급 데이터를 카운터 방식으로 이관하면 발급 수와 발급자가 유지되어야 한다")
+    void testLegacyIssueDataMigration() {
+        // Given
+        long couponId = 910_000_000L + System.currentTimeMillis() % 100_000;
+        redisCouponService.clearCouponIssueData(couponId);
+
+        for (long userId = 1; userId <= 3; userId++) {
+            redisCouponService.tryIssueCoupon(CouponIssueStrategy.SORTED_SET, couponId, userId, 5);
+        }
+
+        // When
+        long migratedCount = redisCouponService.migrateLegacyIssueData(couponId);
+        boolean duplicateIssued = redisCouponService.tryIssueCoupon(CouponIssueStrategy.COUNTER_SET, couponId, 1L, 5);
+        boolean newIssued = redisCouponService.tryIssueCoupon(CouponIssueStrategy.COUNTER_SET, couponId, 4L, 5);
+
+        // Then
+        assertThat(migratedCount).isEqualTo(3);
+        assertThat(duplicateIssued).isFalse();
+        assertThat(newIssued).isTrue();
+        assertThat(redisTemplate.hasKey("coupon:issue:" + couponId)).isFalse();
+        assertThat(redisTemplate.opsForValue().get("coupon:issued:" + couponId + ":count")).isEqualTo("4");
+
+        redisCouponService.clearCouponIssueData(couponId);
+    }
+
+    /**
+     * 발급 방식별 동시 발급 시도
+     *
+     * @return 발급 성공 수
+     */
+    private int runIssueAttempts(CouponIssueStrategy strategy, long couponId,
+                                 int attemptCount, int couponLimit) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch completionLatch = new CountDownLatch(attemptCount);
+        AtomicInteger issuedCount = new AtomicInteger(0);
+
+        for (int i = 0; i < attemptCount; i++) {
+            final long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    if (redisCouponService.tryIssueCoupon(strategy, couponId, userId, couponLimit)) {
+                        issuedCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 발급 실패로 집계
+                } finally {
+                    completionLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        completionLatch.await();
+        executorService.shutdown();
+
+        return issuedCount.get();
+    }
+
+    private CouponBulkIssueJob awaitJobFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            CouponBulkIssueJob job = couponBulkIssueJobService.getJob(jobId);
+            if (job.status() != CouponBulkIssueStatus.RUNNING) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        return couponBulkIssueJobService.getJob(jobId);
+    }
+}
@@ -7,10 +7,12 @@ import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrd
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
 import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
 import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.StockDeductionService;
 import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
 import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
 import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
 import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,7 +35,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  * - 여러 사용자가 동시에 같은 상품을 주문할 때 재고 감소
  * - 재고 부족 상황에서 동시 주문 처리
  * - 재고가 정확히 주문 수량만큼만 감소하는지 확인
+ * - DB 재고 차감 방식별(분산락 / 조건부 UPDATE) 정확성 비교 (소요 시간은 로그로만 기록)
  */
+@Slf4j
 @SpringBootTest
 @ActiveProfiles("integration")
 public class StockConcurrencyTest {
@@ -59,6 +63,9 @@ public class StockConcurrencyTest {
     @Autowired
     private RedisStockService redisStockService;
 
+    @Autowired
+    private StockDeductionService stockDeductionService;
+
     private Product testProduct;
     private Category testCategory;
 
@@ -347,4 +354,51 @@ public class StockConcurrencyTest {
         Long remainingStock = redisStockService.getStock(testProduct.getId());
         assertThat(remainingStock).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("DB 재고 차감 - 분산락 방식과 조건부 UPDATE 방식 모두 재고를 초과 차감하지 않는다")
+    void testDbStockDeductionLockVersusConditionalUpdate() throws InterruptedException {
+        // Given
+        int threadCount = 50;
+        int stock = 30;
+
+        Product lockProduct = createProductWithStock("분산락 차감 상품", stock);
+        Product conditionalProduct = createProductWithStock("조건부 UPDATE 차감 상품", stock);
+
+        // When
+        // 재고 부족 또는 락 획득 실패는 실패로 집계
+        ConcurrentTaskRunner.Result lockResult = ConcurrentTaskRunner.run(threadCount,
+                index -> stockDeductionService.deductStockWithDistributedLock(lockProduct.getId(), 1));
+        ConcurrentTaskRunner.Result conditionalResult = ConcurrentTaskRunner.run(threadCount,
+                index -> stockDeductionService.deductStockWithConditionalUpdate(conditionalProduct.getId(), 1));
+
+        log.info("[DB 재고 차감 비교] 분산락: {}ms (성공 {}), 조건부 UPDATE: {}ms (성공 {})",
+                lockResult.elapsedMillis(), lockResult.successCount(),
+                conditionalResult.elapsedMillis(), conditionalResult.successCount());
+
+        // Then
+        assertThat(lockResult.successCount()).isEqualTo(stock);
+        assertThat(conditionalResult.successCount()).isEqualTo(stock);
+
+        Product lockAfter = productRepository.findById(lockProduct.getId()).orElseThrow();
+        Product conditionalAfter = productRepository.findById(conditionalProduct.getId()).orElseThrow();
+
+        assertThat(lockAfter.getStock()).isEqualTo(0);
+        assertThat(lockAfter.getSoldCount()).isEqualTo(stock);
+        assertThat(conditionalAfter.getStock()).isEqualTo(0);
+        assertThat(conditionalAfter.getSoldCount()).isEqualTo(stock);
+    }
+
+    private Product createProductWithStock(String name, int stock) {
+        Product product = Product.createProduct(
+                testCategory,
+                name,
+                "DB 재고 차감 방식 비교용",
+                BigDecimal.valueOf(10000),
+                stock,
+                1,
+                10
+        );
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,172 @@
+package io.hhplus.ECommerce.ECommerce_project.integration.performance;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursor;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 페이징 방식 비교 (OFFSET vs 키셋)
+ *
+ * 시나리오:
+ * - 한 카테고리에 상품 100,020개 적재 (판매량 동률 다수)
+ * - 판매량 높은순으로 1, 100, 5000 페이지(20개씩)를 OFFSET 페이징과 키셋 페이징으로 조회
+ * - 두 방식의 페이지 내용이 같은지 확인하고, 가장 깊은 페이지에서 키셋 지연 시간이 OFFSET의 절반 이하인지 검증
+ *
+ * 상품 10만 건 적재로 오래 걸리므로 기본 test 태스크에서 제외 (./gradlew benchmarkTest로 실행)
+ * 키셋 페이징의 누락/중복 검증은 ProductKeysetPaginationIntegrationTest에서 소량 데이터로 수행
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("integration")
+public class ProductPaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int[] PAGES = {1, 100, 5000};
+    private static final int PRODUCT_COUNT = 5000 * PAGE_SIZE + PAGE_SIZE;
+    private static final long PRODUCT_ID_BASE = 7_000_000_000L;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURE_RUNS = 10;
+    private static final double MAX_DEEP_PAGE_KEYSET_TO_OFFSET_RATIO = 0.5;
+
+    @Autowired
+    private ProductFinderService productFinderService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category testCategory;
+
+    @BeforeEach
+    void setUp() {
+        testCategory = Category.createCategory("페이징벤치마크카테고리", (int) (System.currentTimeMillis() % 10000) + 1);
+        testCategory = categoryRepository.save(testCategory);
+
+        // 상품 대량 적재 (JDBC batch, 판매량은 0~999 반복으로 동률 발생)
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(i));
+            batchArgs.add(new Object[]{
+                    PRODUCT_ID_BASE + i, testCategory.getId(), "벤치마크 상품 " + i,
+                    BigDecimal.valueOf(1000 + i % 500), i % 1000, createdAt, createdAt
+            });
+
+            if (batchArgs.size() == 1000) {
+                insertProducts(batchArgs);
+                batchArgs.clear();
+            }
+        }
+        if (!batchArgs.isEmpty()) {
+            insertProducts(batchArgs);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM products WHERE category_id = ?", testCategory.getId());
+        categoryRepository.deleteById(testCategory.getId());
+    }
+
+    @Test
+    @DisplayName("키셋 페이징은 OFFSET 페이징과 같은 페이지를 반환하고, 깊은 페이지에서도 지연 시간이 늘어나지 않는다")
+    void compareOffsetAndKeysetPagination() {
+        // Given
+        Long categoryId = testCategory.getId();
+        Sort sort = Sort.by(Sort.Direction.DESC, "soldCount").and(Sort.by(Sort.Direction.DESC, "id"));
+
+        log.info("[상품 목록 페이징 비교] 상품 {}개, 페이지 크기 {}, 판매량 높은순", PRODUCT_COUNT, PAGE_SIZE);
+
+        double deepOffsetMillis = 0;
+        double deepKeysetMillis = 0;
+
+        for (int page : PAGES) {
+            // 이전 페이지 마지막 상품으로 커서 생성 (측정 제외)
+            ProductCursor cursor = null;
+            if (page > 1) {
+                List<Product> previousPage = productFinderService
+                        .getProductPage(categoryId, PageRequest.of(page - 2, PAGE_SIZE, sort))
+                        .getContent();
+                cursor = ProductCursor.of(ProductSortType.POPULAR, previousPage.get(previousPage.size() - 1));
+            }
+            ProductCursor pageCursor = cursor;
+            Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE, sort);
+
+            // When
+            Supplier<List<Product>> offsetQuery = () ->
+                    productFinderService.getProductPage(categoryId, pageable).getContent();
+            Supplier<List<Product>> keysetQuery = () ->
+                    productFinderService.getProductsAfter(categoryId, ProductSortType.POPULAR, pageCursor, PAGE_SIZE);
+
+            double offsetMillis = measure(offsetQuery);
+            double keysetMillis = measure(keysetQuery);
+
+            // Then
+            List<Long> offsetIds = offsetQuery.get().stream().map(Product::getId).toList();
+            List<Long> keysetIds = keysetQuery.get().stream().map(Product::getId).toList();
+            assertThat(keysetIds).hasSize(PAGE_SIZE);
+            assertThat(keysetIds).isEqualTo(offsetIds);
+
+            log.info("page {} : OFFSET {}ms, KEYSET {}ms", page,
+                    String.format("%.2f", offsetMillis), String.format("%.2f", keysetMillis));
+            deepOffsetMillis = offsetMillis;
+            deepKeysetMillis = keysetMillis;
+        }
+
+        // 가장 깊은 페이지: OFFSET은 앞의 10만 행을 건너뛰고, 키셋은 인덱스에서 바로 시작
+        assertThat(deepKeysetMillis)
+                .as("page %d 키셋 지연 시간(OFFSET %.2fms 대비)", PAGES[PAGES.length - 1], deepOffsetMillis)
+                .isLessThanOrEqualTo(deepOffsetMillis * MAX_DEEP_PAGE_KEYSET_TO_OFFSET_RATIO);
+    }
+
+    /**
+     * 평균 지연 시간 (워밍업 제외)
+     */
+    private double measure(Supplier<List<Product>> query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            query.get();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_RUNS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / MEASURE_RUNS;
+    }
+
+    private void insertProducts(List<Object[]> batchArgs) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO products (id, category_id, name, price, stock, is_active, view_count, sold_count,
+                                      created_at, updated_at)
+                VALUES (?, ?, ?, ?, 100, true, 0, ?, ?, ?)
+                """, batchArgs);
+    }
+}
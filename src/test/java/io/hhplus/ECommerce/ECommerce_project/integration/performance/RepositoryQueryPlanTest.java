@@ -0,0 +1,597 @@
+package io.hhplus.ECommerce.ECommerce_project.integration.performance;
+
+import io.hhplus.ECommerce.ECommerce_project.cart.infrastructure.CartRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.domain.enums.UserCouponStatus;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.CouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.coupon.infrastructure.UserCouponRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.domain.enums.OrderStatus;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.point.infrastructure.PointRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리 실행 계획 회귀 테스트 (MySQL 전용)
+ *
+ * 시나리오:
+ * - Flyway(V1~V3)로 마이그레이션된 MySQL에 유저/상품/주문/포인트/쿠폰 데이터를 적재 후 ANALYZE TABLE
+ * - *Repository 인터페이스의 모든 @Query 메서드(와 주요 파생 쿼리)를 롤백 트랜잭션 안에서 실행
+ * - 실행된 SQL과 바인딩 파라미터를 DataSource 프록시로 수집해 같은 값으로 EXPLAIN
+ * - 실행 계획에 풀 스캔(type=ALL)이나 filesort가 있으면 실패
+ * - 엔티티가 매핑한 컬럼이 마이그레이션된 스키마에 모두 있는지 확인 (ddl-auto 없이 Flyway 스키마만 사용하므로)
+ *
+ * 인덱스 선택은 DB 엔진과 통계에 따라 달라지므로 H2가 아닌 실제 MySQL에서만 실행한다.
+ * (QUERY_PLAN_DB_URL, QUERY_PLAN_DB_USERNAME, QUERY_PLAN_DB_PASSWORD 환경 변수로 대상 DB 지정)
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+public class RepositoryQueryPlanTest {
+
+    private static final String BASE_PACKAGE = "io.hhplus.ECommerce.ECommerce_project";
+    private static final StatementCapture CAPTURE = new StatementCapture();
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int USER_COUNT = 100;
+    private static final int CATEGORY_COUNT = 10;
+    private static final int PRODUCT_COUNT = 20_000;
+    private static final int ORDER_COUNT = 20_000;
+    private static final int POINT_COUNT = 20_000;
+    private static final int COUPON_COUNT = 200;
+    private static final int USER_COUPON_COUNT = 10_000;
+    private static final int CART_COUNT = 1_000;
+
+    private static final long ID_RANGE = 100_000L;
+    private static final long USER_ID_BASE = 8_000_000_000L;
+    private static final long CATEGORY_ID_BASE = USER_ID_BASE + ID_RANGE;
+    private static final long PRODUCT_ID_BASE = CATEGORY_ID_BASE + ID_RANGE;
+    private static final long ORDER_ID_BASE = PRODUCT_ID_BASE + ID_RANGE;
+    private static final long POINT_ID_BASE = ORDER_ID_BASE + ID_RANGE;
+    private static final long COUPON_ID_BASE = POINT_ID_BASE + ID_RANGE;
+    private static final long USER_COUPON_ID_BASE = COUPON_ID_BASE + ID_RANGE;
+    private static final long CART_ID_BASE = USER_COUPON_ID_BASE + ID_RANGE;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("QUERY_PLAN_DB_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv("QUERY_PLAN_DB_USERNAME"));
+        registry.add("spring.datasource.password", () -> System.getenv("QUERY_PLAN_DB_PASSWORD"));
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCaptureDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? CAPTURE.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        LocalDateTime now = LocalDateTime.now();
+
+        insert("INSERT INTO users (id, password, username) VALUES (?, ?, ?)",
+                USER_COUNT, i -> new Object[]{USER_ID_BASE + i, "password", "plan-user-" + i});
+
+        insert("INSERT INTO categories (id, category_name, display_order) VALUES (?, ?, ?)",
+                CATEGORY_COUNT, i -> new Object[]{CATEGORY_ID_BASE + i, "실행계획카테고리" + i, i});
+
+        // 상품: 10%는 비활성, 5%는 삭제
+        insert("""
+                INSERT INTO products (id, category_id, name, price, stock, is_active, view_count, sold_count,
+                                      created_at, updated_at, deleted_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, PRODUCT_COUNT, i -> {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(i));
+            return new Object[]{
+                    PRODUCT_ID_BASE + i, CATEGORY_ID_BASE + i % CATEGORY_COUNT, "실행계획 상품 " + i,
+                    BigDecimal.valueOf(1000 + i % 500), 100, i % 10 != 0, i % 3000, i % 1000,
+                    createdAt, createdAt, i % 20 == 0 ? createdAt : null
+            };
+        });
+
+        OrderStatus[] orderStatuses = OrderStatus.values();
+        insert("""
+                INSERT INTO orders (id, user_id, total_amount, final_amount, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, ORDER_COUNT, i -> {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(i));
+            return new Object[]{
+                    ORDER_ID_BASE + i, USER_ID_BASE + i % USER_COUNT, BigDecimal.valueOf(10000), BigDecimal.valueOf(10000),
+                    orderStatuses[i % orderStatuses.length].name(), createdAt, createdAt
+            };
+        });
+
+        insert("""
+                INSERT INTO points (id, user_id, amount, point_type, created_at, updated_at, expired_at,
+                                    is_used, is_expired, deleted_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, POINT_COUNT, i -> {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(i));
+            return new Object[]{
+                    POINT_ID_BASE + i, USER_ID_BASE + i % USER_COUNT, BigDecimal.valueOf(1000), "CHARGE",
+                    createdAt, createdAt, i % 2 == 0 ? Timestamp.valueOf(now.plusDays(30)) : null,
+                    i % 3 == 0, i % 5 == 0, i % 7 == 0 ? createdAt : null
+            };
+        });
+
+        // 쿠폰: 25%는 비활성, 발급 기간은 과거/진행 중/미래로 분산
+        insert("""
+                INSERT INTO coupons (id, name, code, discount_type, discount_value, start_date, end_date, is_active)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, COUPON_COUNT, i -> new Object[]{
+                COUPON_ID_BASE + i, "실행계획 쿠폰 " + i, "PLAN-COUPON-" + i, "FIXED", BigDecimal.valueOf(1000),
+                Timestamp.valueOf(now.plusDays(i % 30 - 20)), Timestamp.valueOf(now.plusDays(i % 30 - 10)),
+                i % 4 != 0
+        });
+
+        UserCouponStatus[] userCouponStatuses = UserCouponStatus.values();
+        insert("INSERT INTO user_coupons (id, coupon_id, user_id, status) VALUES (?, ?, ?, ?)",
+                USER_COUPON_COUNT, i -> new Object[]{
+                        USER_COUPON_ID_BASE + i, COUPON_ID_BASE + i / USER_COUNT, USER_ID_BASE + i % USER_COUNT,
+                        userCouponStatuses[i % userCouponStatuses.length].name()
+                });
+
+        insert("INSERT INTO carts (id, user_id, product_id, quantity) VALUES (?, ?, ?, ?)",
+                CART_COUNT, i -> new Object[]{CART_ID_BASE + i, USER_ID_BASE + i % USER_COUNT, PRODUCT_ID_BASE + i, 1});
+
+        // 옵티마이저 통계 갱신
+        jdbcTemplate.execute("ANALYZE TABLE users, categories, products, orders, points, coupons, user_coupons, carts");
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("모든 @Query 메서드는 실행 계획 검증 시나리오를 가진다")
+    void allQueryMethodsHaveScenario() {
+        // Given
+        Set<String> queryMethods = findQueryMethods();
+
+        // When
+        Set<String> covered = scenarios().stream()
+                .map(QueryScenario::method)
+                .collect(Collectors.toSet());
+
+        // Then
+        assertThat(covered)
+                .as("실행 계획 시나리오가 없는 @Query 메서드")
+                .containsAll(queryMethods);
+    }
+
+    @Test
+    @DisplayName("엔티티가 매핑한 컬럼은 마이그레이션된 스키마에 모두 존재한다")
+    void entityColumnsExistInMigratedSchema() {
+        // Given: 엔티티 매핑 컬럼 (테이블.컬럼)
+        Set<String> mappedColumns = new TreeSet<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> persister.forEachSelectable((index, selectable) -> {
+                    if (!selectable.isFormula()) {
+                        mappedColumns.add((selectable.getContainingTableExpression() + "."
+                                + selectable.getSelectionExpression()).toLowerCase(Locale.ROOT));
+                    }
+                }));
+
+        // When: Flyway로 생성된 실제 컬럼
+        Set<String> schemaColumns = new TreeSet<>(jdbcTemplate.queryForList("""
+                SELECT LOWER(CONCAT(table_name, '.', column_name))
+                FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                """, String.class));
+
+        // Then
+        assertThat(schemaColumns)
+                .as("마이그레이션에 없는 엔티티 매핑 컬럼")
+                .containsAll(mappedColumns);
+    }
+
+    @Test
+    @DisplayName("리포지토리 쿼리 실행 계획에 풀 스캔과 filesort가 없다")
+    void repositoryQueriesUseIndexes() {
+        // Given
+        List<QueryScenario> scenarios = scenarios();
+        List<String> violations = new ArrayList<>();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (QueryScenario scenario : scenarios) {
+            // When: 롤백 트랜잭션 안에서 실행하며 SQL 수집 (비관적 락 쿼리 포함)
+            List<CapturedStatement> statements = transactionTemplate.execute(status -> {
+                status.setRollbackOnly();
+                return CAPTURE.record(scenario.invocation());
+            });
+
+            assertThat(statements)
+                    .as("%s 실행 SQL", scenario.name())
+                    .isNotEmpty();
+
+            // Then: 같은 SQL/파라미터로 EXPLAIN
+            for (CapturedStatement statement : statements) {
+                if (!statement.isSelect()) {
+                    continue;
+                }
+
+                List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                        "EXPLAIN " + statement.sql(), statement.parameters().toArray());
+
+                for (Map<String, Object> row : plan) {
+                    String type = Objects.toString(row.get("type"), "");
+                    String extra = Objects.toString(row.get("Extra"), "");
+
+                    if ("ALL".equals(type) || extra.contains("Using filesort")) {
+                        violations.add(String.format("%s%n  table=%s, type=%s, key=%s, Extra=%s%n  SQL: %s",
+                                scenario.name(), row.get("table"), type, row.get("key"), extra, statement.sql()));
+                    }
+                }
+            }
+        }
+
+        assertThat(violations)
+                .as("풀 스캔 또는 filesort 실행 계획%n%s", String.join(System.lineSeparator(), violations))
+                .isEmpty();
+    }
+
+    /**
+     * 쿼리별 실행 시나리오 (선택 필터/정렬/커서 유무별 분기 포함)
+     */
+    private List<QueryScenario> scenarios() {
+        Long userId = USER_ID_BASE;
+        Long categoryId = CATEGORY_ID_BASE;
+        Long productId = PRODUCT_ID_BASE + 1;
+        Long cursorId = PRODUCT_ID_BASE + 5_000;
+        LocalDateTime now = LocalDateTime.now();
+        Pageable firstPage = PageRequest.of(0, 20);
+        Pageable keysetPage = PageRequest.of(0, 21);
+
+        List<QueryScenario> scenarios = new ArrayList<>(List.of(
+                // UserRepository
+                new QueryScenario("UserRepository.findByIdWithLock", "",
+                        () -> userRepository.findByIdWithLock(userId)),
+                new QueryScenario("UserRepository.findIdsAfter", "",
+                        () -> userRepository.findIdsAfter(USER_ID_BASE, PageRequest.of(0, 50))),
+
+                // OrderRepository
+                new QueryScenario("OrderRepository.findByUserIdWithPaging", "상태 필터 없음",
+                        () -> orderRepository.findByUserIdWithPaging(userId, null, firstPage)),
+                new QueryScenario("OrderRepository.findByUserIdWithPaging", "상태 필터",
+                        () -> orderRepository.findByUserIdWithPaging(userId, OrderStatus.PAID, firstPage)),
+                new QueryScenario("OrderRepository.countByUserId", "상태 필터 없음",
+                        () -> orderRepository.countByUserId(userId, null)),
+                new QueryScenario("OrderRepository.countByUserId", "상태 필터",
+                        () -> orderRepository.countByUserId(userId, OrderStatus.PAID)),
+                new QueryScenario("OrderRepository.findByIdWithLock", "",
+                        () -> orderRepository.findByIdWithLock(ORDER_ID_BASE)),
+                new QueryScenario("OrderRepository.findByStatusAndCreatedAtBefore", "",
+                        () -> orderRepository.findByStatusAndCreatedAtBefore(OrderStatus.PENDING, now.minusDays(10))),
+
+                // PointRepository
+                new QueryScenario("PointRepository.findAvailablePointsByUserId", "",
+                        () -> pointRepository.findAvailablePointsByUserId(userId)),
+                new QueryScenario("PointRepository.findByUserIdWithPaging", "",
+                        () -> pointRepository.findByUserIdWithPaging(userId, firstPage)),
+                new QueryScenario("PointRepository.countByUserIdAndDeletedAtIsNull", "",
+                        () -> pointRepository.countByUserIdAndDeletedAtIsNull(userId)),
+                new QueryScenario("PointRepository.findByIdWithLock", "",
+                        () -> pointRepository.findByIdWithLock(POINT_ID_BASE + 1)),
+
+                // CartRepository
+                new QueryScenario("CartRepository.findAllByUserIdWithProduct", "",
+                        () -> cartRepository.findAllByUserIdWithProduct(userId)),
+
+                // CouponRepository
+                new QueryScenario("CouponRepository.findAllAvailableCoupons", "",
+                        () -> couponRepository.findAllAvailableCoupons()),
+                new QueryScenario("CouponRepository.findByIdWithLock", "",
+                        () -> couponRepository.findByIdWithLock(COUPON_ID_BASE)),
+
+                // UserCouponRepository
+                new QueryScenario("UserCouponRepository.findByUser_IdAndCoupon_IdWithLock", "",
+                        () -> userCouponRepository.findByUser_IdAndCoupon_IdWithLock(userId, COUPON_ID_BASE)),
+                new QueryScenario("UserCouponRepository.findByUser_IdAndStatus", "",
+                        () -> userCouponRepository.findByUser_IdAndStatus(userId, UserCouponStatus.AVAILABLE)),
+
+                // ProductRepository
+                new QueryScenario("ProductRepository.findByIdActive", "",
+                        () -> productRepository.findByIdActive(productId)),
+                new QueryScenario("ProductRepository.findByIdWithLock", "",
+                        () -> productRepository.findByIdWithLock(productId)),
+                new QueryScenario("ProductRepository.countActiveProducts", "카테고리",
+                        () -> productRepository.countActiveProducts(categoryId)),
+                new QueryScenario("ProductRepository.countActiveProducts", "전체",
+                        () -> productRepository.countActiveProducts(null)),
+                new QueryScenario("ProductRepository.findTop20Products", "",
+                        () -> productRepository.findTop20Products(firstPage)),
+                new QueryScenario("ProductRepository.findStockSnapshotsAfter", "",
+                        () -> productRepository.findStockSnapshotsAfter(PRODUCT_ID_BASE, PageRequest.of(0, 1000))),
+                new QueryScenario("ProductRepository.findCategoryIds", "",
+                        () -> productRepository.findCategoryIds(List.of(productId, productId + 1, productId + 2)))
+        ));
+
+        // 상품 목록 (OFFSET 페이징): 정렬 기준 x 카테고리 필터 유무
+        List<Sort> productSorts = List.of(
+                Sort.by(Sort.Direction.DESC, "createdAt"),
+                Sort.by(Sort.Direction.DESC, "soldCount"),
+                Sort.by(Sort.Direction.DESC, "viewCount"),
+                Sort.by(Sort.Direction.ASC, "price"),
+                Sort.by(Sort.Direction.DESC, "price"));
+        for (Sort sort : productSorts) {
+            Pageable pageable = PageRequest.of(0, 20, sort);
+            scenarios.add(new QueryScenario("ProductRepository.findProducts", "카테고리 " + sort,
+                    () -> productRepository.findProducts(categoryId, pageable)));
+            scenarios.add(new QueryScenario("ProductRepository.findProducts", "전체 " + sort,
+                    () -> productRepository.findProducts(null, pageable)));
+        }
+
+        // 상품 목록 (키셋 페이징): 카테고리 필터 유무 x 첫 페이지/커서 이후
+        for (Long category : new Long[]{categoryId, null}) {
+            String filter = category != null ? "카테고리" : "전체";
+
+            scenarios.add(new QueryScenario("ProductRepository.findLatestAfter", filter + " 첫 페이지",
+                    () -> productRepository.findLatestAfter(category, null, null, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findLatestAfter", filter + " 커서",
+                    () -> productRepository.findLatestAfter(category, now.minusHours(1), cursorId, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findPopularAfter", filter + " 첫 페이지",
+                    () -> productRepository.findPopularAfter(category, null, null, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findPopularAfter", filter + " 커서",
+                    () -> productRepository.findPopularAfter(category, 500, cursorId, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findViewedAfter", filter + " 첫 페이지",
+                    () -> productRepository.findViewedAfter(category, null, null, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findViewedAfter", filter + " 커서",
+                    () -> productRepository.findViewedAfter(category, 1500, cursorId, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findPriceLowAfter", filter + " 첫 페이지",
+                    () -> productRepository.findPriceLowAfter(category, null, null, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findPriceLowAfter", filter + " 커서",
+                    () -> productRepository.findPriceLowAfter(category, BigDecimal.valueOf(1200), cursorId, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findPriceHighAfter", filter + " 첫 페이지",
+                    () -> productRepository.findPriceHighAfter(category, null, null, keysetPage)));
+            scenarios.add(new QueryScenario("ProductRepository.findPriceHighAfter", filter + " 커서",
+                    () -> productRepository.findPriceHighAfter(category, BigDecimal.valueOf(1200), cursorId, keysetPage)));
+        }
+
+        return scenarios;
+    }
+
+    /**
+     * *Repository 인터페이스에 선언된 @Query 메서드 목록 ("리포지토리.메서드")
+     */
+    private Set<String> findQueryMethods() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        Set<String> queryMethods = new TreeSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            Class<?> repository;
+            try {
+                repository = Class.forName(candidate.getBeanClassName());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+
+            if (!repository.getSimpleName().endsWith("Repository")) {
+                continue;
+            }
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Query.class)) {
+                    queryMethods.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return queryMethods;
+    }
+
+    private void insert(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batchArgs.add(row.apply(i));
+
+            if (batchArgs.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batchArgs);
+                batchArgs.clear();
+            }
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+        }
+    }
+
+    private void cleanUp() {
+        // FK 역순으로 삭제
+        deleteRange("carts", CART_ID_BASE);
+        deleteRange("user_coupons", USER_COUPON_ID_BASE);
+        deleteRange("points", POINT_ID_BASE);
+        deleteRange("orders", ORDER_ID_BASE);
+        deleteRange("coupons", COUPON_ID_BASE);
+        deleteRange("products", PRODUCT_ID_BASE);
+        deleteRange("categories", CATEGORY_ID_BASE);
+        deleteRange("users", USER_ID_BASE);
+    }
+
+    private void deleteRange(String table, long idBase) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE id >= ? AND id < ?", idBase, idBase + ID_RANGE);
+    }
+
+    private record QueryScenario(String method, String variant, Runnable invocation) {
+
+        String name() {
+            return variant.isEmpty() ? method : method + " [" + variant + "]";
+        }
+    }
+
+    private record CapturedStatement(String sql, List<Object> parameters) {
+
+        boolean isSelect() {
+            return sql.strip().toLowerCase(Locale.ROOT).startsWith("select");
+        }
+    }
+
+    /**
+     * 실행된 SQL과 바인딩 파라미터 수집기
+     * - DataSource를 감싸 PreparedStatement의 set* 호출을 기록하고, execute* 시점에 (SQL, 파라미터) 저장
+     */
+    private static final class StatementCapture {
+
+        private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        List<CapturedStatement> record(Runnable invocation) {
+            statements.clear();
+            recording = true;
+            try {
+                invocation.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return proxyConnection(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return proxyConnection(super.getConnection(username, password));
+                }
+            };
+        }
+
+        private Connection proxyConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return proxyStatement(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement proxyStatement(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            parameters.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            parameters.clear();
+                        } else if (recording && name.startsWith("execute")) {
+                            statements.add(new CapturedStatement(sql, new ArrayList<>(parameters.values())));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
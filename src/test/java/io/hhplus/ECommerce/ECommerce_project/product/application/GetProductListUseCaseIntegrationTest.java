@@ -0,0 +1,176 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.application.command.CreateProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductPageResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductCacheInvalidator;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductListCacheGeneration;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 조회 캐시 통합 테스트
+ *
+ * 시나리오:
+ * - 상품 등록 후 카테고리 필터 없는 목록/해당 카테고리 목록 캐시가 갱신됨
+ * - 카테고리 세대 증가는 해당 카테고리와 필터 없는 목록의 캐시 키만 바꿈
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class GetProductListUseCaseIntegrationTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private GetProductListUseCase getProductListUseCase;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private ProductListCacheGeneration productListCacheGeneration;
+
+    @Autowired
+    private ProductCacheInvalidator productCacheInvalidator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RedisStockService redisStockService;
+
+    private Category testCategory;
+    private Category otherCategory;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 실행에서 Redis에 남은 목록 캐시를 조회하지 않도록 전체 세대 증가
+        productCacheInvalidator.evictAllProductListCache();
+
+        int displayOrder = (int) (System.currentTimeMillis() % 10000) + 1;
+        testCategory = categoryRepository.save(Category.createCategory("목록캐시카테고리", displayOrder));
+        otherCategory = categoryRepository.save(Category.createCategory("목록캐시다른카테고리", displayOrder + 1));
+
+        productRepository.save(Product.createProduct(
+                testCategory, "기존 상품", "목록 캐시 테스트용", BigDecimal.valueOf(10000), 10, 1, 10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.findAll().forEach(product -> redisStockService.deleteStock(product.getId()));
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("상품 등록 후 카테고리 필터 없는 목록에 새 상품이 반영된다")
+    void createProduct_refreshesUnfilteredList() {
+        // Given - 필터 없는 목록 캐싱
+        ProductPageResult before = getProductListUseCase.execute(null, ProductSortType.LATEST, 0, PAGE_SIZE);
+
+        // When
+        Product created = createProduct(testCategory, "새 상품");
+        ProductPageResult after = getProductListUseCase.execute(null, ProductSortType.LATEST, 0, PAGE_SIZE);
+
+        // Then
+        assertThat(before.getProducts()).extracting(Product::getId).doesNotContain(created.getId());
+        assertThat(after.getProducts()).extracting(Product::getId).contains(created.getId());
+        assertThat(after.getTotalElements()).isEqualTo(before.getTotalElements() + 1);
+    }
+
+    @Test
+    @DisplayName("상품 등록 후 해당 카테고리 목록에 새 상품이 반영된다")
+    void createProduct_refreshesCategoryList() {
+        // Given - 카테고리 목록 캐싱
+        Long categoryId = testCategory.getId();
+        ProductPageResult before = getProductListUseCase.execute(categoryId, ProductSortType.LATEST, 0, PAGE_SIZE);
+
+        // When
+        Product created = createProduct(testCategory, "새 카테고리 상품");
+        ProductPageResult after = getProductListUseCase.execute(categoryId, ProductSortType.LATEST, 0, PAGE_SIZE);
+
+        // Then
+        assertThat(before.getTotalElements()).isEqualTo(1);
+        assertThat(after.getTotalElements()).isEqualTo(2);
+        assertThat(after.getProducts()).extracting(Product::getId).contains(created.getId());
+    }
+
+    @Test
+    @DisplayName("캐시된 목록은 세대가 바뀌기 전까지 캐시에서 응답한다")
+    void cachedListIsServedUntilGenerationAdvances() {
+        // Given - 캐싱 후 캐시 무효화 없이 DB에 직접 상품 추가
+        Long categoryId = testCategory.getId();
+        getProductListUseCase.execute(categoryId, ProductSortType.LATEST, 0, PAGE_SIZE);
+        productRepository.save(Product.createProduct(
+                testCategory, "DB 직접 추가 상품", "목록 캐시 테스트용", BigDecimal.valueOf(10000), 10, 1, 10));
+
+        // When
+        ProductPageResult cached = getProductListUseCase.execute(categoryId, ProductSortType.LATEST, 0, PAGE_SIZE);
+        productCacheInvalidator.evictProductListCache(categoryId);
+        ProductPageResult refreshed = getProductListUseCase.execute(categoryId, ProductSortType.LATEST, 0, PAGE_SIZE);
+
+        // Then
+        assertThat(cached.getTotalElements()).isEqualTo(1);
+        assertThat(refreshed.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카테고리 세대 증가는 해당 카테고리와 필터 없는 목록의 캐시 키만 바꾼다")
+    void advance_changesOnlyAffectedKeys() {
+        // Given
+        String categoryKey = cacheKey(testCategory.getId());
+        String unfilteredKey = cacheKey(null);
+        String otherCategoryKey = cacheKey(otherCategory.getId());
+
+        // When
+        productListCacheGeneration.advance(testCategory.getId());
+
+        // Then
+        assertThat(cacheKey(testCategory.getId())).isNotEqualTo(categoryKey);
+        assertThat(cacheKey(null)).isNotEqualTo(unfilteredKey);
+        assertThat(cacheKey(otherCategory.getId())).isEqualTo(otherCategoryKey);
+    }
+
+    @Test
+    @DisplayName("전체 세대 증가는 모든 목록의 캐시 키를 바꾼다")
+    void advanceAll_changesAllKeys() {
+        // Given
+        String categoryKey = cacheKey(testCategory.getId());
+        String unfilteredKey = cacheKey(null);
+        String otherCategoryKey = cacheKey(otherCategory.getId());
+
+        // When
+        productListCacheGeneration.advanceAll();
+
+        // Then
+        assertThat(cacheKey(testCategory.getId())).isNotEqualTo(categoryKey);
+        assertThat(cacheKey(null)).isNotEqualTo(unfilteredKey);
+        assertThat(cacheKey(otherCategory.getId())).isNotEqualTo(otherCategoryKey);
+    }
+
+    private Product createProduct(Category category, String name) {
+        return createProductUseCase.execute(new CreateProductCommand(
+                category.getId(), name, "목록 캐시 테스트용", BigDecimal.valueOf(20000), 10, 1, 10));
+    }
+
+    private String cacheKey(Long categoryId) {
+        return productListCacheGeneration.cacheKey(categoryId, ProductSortType.LATEST, 0, PAGE_SIZE);
+    }
+}
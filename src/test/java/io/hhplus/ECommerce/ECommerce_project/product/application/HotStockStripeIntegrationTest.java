@@ -0,0 +1,92 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.common.exception.ProductException;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.HotStockStatus;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.SoldOutRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 핫 상품 재고 스트라이프 차감 통합 테스트
+ *
+ * 시나리오:
+ * - 어느 스트라이프보다 큰 수량도 스트라이프 합계가 충분하면 차감
+ * - 합계가 부족할 때만 재고 부족 처리하고 아무것도 차감하지 않음
+ * - 일괄 차감도 스트라이프 합계 기준으로 판단
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class HotStockStripeIntegrationTest {
+
+    // Redis 재고만 사용하므로 DB 상품과 겹치지 않는 ID 사용
+    private static final Long PRODUCT_ID = 9_100_000_001L;
+
+    @Autowired
+    private RedisStockService redisStockService;
+
+    @Autowired
+    private SoldOutRegistry soldOutRegistry;
+
+    @BeforeEach
+    void setUp() {
+        // 재고 9개를 스트라이프 3개에 3개씩 분배
+        redisStockService.setStock(PRODUCT_ID, 9);
+        redisStockService.promoteHotProduct(PRODUCT_ID, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisStockService.deleteStock(PRODUCT_ID);
+        soldOutRegistry.clear(List.of(PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("어느 스트라이프보다 큰 수량도 스트라이프 합계가 충분하면 여러 스트라이프에 나눠 차감한다")
+    void decreaseStock_spansStripesWhenNoSingleStripeSuffices() {
+        // Given
+        assertThat(redisStockService.getHotStockStatus(PRODUCT_ID).stripeStocks()).containsExactly(3L, 3L, 3L);
+
+        // When
+        Long remaining = redisStockService.decreaseStock(PRODUCT_ID, 5);
+
+        // Then
+        HotStockStatus status = redisStockService.getHotStockStatus(PRODUCT_ID);
+        assertThat(remaining).isEqualTo(4L);
+        assertThat(redisStockService.getStock(PRODUCT_ID)).isEqualTo(4L);
+        assertThat(status.stripeStocks()).allMatch(stock -> stock >= 0);
+        assertThat(soldOutRegistry.isSoldOut(PRODUCT_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스트라이프 합계가 부족하면 재고 부족으로 처리하고 아무것도 차감하지 않는다")
+    void decreaseStock_failsOnlyWhenTotalIsShort() {
+        // When & Then
+        assertThrows(ProductException.class, () -> redisStockService.decreaseStock(PRODUCT_ID, 10));
+
+        assertThat(redisStockService.getHotStockStatus(PRODUCT_ID).stripeStocks()).containsExactly(3L, 3L, 3L);
+        assertThat(soldOutRegistry.isSoldOut(PRODUCT_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 차감도 스트라이프 합계 기준으로 판단해 남은 재고를 모두 차감할 수 있다")
+    void decreaseStocks_usesStripeTotal() {
+        // When
+        List<Long> shortageProductIds = redisStockService.decreaseStocks(Map.of(PRODUCT_ID, 9));
+
+        // Then
+        assertThat(shortageProductIds).isEmpty();
+        assertThat(redisStockService.getStock(PRODUCT_ID)).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,128 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.ProductCursor;
+import io.hhplus.ECommerce.ECommerce_project.product.application.enums.ProductSortType;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.ProductFinderService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 키셋 페이징 통합 테스트
+ *
+ * 시나리오:
+ * - 정렬 값 동률이 많은 상품 95개를 정렬 타입별로 키셋 페이징(20개씩)하여 끝까지 조회
+ * - 누락/중복 없이 OFFSET 페이징과 같은 순서로 모든 상품을 반환하는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class ProductKeysetPaginationIntegrationTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PRODUCT_COUNT = 95;
+    private static final long PRODUCT_ID_BASE = 8_000_000_000L;
+
+    @Autowired
+    private ProductFinderService productFinderService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category testCategory;
+
+    @BeforeEach
+    void setUp() {
+        testCategory = Category.createCategory("키셋페이징카테고리", (int) (System.currentTimeMillis() % 10000) + 1);
+        testCategory = categoryRepository.save(testCategory);
+
+        // 판매량/조회수/가격/등록시각 모두 동률이 생기도록 적재 (동률 구간이 페이지 경계에 걸침)
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(i / 7));
+            batchArgs.add(new Object[]{
+                    PRODUCT_ID_BASE + i, testCategory.getId(), "키셋 상품 " + i,
+                    BigDecimal.valueOf(1000 + (i % 5) * 100), i % 4, i % 3, createdAt, createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO products (id, category_id, name, price, stock, is_active, view_count, sold_count,
+                                      created_at, updated_at)
+                VALUES (?, ?, ?, ?, 100, true, ?, ?, ?, ?)
+                """, batchArgs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM products WHERE category_id = ?", testCategory.getId());
+        categoryRepository.deleteById(testCategory.getId());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ProductSortType.class)
+    @DisplayName("키셋 페이징으로 끝까지 조회하면 누락/중복 없이 OFFSET 페이징과 같은 순서로 모든 상품을 반환한다")
+    void keysetPagination_returnsAllProductsWithoutGapsOrDuplicates(ProductSortType sortType) {
+        // Given
+        Long categoryId = testCategory.getId();
+
+        // When
+        List<Long> keysetIds = new ArrayList<>();
+        ProductCursor cursor = null;
+        while (true) {
+            List<Product> page = productFinderService.getProductsAfter(categoryId, sortType, cursor, PAGE_SIZE);
+            page.forEach(product -> keysetIds.add(product.getId()));
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            // 커서는 클라이언트 왕복(인코딩/해석)을 거친 값으로 사용
+            cursor = ProductCursor.decode(ProductCursor.of(sortType, page.get(page.size() - 1)).encode(), sortType);
+        }
+
+        // Then
+        List<Long> offsetIds = productFinderService
+                .getProductPage(categoryId, PageRequest.of(0, PRODUCT_COUNT, sortOf(sortType)))
+                .getContent().stream()
+                .map(Product::getId)
+                .toList();
+
+        assertThat(keysetIds).doesNotHaveDuplicates();
+        assertThat(keysetIds).hasSize(PRODUCT_COUNT);
+        assertThat(keysetIds).isEqualTo(offsetIds);
+    }
+
+    /**
+     * 키셋 쿼리와 같은 정렬 (정렬 값 + id)
+     */
+    private Sort sortOf(ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> Sort.by(Sort.Direction.DESC, "createdAt", "id");
+            case POPULAR -> Sort.by(Sort.Direction.DESC, "soldCount", "id");
+            case VIEWED -> Sort.by(Sort.Direction.DESC, "viewCount", "id");
+            case PRICE_LOW -> Sort.by(Sort.Direction.ASC, "price", "id");
+            case PRICE_HIGH -> Sort.by(Sort.Direction.DESC, "price", "id");
+        };
+    }
+}
@@ -0,0 +1,206 @@
+package io.hhplus.ECommerce.ECommerce_project.product.application;
+
+import io.hhplus.ECommerce.ECommerce_project.category.domain.entity.Category;
+import io.hhplus.ECommerce.ECommerce_project.category.infrastructure.CategoryRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.application.CreateOrderFromProductUseCase;
+import io.hhplus.ECommerce.ECommerce_project.order.application.command.CreateOrderFromProductCommand;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderItemRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.infrastructure.OrderRepository;
+import io.hhplus.ECommerce.ECommerce_project.order.presentation.response.CreateOrderResponse;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.CreatePaymentUseCase;
+import io.hhplus.ECommerce.ECommerce_project.payment.application.command.CreatePaymentCommand;
+import io.hhplus.ECommerce.ECommerce_project.payment.domain.enums.PaymentMethod;
+import io.hhplus.ECommerce.ECommerce_project.payment.infrastructure.PaymentRepository;
+import io.hhplus.ECommerce.ECommerce_project.product.application.dto.RankingRebuildResult;
+import io.hhplus.ECommerce.ECommerce_project.product.application.service.RedisStockService;
+import io.hhplus.ECommerce.ECommerce_project.product.domain.entity.Product;
+import io.hhplus.ECommerce.ECommerce_project.product.infrastructure.ProductRepository;
+import io.hhplus.ECommerce.ECommerce_project.user.domain.entity.User;
+import io.hhplus.ECommerce.ECommerce_project.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.WeekFields;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 이력 기반 랭킹 재구성 통합 테스트
+ *
+ * 시나리오:
+ * - 결제 완료된 주문의 판매량으로 유실된 일별/주간/카테고리 랭킹을 복원
+ * - 결제하지 않은 주문은 집계하지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+class RebuildRankingUseCaseIntegrationTest {
+
+    private static final double SOLD_COUNT_WEIGHT = 10000.0;
+
+    @Autowired
+    private RebuildRankingUseCase rebuildRankingUseCase;
+
+    @Autowired
+    private CreateOrderFromProductUseCase createOrderFromProductUseCase;
+
+    @Autowired
+    private CreatePaymentUseCase createPaymentUseCase;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisStockService redisStockService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private User testUser;
+    private Category testCategory;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("ranking_rebuild_user");
+        testUser.setPassword("password");
+        testUser.setPointBalance(BigDecimal.ZERO);
+        testUser = userRepository.save(testUser);
+
+        testCategory = Category.createCategory("랭킹재구성카테고리", (int) (System.currentTimeMillis() % 10000) + 1);
+        testCategory = categoryRepository.save(testCategory);
+
+        testProduct = Product.createProduct(
+                testCategory,
+                "랭킹 재구성 상품",
+                "랭킹 재구성 테스트용",
+                BigDecimal.valueOf(10000),
+                100,
+                1,
+                10
+        );
+        testProduct = productRepository.save(testProduct);
+
+        redisStockService.setStock(testProduct.getId(), testProduct.getStock());
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisStockService.deleteStock(testProduct.getId());
+        redisTemplate.delete(rankingKeys());
+
+        paymentRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("결제 완료된 주문의 판매량으로 유실된 랭킹을 복원한다")
+    void rebuild_restoresScoresFromPaidOrders() throws InterruptedException {
+        // Given - 주문 결제 후 랭킹 반영(비동기) 대기, 이후 랭킹 유실
+        Long orderId = createOrder(3);
+        createPaymentUseCase.execute(CreatePaymentCommand.of(orderId, PaymentMethod.CARD));
+        awaitDailyScore();
+
+        redisTemplate.delete(rankingKeys());
+
+        // When
+        RankingRebuildResult result = rebuildRankingUseCase.execute();
+
+        // Then
+        assertThat(result.soldQuantity()).isGreaterThanOrEqualTo(3);
+
+        String member = testProduct.getId().toString();
+        for (String rankingKey : rankingKeys()) {
+            assertThat(redisTemplate.opsForZSet().score(rankingKey, member))
+                    .as(rankingKey)
+                    .isEqualTo(3 * SOLD_COUNT_WEIGHT);
+        }
+    }
+
+    @Test
+    @DisplayName("결제하지 않은 주문은 랭킹 재구성에 집계하지 않는다")
+    void rebuild_ignoresUnpaidOrders() {
+        // Given - 결제 전 주문
+        createOrder(2);
+        redisTemplate.delete(rankingKeys());
+
+        // When
+        rebuildRankingUseCase.execute();
+
+        // Then
+        String member = testProduct.getId().toString();
+        for (String rankingKey : rankingKeys()) {
+            assertThat(redisTemplate.opsForZSet().score(rankingKey, member)).isNull();
+        }
+    }
+
+    private Long createOrder(int quantity) {
+        CreateOrderResponse orderResponse = createOrderFromProductUseCase.execute(new CreateOrderFromProductCommand(
+                testUser.getId(),
+                testProduct.getId(),
+                quantity,
+                null,
+                null
+        ));
+        return orderResponse.orderId();
+    }
+
+    /**
+     * 결제 완료 이벤트 리스너(@Async)가 오늘 랭킹에 반영할 때까지 대기
+     */
+    private void awaitDailyScore() throws InterruptedException {
+        String dailyKey = rankingKeys().get(0);
+        for (int i = 0; i < 50; i++) {
+            if (redisTemplate.opsForZSet().score(dailyKey, testProduct.getId().toString()) != null) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    /**
+     * 오늘 기준 전체/카테고리 일별·주간 랭킹 키 (RedisRankingService 키 형식)
+     */
+    private List<String> rankingKeys() {
+        LocalDate today = LocalDate.now();
+        String day = today.format(DateTimeFormatter.BASIC_ISO_DATE);
+        String week = today.getYear() + "-W" + today.get(WeekFields.ISO.weekOfYear());
+        Long categoryId = testCategory.getId();
+
+        return List.of(
+                "ranking:daily:" + day,
+                "ranking:weekly:" + week,
+                "ranking:category:" + categoryId + ":daily:" + day,
+                "ranking:category:" + categoryId + ":weekly:" + week
+        );
+    }
+}